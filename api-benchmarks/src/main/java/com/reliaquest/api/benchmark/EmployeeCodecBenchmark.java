@@ -0,0 +1,71 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.codec.EmployeeJsonModule;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.dto.EmployeesResponseWrapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The hand-written {@link EmployeeJsonModule} codecs against Jackson's reflective bean mapping, on the two hot paths:
+ * encoding the roster the api answers with, and decoding a roster envelope from the upstream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCodecBenchmark {
+
+    @Param({"reflective", "hand-written"})
+    private String codec;
+
+    @Param({"1000"})
+    private int size;
+
+    private List<EmployeeResponseDto> employees;
+    private byte[] envelope;
+    private ObjectWriter rosterWriter;
+    private ObjectReader envelopeReader;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("hand-written".equals(codec)) {
+            builder.modules(new EmployeeJsonModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+        employees = SyntheticRoster.generate(size);
+        envelope = objectMapper.writeValueAsBytes(
+                new EmployeesResponseWrapper(employees, "Successfully processed request."));
+        rosterWriter = objectMapper.writerFor(new TypeReference<List<EmployeeResponseDto>>() {});
+        envelopeReader = objectMapper.readerFor(EmployeesResponseWrapper.class);
+    }
+
+    @Benchmark
+    public byte[] encodeRoster() throws Exception {
+        return rosterWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public EmployeesResponseWrapper decodeEnvelope() throws Exception {
+        return envelopeReader.readValue(envelope);
+    }
+}
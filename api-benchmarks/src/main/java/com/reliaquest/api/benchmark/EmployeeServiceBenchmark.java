@@ -0,0 +1,178 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.connector.VersionedRoster;
+import com.reliaquest.api.dto.BulkItemResult;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.index.NameIndex;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * End-to-end read paths of {@link EmployeeServiceImpl} over a warm roster cache, with the upstream replaced by an
+ * in-memory connector so only the service, cache and indexes are measured.
+ *
+ * <p>Run with {@code -prof gc} (the default of the {@code jmh} task) to get the allocation rate next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int size;
+
+    private EmployeeServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        EmployeeConnector connector = new InMemoryConnector(SyntheticRoster.generate(size));
+        RosterCacheProperties properties = new RosterCacheProperties();
+        properties.setTtl(Duration.ofDays(1));
+        properties.setRefreshInterval(Duration.ZERO);
+        NameIndex nameIndex = new NameIndex();
+        EmployeeRosterCache rosterCache = new EmployeeRosterCache(connector, properties, List.of(nameIndex));
+        service = new EmployeeServiceImpl(
+                connector,
+                rosterCache,
+                nameIndex,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        rosterCache.getSnapshot().block();
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> searchByName(Query query) {
+        return service.getEmployeesByNameSearch(query.fragment).collectList().block();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return service.getHighestSalaryOfEmployees().block();
+    }
+
+    @Benchmark
+    public List<String> topTenEarners() {
+        return service.getTop10HighestEarningEmployeeNames().collectList().block();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Query {
+
+        /**
+         * A common first name and a fragment that matches nothing.
+         */
+        @Param({"john", "qqq"})
+        private String fragment;
+    }
+
+    /**
+     * Keeps the roster in memory and applies writes to it the way the mock API does, so the service can be driven
+     * without an upstream. It reports no change feed position, so the cache only learns of writes through the service.
+     */
+    private static final class InMemoryConnector implements EmployeeConnector {
+
+        private final List<EmployeeResponseDto> roster;
+
+        InMemoryConnector(List<EmployeeResponseDto> roster) {
+            this.roster = new CopyOnWriteArrayList<>(roster);
+        }
+
+        @Override
+        public Flux<EmployeeResponseDto> getAllEmployees() {
+            return Flux.fromIterable(roster);
+        }
+
+        @Override
+        public Mono<VersionedRoster> getVersionedRoster() {
+            return Mono.fromSupplier(() -> new VersionedRoster(null, -1, List.copyOf(roster)));
+        }
+
+        @Override
+        public Flux<EmployeeChangeEvent> streamChanges(String epoch, Long version) {
+            return Flux.never();
+        }
+
+        @Override
+        public Mono<EmployeeResponseDto> getEmployeeById(String id) {
+            return Mono.justOrEmpty(find(id));
+        }
+
+        @Override
+        public Mono<EmployeeResponseDto> createEmployee(EmployeeDto employeeDto) {
+            return Mono.fromSupplier(() -> create(employeeDto));
+        }
+
+        @Override
+        public Mono<Void> deleteEmployeeById(String id) {
+            return Mono.fromRunnable(() -> {
+                EmployeeResponseDto employee = find(id);
+                if (employee == null || !roster.remove(employee)) {
+                    throw new EmployeeNotFoundException(id);
+                }
+            });
+        }
+
+        @Override
+        public Flux<BulkItemResult> createEmployees(List<EmployeeDto> employees) {
+            return Flux.fromIterable(employees).map(employee -> BulkItemResult.succeeded(create(employee)));
+        }
+
+        @Override
+        public Flux<BulkItemResult> deleteEmployeesById(List<String> ids) {
+            return Flux.fromIterable(ids).map(id -> {
+                EmployeeResponseDto employee = find(id);
+                return employee != null && roster.remove(employee)
+                        ? BulkItemResult.succeeded(employee)
+                        : BulkItemResult.failed("Employee not found");
+            });
+        }
+
+        private EmployeeResponseDto create(EmployeeDto employeeDto) {
+            String name = employeeDto.getName();
+            EmployeeResponseDto employee = new EmployeeResponseDto(
+                    UUID.randomUUID().toString(),
+                    name,
+                    employeeDto.getSalary(),
+                    employeeDto.getAge(),
+                    employeeDto.getTitle(),
+                    name.toLowerCase().replace(' ', '.') + "@company.com");
+            roster.add(employee);
+            return employee;
+        }
+
+        private EmployeeResponseDto find(String id) {
+            for (EmployeeResponseDto employee : roster) {
+                if (employee.getId().equals(id)) {
+                    return employee;
+                }
+            }
+            return null;
+        }
+    }
+}
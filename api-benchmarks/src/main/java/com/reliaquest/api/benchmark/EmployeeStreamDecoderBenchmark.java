@@ -0,0 +1,64 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeStreamDecoder;
+import com.reliaquest.api.dto.EmployeesResponseWrapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decoding a whole roster response with {@link EmployeeStreamDecoder}, fed in 8 KiB network-sized chunks as the
+ * connector receives it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeStreamDecoderBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"1000"})
+    private int size;
+
+    private EmployeeStreamDecoder decoder;
+    private List<byte[]> chunks;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        decoder = new EmployeeStreamDecoder(objectMapper);
+        byte[] body = objectMapper.writeValueAsBytes(
+                new EmployeesResponseWrapper(SyntheticRoster.generate(size), "Successfully processed request."));
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, body.length - offset)];
+            System.arraycopy(body, offset, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public long decodeRoster() {
+        Flux<DataBuffer> body = Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+        return decoder.decode(body, status -> {}).count().block();
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.index.NameIndex;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+/**
+ * Trigram {@link NameIndex} lookup against the lowercase-and-contains filter it replaced in
+ * {@code EmployeeServiceImpl.getEmployeesByNameSearch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * A common first name, a rarer surname-plus-suffix fragment, and a fragment that matches nothing.
+     */
+    @Param({"john", "lez ab", "qqq"})
+    private String fragment;
+
+    private List<EmployeeResponseDto> employees;
+    private NameIndex nameIndex;
+
+    @Setup
+    public void setUp() {
+        employees = SyntheticRoster.generate(size);
+        nameIndex = new NameIndex();
+        nameIndex.onRosterReplaced(RosterSnapshot.of(0, Instant.now(), employees));
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> linearFilter() {
+        return Flux.fromIterable(employees)
+                .filter(employee -> employee.getName().toLowerCase().contains(fragment.toLowerCase()))
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<String> trigramIndex() {
+        return nameIndex.search(fragment);
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.RosterColumns;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Heap retained by a roster held as employee objects, the way the cache and salary index kept it, against the same
+ * roster in {@link RosterColumns}. Each figure is the used heap after repeated full collections, less the baseline,
+ * so it is only meaningful with a stop-the-world collector; the {@code footprint} task runs it with the serial one.
+ *
+ * <p>Usage: {@code RosterFootprint [size]}, 1,000,000 employees by default.
+ */
+public final class RosterFootprint {
+
+    private static final Comparator<EmployeeResponseDto> BY_SALARY_DESC = Comparator.comparingInt(
+                    EmployeeResponseDto::getSalary)
+            .reversed()
+            .thenComparing(EmployeeResponseDto::getId);
+
+    private RosterFootprint() {}
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long baseline = usedHeap();
+
+        List<EmployeeResponseDto> employees = decoded(SyntheticRoster.generate(size));
+        long objects = usedHeap() - baseline;
+
+        Map<String, EmployeeResponseDto> byId = new HashMap<>(size * 2);
+        for (EmployeeResponseDto employee : employees) {
+            byId.put(employee.getId(), employee);
+        }
+        long withIdMap = usedHeap() - baseline;
+
+        NavigableSet<EmployeeResponseDto> bySalary = new ConcurrentSkipListSet<>(BY_SALARY_DESC);
+        Map<String, EmployeeResponseDto> salaryById = new HashMap<>(size * 2);
+        for (EmployeeResponseDto employee : employees) {
+            bySalary.add(employee);
+            salaryById.put(employee.getId(), employee);
+        }
+        long withSalaryIndex = usedHeap() - baseline;
+
+        RosterColumns columns = RosterColumns.of(employees);
+        employees = null;
+        byId = null;
+        bySalary = null;
+        salaryById = null;
+        long columnar = usedHeap() - baseline;
+
+        System.out.printf("%,d employees%n", columns.size());
+        print("employee objects in a list", objects, size);
+        print("  + id map (snapshot)", withIdMap, size);
+        print("  + salary skip list and id map (salary index)", withSalaryIndex, size);
+        print("columns", columnar, size);
+    }
+
+    /**
+     * Copies every string, as decoding each employee from JSON would, so equal titles are not shared.
+     */
+    private static List<EmployeeResponseDto> decoded(List<EmployeeResponseDto> generated) {
+        List<EmployeeResponseDto> copies = new ArrayList<>(generated.size());
+        for (EmployeeResponseDto employee : generated) {
+            copies.add(new EmployeeResponseDto(
+                    new String(employee.getId()),
+                    new String(employee.getName()),
+                    employee.getSalary(),
+                    employee.getAge(),
+                    new String(employee.getTitle()),
+                    new String(employee.getEmail())));
+        }
+        return copies;
+    }
+
+    private static void print(String label, long bytes, int size) {
+        System.out.printf(
+                "%-48s %,10.1f MB  %6.1f bytes/employee%n", label, bytes / 1_048_576.0, (double) bytes / size);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic rosters so every benchmark run sees identical data.
+ */
+public final class SyntheticRoster {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson"
+    };
+    private static final String[] TITLES = {
+        "Developer",
+        "Senior Developer",
+        "Manager",
+        "Director",
+        "Accountant",
+        "Designer",
+        "Analyst",
+        "Product Owner",
+        "QA Engineer",
+        "Support Engineer",
+        "Recruiter",
+        "Architect"
+    };
+
+    private SyntheticRoster() {}
+
+    public static List<EmployeeResponseDto> generate(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        List<EmployeeResponseDto> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            // A numeric suffix keeps names distinct at large sizes, like real rosters with many unique surnames.
+            String name = first + " " + last + " " + Integer.toString(i, 36);
+            employees.add(new EmployeeResponseDto(
+                    Integer.toHexString(i),
+                    name,
+                    random.nextInt(30_000, 500_000),
+                    random.nextInt(16, 70),
+                    TITLES[random.nextInt(TITLES.length)],
+                    first.toLowerCase() + "." + last.toLowerCase() + i + "@company.com"));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,333 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.timing.RequestTiming;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Stale-while-revalidate cache of the full employee roster.
+ *
+ * <p>Reads are answered from the current {@link RosterSnapshot} while it is younger than the configured TTL. Past the
+ * TTL, but within the max-stale window, the stale snapshot is still served and a single background refresh is started.
+ * Only when nothing is cached, or the snapshot is older than TTL + max-stale, does a read wait for the upstream.
+ *
+ * <p>Writes confirmed by the upstream are applied to the snapshot directly. Writes that land while a refresh is in
+ * flight are replayed on top of the fetched roster so a slow refresh cannot resurrect a deleted employee or drop a
+ * created one. Every change is forwarded to the registered {@link RosterListener}s so derived indexes stay in step
+ * with the snapshot.
+ *
+ * <p>While {@link RosterChangeSubscriber} follows the upstream change feed, the snapshot is kept current by the feed
+ * instead and the TTL no longer applies.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private final EmployeeConnector employeeConnector;
+    private final RosterCacheProperties properties;
+    private final List<RosterListener> listeners;
+    private final Clock clock;
+
+    private final Object writeLock = new Object();
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private final AtomicReference<Refresh> inFlightRefresh = new AtomicReference<>();
+    private volatile RosterSnapshot snapshot;
+    private volatile boolean followingChanges;
+    private Disposable backgroundRefresh;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    @Autowired
+    public EmployeeRosterCache(
+            EmployeeConnector employeeConnector, RosterCacheProperties properties, List<RosterListener> listeners) {
+        this(employeeConnector, properties, listeners, Clock.systemUTC());
+    }
+
+    EmployeeRosterCache(
+            EmployeeConnector employeeConnector,
+            RosterCacheProperties properties,
+            List<RosterListener> listeners,
+            Clock clock) {
+        this.employeeConnector = employeeConnector;
+        this.properties = properties;
+        this.listeners = List.copyOf(listeners);
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void startBackgroundRefresh() {
+        Duration interval = properties.getRefreshInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        backgroundRefresh = Flux.interval(interval)
+                .onBackpressureDrop()
+                // Only keep a roster warm once somebody has asked for it, and only poll without a change feed.
+                .filter(tick -> snapshot != null && !followingChanges)
+                .concatMap(tick -> refresh().onErrorResume(e -> Mono.empty()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopBackgroundRefresh() {
+        if (backgroundRefresh != null) {
+            backgroundRefresh.dispose();
+        }
+    }
+
+    public Flux<EmployeeResponseDto> getEmployees() {
+        return getSnapshot().flatMapIterable(RosterSnapshot::employees);
+    }
+
+    /**
+     * Returns the current snapshot, fetching it from the upstream only when nothing usable is cached.
+     */
+    public Mono<RosterSnapshot> getSnapshot() {
+        return Mono.defer(() -> {
+            RosterSnapshot current = snapshot;
+            if (current == null) {
+                misses.increment();
+                return refresh();
+            }
+            if (followingChanges) {
+                hits.increment();
+                return Mono.just(current);
+            }
+            Duration age = Duration.between(current.fetchedAt(), clock.instant());
+            if (age.compareTo(properties.getTtl()) < 0) {
+                hits.increment();
+                return Mono.just(current);
+            }
+            if (age.compareTo(properties.getTtl().plus(properties.getMaxStale())) < 0) {
+                staleHits.increment();
+                log.debug("Serving roster version {} aged {} while revalidating", current.version(), age);
+                refresh().subscribe(ignored -> {}, e -> {});
+                return Mono.just(current);
+            }
+            misses.increment();
+            return refresh();
+        });
+    }
+
+    /**
+     * Looks an employee up in the current snapshot without ever triggering an upstream fetch.
+     */
+    public Optional<EmployeeResponseDto> findById(String id) {
+        RosterSnapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (!followingChanges
+                && Duration.between(current.fetchedAt(), clock.instant())
+                                .compareTo(properties.getTtl().plus(properties.getMaxStale()))
+                        >= 0) {
+            return Optional.empty();
+        }
+        return current.findById(id);
+    }
+
+    /**
+     * Applies a create confirmed by the upstream. Seeing the same create twice, once from the write itself and once
+     * from the change feed, changes nothing the second time.
+     */
+    public void onEmployeeCreated(EmployeeResponseDto created) {
+        synchronized (writeLock) {
+            if (snapshot == null
+                    || snapshot.findById(created.getId())
+                            .filter(created::equals)
+                            .isPresent()) {
+                return;
+            }
+            long version = snapshot.version() + 1;
+            snapshot = snapshot.withCreated(version, created);
+            recordPendingWrite(new PendingWrite(version, created, null));
+            listeners.forEach(listener -> listener.onEmployeeCreated(created));
+        }
+    }
+
+    /**
+     * Applies a delete confirmed by the upstream. Deleting an employee that is not cached leaves the snapshot alone,
+     * but is still replayed onto a refresh in flight, which may have read the employee before it was deleted.
+     */
+    public void onEmployeeDeleted(String id) {
+        synchronized (writeLock) {
+            if (snapshot == null) {
+                return;
+            }
+            long version = snapshot.version() + 1;
+            recordPendingWrite(new PendingWrite(version, null, id));
+            if (snapshot.findById(id).isEmpty()) {
+                return;
+            }
+            snapshot = snapshot.withDeleted(version, id);
+            listeners.forEach(listener -> listener.onEmployeeDeleted(id));
+        }
+    }
+
+    /**
+     * Installs a roster loaded alongside the change feed. Local writes need no replaying on top of it: whatever the
+     * roster misses, the feed delivers afterwards.
+     */
+    public void replaceRoster(List<EmployeeResponseDto> employees) {
+        install(employees, Long.MAX_VALUE);
+    }
+
+    /**
+     * While the upstream change feed is followed, every change reaches the snapshot as it happens, so it is served
+     * regardless of age and not polled.
+     */
+    public void setFollowingChanges(boolean followingChanges) {
+        this.followingChanges = followingChanges;
+    }
+
+    public RosterCacheStats getStats() {
+        RosterSnapshot current = snapshot;
+        return new RosterCacheStats(
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                refreshes.sum(),
+                refreshFailures.sum(),
+                current == null ? -1 : current.version(),
+                current == null ? 0 : current.size());
+    }
+
+    /**
+     * Starts an upstream fetch unless one is already running, in which case its result is shared. The fetch is
+     * subscribed independently of the caller so a cancelled request never aborts a refresh other readers rely on.
+     *
+     * <p>A fetch started by a timed request forwards that request's correlation id, and its upstream stages are added
+     * to the timing of every request that waited for it.
+     */
+    Mono<RosterSnapshot> refresh() {
+        return Mono.deferContextual(context -> {
+            Optional<RequestTiming> caller = RequestTiming.from(context);
+            Refresh running = inFlightRefresh.get();
+            if (running != null) {
+                return running.join(caller);
+            }
+            Refresh started = new Refresh(caller.map(timing -> RequestTiming.shared(timing.getCorrelationId())));
+            if (!inFlightRefresh.compareAndSet(null, started)) {
+                return refresh();
+            }
+            long startVersion = snapshot == null ? -1 : snapshot.version();
+            Mono<RosterSnapshot> fetch = employeeConnector
+                    .getAllEmployees()
+                    .collectList()
+                    .map(employees -> install(employees, startVersion));
+            started.timing
+                    .map(timing -> timing.bindTo(fetch))
+                    .orElse(fetch)
+                    .subscribe(
+                            installed -> {
+                                inFlightRefresh.set(null);
+                                started.finish();
+                                started.result.tryEmitValue(installed);
+                            },
+                            e -> {
+                                inFlightRefresh.set(null);
+                                refreshFailures.increment();
+                                log.warn("Failed to refresh employee roster: {}", e.getMessage());
+                                started.finish();
+                                started.result.tryEmitError(e);
+                            });
+            return started.join(caller);
+        });
+    }
+
+    private RosterSnapshot install(List<EmployeeResponseDto> employees, long startVersion) {
+        synchronized (writeLock) {
+            long version = snapshot == null ? 0 : snapshot.version() + 1;
+            RosterSnapshot fetched = RosterSnapshot.of(version, clock.instant(), employees);
+            for (PendingWrite write : pendingWrites) {
+                if (write.version() > startVersion) {
+                    fetched = write.applyTo(fetched);
+                }
+            }
+            pendingWrites.clear();
+            snapshot = fetched;
+            RosterSnapshot installed = fetched;
+            listeners.forEach(listener -> listener.onRosterReplaced(installed));
+            refreshes.increment();
+            log.debug("Installed roster version {} with {} employees", fetched.version(), fetched.size());
+            return fetched;
+        }
+    }
+
+    private void recordPendingWrite(PendingWrite write) {
+        if (inFlightRefresh.get() != null) {
+            pendingWrites.add(write);
+        }
+    }
+
+    /**
+     * One upstream fetch and the timings of the requests waiting for it.
+     */
+    private static final class Refresh {
+
+        private final Optional<RequestTiming> timing;
+        private final Sinks.One<RosterSnapshot> result = Sinks.one();
+        private final List<RequestTiming> waiting = new ArrayList<>();
+        private boolean finished;
+
+        Refresh(Optional<RequestTiming> timing) {
+            this.timing = timing;
+        }
+
+        Mono<RosterSnapshot> join(Optional<RequestTiming> caller) {
+            if (timing.isPresent() && caller.isPresent()) {
+                synchronized (waiting) {
+                    if (finished) {
+                        timing.get().addStagesTo(caller.get());
+                    } else {
+                        waiting.add(caller.get());
+                    }
+                }
+            }
+            return result.asMono();
+        }
+
+        /**
+         * Hands the fetch's stages to the waiting requests; called before they see its result.
+         */
+        void finish() {
+            synchronized (waiting) {
+                finished = true;
+                timing.ifPresent(fetched -> waiting.forEach(fetched::addStagesTo));
+                waiting.clear();
+            }
+        }
+    }
+
+    private record PendingWrite(long version, EmployeeResponseDto created, String deletedId) {
+
+        RosterSnapshot applyTo(RosterSnapshot target) {
+            return created != null
+                    ? target.withCreated(target.version(), created)
+                    : target.withDeleted(target.version(), deletedId);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.api.cache;
+
+/**
+ * Point-in-time counters of {@link EmployeeRosterCache}.
+ *
+ * @param hits reads answered from a fresh snapshot
+ * @param staleHits reads answered from a stale snapshot while a refresh was triggered
+ * @param misses reads that had to wait for an upstream fetch
+ * @param refreshes successful upstream fetches installed into the cache
+ * @param refreshFailures upstream fetches that failed
+ * @param version version of the current snapshot, {@code -1} when nothing has been loaded yet
+ * @param size number of employees in the current snapshot
+ */
+public record RosterCacheStats(
+        long hits, long staleHits, long misses, long refreshes, long refreshFailures, long version, int size) {}
@@ -0,0 +1,157 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps {@link EmployeeRosterCache} in step with the upstream by following its change feed, so an unchanged roster is
+ * never downloaded again and a changed one costs one event per change.
+ *
+ * <p>The subscriber remembers the epoch and version of the last change applied. After a disconnect it resumes from
+ * there, and the roster counts as current again as soon as the upstream confirms the position. When the upstream
+ * cannot resume (it restarted, or too much happened meanwhile) it sends a reset instead: the roster is reloaded once
+ * and every later change the reload already contains is skipped by version. A gap in the versions
+ * forces the same reload, so the replica never silently diverges. Reconnects back off exponentially, starting over
+ * once events flow again.
+ */
+@Slf4j
+@Component
+public class RosterChangeSubscriber {
+
+    private final EmployeeConnector employeeConnector;
+    private final EmployeeRosterCache rosterCache;
+    private final RosterCacheProperties.Feed settings;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private volatile String epoch;
+    private volatile long version = -1;
+    private Disposable subscription;
+
+    public RosterChangeSubscriber(
+            EmployeeConnector employeeConnector, EmployeeRosterCache rosterCache, RosterCacheProperties properties) {
+        this.employeeConnector = employeeConnector;
+        this.rosterCache = rosterCache;
+        this.settings = properties.getFeed();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        subscription = follow().subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        rosterCache.setFollowingChanges(false);
+    }
+
+    public Stats stats() {
+        return new Stats(epoch, version, applied.sum(), skipped.sum(), resets.sum(), reconnects.sum());
+    }
+
+    /**
+     * Connects, applies events one at a time in order, and reconnects forever from the last applied position.
+     */
+    Flux<EmployeeChangeEvent> follow() {
+        return Flux.defer(() -> employeeConnector.streamChanges(epoch, epoch == null ? null : version))
+                .concatMap(event -> apply(event).thenReturn(event))
+                .concatWith(Mono.error(() -> new IllegalStateException("Roster change feed ended")))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, settings.getMinReconnectDelay())
+                        .maxBackoff(settings.getMaxReconnectDelay())
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> {
+                            rosterCache.setFollowingChanges(false);
+                            reconnects.increment();
+                            log.warn(
+                                    "Lost the roster change feed at version {}, reconnecting: {}",
+                                    version,
+                                    signal.failure().getMessage());
+                        }));
+    }
+
+    private Mono<Void> apply(EmployeeChangeEvent event) {
+        if (EmployeeChangeEvent.RESET.equals(event.getType())) {
+            return reload(event);
+        }
+        if (EmployeeChangeEvent.RESUMED.equals(event.getType())) {
+            if (!Objects.equals(epoch, event.getEpoch()) || event.getVersion() != version) {
+                epoch = null;
+                return Mono.error(new IllegalStateException("Roster change feed resumed at " + event.getEpoch() + "/"
+                        + event.getVersion() + " instead of the version asked for"));
+            }
+            rosterCache.setFollowingChanges(true);
+            log.info("Resumed roster changes after version {}", version);
+            return Mono.empty();
+        }
+        if (epoch == null || !epoch.equals(event.getEpoch()) || event.getVersion() > version + 1) {
+            String expected = epoch + "/" + (version + 1);
+            epoch = null;
+            return Mono.error(new IllegalStateException("Roster change feed skipped from " + expected + " to "
+                    + event.getEpoch() + "/" + event.getVersion()));
+        }
+        if (event.getVersion() <= version) {
+            skipped.increment();
+            return Mono.empty();
+        }
+        if (EmployeeChangeEvent.CREATED.equals(event.getType())) {
+            rosterCache.onEmployeeCreated(event.getEmployee());
+        } else if (EmployeeChangeEvent.DELETED.equals(event.getType())) {
+            rosterCache.onEmployeeDeleted(event.getEmployee().getId());
+        } else {
+            log.debug("Ignoring roster change of unknown type {}", event.getType());
+        }
+        version = event.getVersion();
+        applied.increment();
+        return Mono.empty();
+    }
+
+    /**
+     * Loads the roster at or after the reset's version and continues from whatever version it turned out to have.
+     */
+    private Mono<Void> reload(EmployeeChangeEvent reset) {
+        resets.increment();
+        return employeeConnector.getVersionedRoster().flatMap(roster -> {
+            if (!Objects.equals(roster.epoch(), reset.getEpoch()) || roster.version() < reset.getVersion()) {
+                return Mono.error(new IllegalStateException("Upstream roster " + roster.epoch() + "/"
+                        + roster.version() + " does not match the change feed at " + reset.getEpoch() + "/"
+                        + reset.getVersion()));
+            }
+            rosterCache.replaceRoster(roster.employees());
+            epoch = roster.epoch();
+            version = roster.version();
+            rosterCache.setFollowingChanges(true);
+            log.info("Following roster changes from version {} of epoch {}", version, epoch);
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * @param epoch upstream roster identity being followed, {@code null} before the first reload
+     * @param version last upstream version applied
+     * @param applied changes applied to the cache
+     * @param skipped changes already contained in a reloaded roster
+     * @param resets roster reloads requested by the upstream
+     * @param reconnects times the feed was lost and reconnected
+     */
+    public record Stats(String epoch, long version, long applied, long skipped, long resets, long reconnects) {}
+}
@@ -0,0 +1,645 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The employees of a roster stored column by column rather than as one object per employee.
+ *
+ * <p>Salaries and ages are {@code int[]} columns, titles are codes into a dictionary of the distinct titles, and ids,
+ * names and emails are {@link StringColumn}s of packed UTF-8. Rows are found by id through an open-addressing table of
+ * row numbers, and a permutation of the rows by descending salary answers the rankings. Lookups, rankings and filters
+ * read the columns directly; an {@link EmployeeResponseDto} is only built for a row a caller asks for.
+ *
+ * <p>Instances are immutable. Creates and deletes do not touch the packed columns: they go to a small overlay of the
+ * base rows removed and the employees created since, the latter kept in salary order as they arrive. A write copies
+ * only the overlay. Once the overlay holds more entries than the square root of the base, and at least
+ * {@link #MIN_OVERLAY_MERGE}, the write that grows it further packs it into fresh columns, so the copy of every column
+ * is paid once per that many writes rather than on each. Rows are numbered as the roster reads: the base rows still
+ * present in their order, then the created employees in theirs.
+ */
+public final class RosterColumns {
+
+    private static final int NO_TITLE = -1;
+
+    /**
+     * Overlay entries tolerated before a merge regardless of roster size, so a small roster is not repacked on every
+     * write.
+     */
+    static final int MIN_OVERLAY_MERGE = 1024;
+
+    private final StringColumn ids;
+    private final StringColumn names;
+    private final StringColumn emails;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final Titles titles;
+    private final long[] idTable;
+    private final int[] bySalary;
+    private final Overlay overlay;
+
+    private RosterColumns(
+            StringColumn ids,
+            StringColumn names,
+            StringColumn emails,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            Titles titles,
+            long[] idTable,
+            int[] bySalary,
+            Overlay overlay) {
+        this.ids = ids;
+        this.names = names;
+        this.emails = emails;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.idTable = idTable;
+        this.bySalary = bySalary;
+        this.overlay = overlay;
+    }
+
+    /**
+     * Lays the employees out in columns, in list order. When an id occurs more than once, only its last occurrence is
+     * kept.
+     */
+    public static RosterColumns of(List<EmployeeResponseDto> employees) {
+        boolean[] kept = lastOccurrences(employees);
+        int count = 0;
+        for (boolean keep : kept) {
+            count += keep ? 1 : 0;
+        }
+
+        StringColumn.Builder ids = new StringColumn.Builder(count);
+        StringColumn.Builder names = new StringColumn.Builder(count);
+        StringColumn.Builder emails = new StringColumn.Builder(count);
+        int[] salaries = new int[count];
+        int[] ages = new int[count];
+        int[] titleCodes = new int[count];
+        long[] idTable = new long[tableSize(count)];
+        Titles.Builder titles = new Titles.Builder();
+        int row = 0;
+        for (int i = 0; i < kept.length; i++) {
+            if (!kept[i]) {
+                continue;
+            }
+            EmployeeResponseDto employee = employees.get(i);
+            ids.add(employee.getId());
+            names.add(employee.getName());
+            emails.add(employee.getEmail());
+            salaries[row] = employee.getSalary();
+            ages[row] = employee.getAge();
+            titleCodes[row] = titles.code(employee.getTitle());
+            if (employee.getId() != null) {
+                insert(idTable, hash(employee.getId()), row);
+            }
+            row++;
+        }
+
+        return new RosterColumns(
+                ids.build(),
+                names.build(),
+                emails.build(),
+                salaries,
+                ages,
+                titleCodes,
+                titles.build(),
+                idTable,
+                sortBySalary(salaries),
+                Overlay.EMPTY);
+    }
+
+    public int size() {
+        return liveBaseRows() + overlay.created().length;
+    }
+
+    /**
+     * The row holding the employee with the given id, or -1.
+     */
+    public int rowOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        int hash = hash(id);
+        int created = overlay.createdIndexOf(id, hash);
+        if (created >= 0) {
+            return liveBaseRows() + created;
+        }
+        int base = baseRowOf(id, hash);
+        if (base < 0) {
+            return -1;
+        }
+        int removedAt = Arrays.binarySearch(overlay.removed(), base);
+        return removedAt >= 0 ? -1 : base + removedAt + 1;
+    }
+
+    /**
+     * The first {@code count} rows in descending salary order; equal salaries keep their roster order. The base
+     * permutation and the overlay's own salary order are merged as they are walked, skipping removed base rows.
+     */
+    public int[] rowsBySalary(int count) {
+        int[] removed = overlay.removed();
+        EmployeeResponseDto[] created = overlay.created();
+        int[] createdBySalary = overlay.createdBySalary();
+        int liveBase = liveBaseRows();
+        int[] rows = new int[Math.min(Math.max(count, 0), size())];
+        int nextBase = 0;
+        int nextCreated = 0;
+        for (int rank = 0; rank < rows.length; rank++) {
+            while (nextBase < bySalary.length && Arrays.binarySearch(removed, bySalary[nextBase]) >= 0) {
+                nextBase++;
+            }
+            if (nextCreated < createdBySalary.length
+                    && (nextBase == bySalary.length
+                            || created[createdBySalary[nextCreated]].getSalary() > salaries[bySalary[nextBase]])) {
+                rows[rank] = liveBase + createdBySalary[nextCreated++];
+            } else {
+                int base = bySalary[nextBase++];
+                rows[rank] = base + Arrays.binarySearch(removed, base) + 1;
+            }
+        }
+        return rows;
+    }
+
+    public String id(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? ids.get(base) : created(row).getId();
+    }
+
+    public String name(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? names.get(base) : created(row).getName();
+    }
+
+    public int salary(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? salaries[base] : created(row).getSalary();
+    }
+
+    public int age(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? ages[base] : created(row).getAge();
+    }
+
+    public String title(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? titles.get(titleCodes[base]) : created(row).getTitle();
+    }
+
+    public String email(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? emails.get(base) : created(row).getEmail();
+    }
+
+    /**
+     * Builds a new DTO for the row; the columns keep no reference to it.
+     */
+    public EmployeeResponseDto employee(int row) {
+        int base = baseRow(row);
+        return base >= 0 ? employee(base, ids.get(base)) : copy(created(row));
+    }
+
+    /**
+     * Builds a DTO for the employee with the given id, or returns null. The id passed in is reused rather than
+     * decoded again.
+     */
+    public EmployeeResponseDto find(String id) {
+        int row = rowOf(id);
+        if (row < 0) {
+            return null;
+        }
+        int base = baseRow(row);
+        return base >= 0 ? employee(base, id) : copy(created(row));
+    }
+
+    /**
+     * Every row in roster order, each built into a DTO only when it is read.
+     */
+    public List<EmployeeResponseDto> asList() {
+        return new Rows();
+    }
+
+    int distinctTitles() {
+        return titles.size();
+    }
+
+    int overlaySize() {
+        return overlay.size();
+    }
+
+    /**
+     * Adds the employee as the last row, replacing any row with the same id.
+     */
+    RosterColumns withCreated(EmployeeResponseDto created) {
+        return withOverlay(overlayWithout(created.getId()).withCreated(copy(created), hash(created.getId())));
+    }
+
+    RosterColumns withDeleted(String id) {
+        Overlay without = overlayWithout(id);
+        return without == overlay ? this : withOverlay(without);
+    }
+
+    /**
+     * The overlay with the employee holding {@code id} taken out, or the current overlay if there is no such employee.
+     */
+    private Overlay overlayWithout(String id) {
+        if (id == null) {
+            return overlay;
+        }
+        int hash = hash(id);
+        int created = overlay.createdIndexOf(id, hash);
+        if (created >= 0) {
+            return overlay.withoutCreated(created);
+        }
+        int base = baseRowOf(id, hash);
+        if (base < 0 || Arrays.binarySearch(overlay.removed(), base) >= 0) {
+            return overlay;
+        }
+        return overlay.withRemoved(base);
+    }
+
+    private RosterColumns withOverlay(Overlay changed) {
+        RosterColumns updated =
+                new RosterColumns(ids, names, emails, salaries, ages, titleCodes, titles, idTable, bySalary, changed);
+        boolean outgrown = changed.size() > Math.max(MIN_OVERLAY_MERGE, (int) Math.sqrt(salaries.length));
+        return outgrown ? updated.merged() : updated;
+    }
+
+    /**
+     * Packs the overlay into fresh columns. Surviving base rows are copied across without decoding their strings, the
+     * created employees are appended, and the salary order is merged from the base permutation and the overlay's
+     * order rather than sorted again.
+     */
+    private RosterColumns merged() {
+        int[] removed = overlay.removed();
+        EmployeeResponseDto[] created = overlay.created();
+        int liveBase = liveBaseRows();
+        int count = liveBase + created.length;
+
+        StringColumn.Builder mergedIds = new StringColumn.Builder(count);
+        StringColumn.Builder mergedNames = new StringColumn.Builder(count);
+        StringColumn.Builder mergedEmails = new StringColumn.Builder(count);
+        int[] mergedSalaries = new int[count];
+        int[] mergedAges = new int[count];
+        int[] mergedTitleCodes = new int[count];
+        Titles mergedTitles = titles;
+        int[] rowOfBase = new int[salaries.length];
+        int row = 0;
+        int nextRemoved = 0;
+        for (int base = 0; base < salaries.length; base++) {
+            if (nextRemoved < removed.length && removed[nextRemoved] == base) {
+                nextRemoved++;
+                rowOfBase[base] = -1;
+                continue;
+            }
+            rowOfBase[base] = row;
+            mergedIds.add(ids, base);
+            mergedNames.add(names, base);
+            mergedEmails.add(emails, base);
+            mergedSalaries[row] = salaries[base];
+            mergedAges[row] = ages[base];
+            mergedTitleCodes[row] = titleCodes[base];
+            row++;
+        }
+        for (EmployeeResponseDto employee : created) {
+            mergedIds.add(employee.getId());
+            mergedNames.add(employee.getName());
+            mergedEmails.add(employee.getEmail());
+            mergedSalaries[row] = employee.getSalary();
+            mergedAges[row] = employee.getAge();
+            mergedTitles = mergedTitles.with(employee.getTitle());
+            mergedTitleCodes[row] = mergedTitles.code(employee.getTitle());
+            row++;
+        }
+
+        long[] table = new long[tableSize(count)];
+        for (long entry : idTable) {
+            if (entry != 0 && rowOfBase[row(entry)] >= 0) {
+                insert(table, (int) (entry >>> 32), rowOfBase[row(entry)]);
+            }
+        }
+        for (int i = 0; i < created.length; i++) {
+            if (created[i].getId() != null) {
+                insert(table, overlay.createdHashes()[i], liveBase + i);
+            }
+        }
+
+        int[] createdBySalary = overlay.createdBySalary();
+        int[] ranked = new int[count];
+        int rank = 0;
+        int nextCreated = 0;
+        for (int base : bySalary) {
+            if (rowOfBase[base] < 0) {
+                continue;
+            }
+            while (nextCreated < createdBySalary.length
+                    && created[createdBySalary[nextCreated]].getSalary() > salaries[base]) {
+                ranked[rank++] = liveBase + createdBySalary[nextCreated++];
+            }
+            ranked[rank++] = rowOfBase[base];
+        }
+        while (nextCreated < createdBySalary.length) {
+            ranked[rank++] = liveBase + createdBySalary[nextCreated++];
+        }
+
+        return new RosterColumns(
+                mergedIds.build(),
+                mergedNames.build(),
+                mergedEmails.build(),
+                mergedSalaries,
+                mergedAges,
+                mergedTitleCodes,
+                mergedTitles,
+                table,
+                ranked,
+                Overlay.EMPTY);
+    }
+
+    private int liveBaseRows() {
+        return salaries.length - overlay.removed().length;
+    }
+
+    /**
+     * The base row a row reads, or -1 for a created employee. Removed row {@code removed[i]} has
+     * {@code removed[i] - i} live rows ahead of it, so the removed rows ahead of the answer are those where that count
+     * is at most the row.
+     */
+    private int baseRow(int row) {
+        int[] removed = overlay.removed();
+        if (row >= salaries.length - removed.length) {
+            return -1;
+        }
+        int low = 0;
+        int high = removed.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (removed[middle] - middle <= row) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return row + low;
+    }
+
+    private EmployeeResponseDto created(int row) {
+        return overlay.created()[row - liveBaseRows()];
+    }
+
+    /**
+     * The base row holding the id, removed or not, or -1.
+     */
+    private int baseRowOf(String id, int hash) {
+        int mask = idTable.length - 1;
+        for (int slot = hash & mask; idTable[slot] != 0; slot = (slot + 1) & mask) {
+            long entry = idTable[slot];
+            if ((int) (entry >>> 32) == hash && ids.matches(row(entry), id)) {
+                return row(entry);
+            }
+        }
+        return -1;
+    }
+
+    private EmployeeResponseDto employee(int base, String id) {
+        return new EmployeeResponseDto(
+                id, names.get(base), salaries[base], ages[base], titles.get(titleCodes[base]), emails.get(base));
+    }
+
+    private static EmployeeResponseDto copy(EmployeeResponseDto employee) {
+        return new EmployeeResponseDto(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail());
+    }
+
+    /**
+     * Marks the last occurrence of every id, and every employee without one, by walking the list backwards through a
+     * scratch table of list positions.
+     */
+    private static boolean[] lastOccurrences(List<EmployeeResponseDto> employees) {
+        int count = employees.size();
+        boolean[] kept = new boolean[count];
+        int[] hashes = new int[count];
+        int[] table = new int[tableSize(count)];
+        int mask = table.length - 1;
+        for (int i = count - 1; i >= 0; i--) {
+            String id = employees.get(i).getId();
+            if (id == null) {
+                kept[i] = true;
+                continue;
+            }
+            int hash = hash(id);
+            hashes[i] = hash;
+            int slot = hash & mask;
+            while (table[slot] != 0
+                    && !(hashes[table[slot] - 1] == hash
+                            && id.equals(employees.get(table[slot] - 1).getId()))) {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] == 0) {
+                table[slot] = i + 1;
+                kept[i] = true;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * An id table entry holds the id's hash in its high half and the row plus one in its low half, so that zero marks
+     * an empty slot and a probe rejects most other ids without touching the id column. Tables are kept at most half
+     * full.
+     */
+    private static void insert(long[] table, int hash, int row) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = ((long) hash << 32) | (row + 1);
+    }
+
+    private static int row(long entry) {
+        return (int) entry - 1;
+    }
+
+    private static int tableSize(int rows) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, rows) * 2 - 1) << 1);
+    }
+
+    private static int hash(String id) {
+        if (id == null) {
+            return 0;
+        }
+        int hash = id.hashCode();
+        hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Sorts the rows on the complemented salary in the high half of a long and the row in the low half, which orders
+     * them by descending salary and then by row without boxing a comparator.
+     */
+    private static int[] sortBySalary(int[] salaries) {
+        long[] keys = new long[salaries.length];
+        for (int row = 0; row < salaries.length; row++) {
+            keys[row] = ((long) ~salaries[row] << 32) | row;
+        }
+        Arrays.sort(keys);
+        int[] ranked = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            ranked[i] = (int) keys[i];
+        }
+        return ranked;
+    }
+
+    private static int[] insertedInt(int[] values, int index, int value) {
+        int[] inserted = new int[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, index);
+        inserted[index] = value;
+        System.arraycopy(values, index, inserted, index + 1, values.length - index);
+        return inserted;
+    }
+
+    private static int[] appendedInt(int[] values, int value) {
+        int[] appended = Arrays.copyOf(values, values.length + 1);
+        appended[values.length] = value;
+        return appended;
+    }
+
+    private static int[] removedInt(int[] values, int index) {
+        int[] removed = new int[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, removed.length - index);
+        return removed;
+    }
+
+    /**
+     * Writes since the columns were packed: the base rows {@code removed}, ascending, and the employees {@code created}
+     * since, in order, with their id hashes alongside and {@code createdBySalary} indexing them by descending salary,
+     * ties in creation order. Every change copies these arrays, which stay small next to the columns.
+     */
+    private record Overlay(int[] removed, EmployeeResponseDto[] created, int[] createdHashes, int[] createdBySalary) {
+
+        static final Overlay EMPTY = new Overlay(new int[0], new EmployeeResponseDto[0], new int[0], new int[0]);
+
+        int size() {
+            return removed.length + created.length;
+        }
+
+        int createdIndexOf(String id, int hash) {
+            for (int i = 0; i < created.length; i++) {
+                if (createdHashes[i] == hash && id.equals(created[i].getId())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Overlay withRemoved(int baseRow) {
+            int index = -Arrays.binarySearch(removed, baseRow) - 1;
+            return new Overlay(insertedInt(removed, index, baseRow), created, createdHashes, createdBySalary);
+        }
+
+        Overlay withCreated(EmployeeResponseDto employee, int hash) {
+            int index = created.length;
+            int rank = 0;
+            int high = index;
+            while (rank < high) {
+                int middle = (rank + high) >>> 1;
+                if (created[createdBySalary[middle]].getSalary() >= employee.getSalary()) {
+                    rank = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            EmployeeResponseDto[] appended = Arrays.copyOf(created, index + 1);
+            appended[index] = employee;
+            return new Overlay(
+                    removed, appended, appendedInt(createdHashes, hash), insertedInt(createdBySalary, rank, index));
+        }
+
+        Overlay withoutCreated(int index) {
+            EmployeeResponseDto[] remaining = new EmployeeResponseDto[created.length - 1];
+            System.arraycopy(created, 0, remaining, 0, index);
+            System.arraycopy(created, index + 1, remaining, index, remaining.length - index);
+            int[] ranked = new int[createdBySalary.length - 1];
+            int next = 0;
+            for (int ranking : createdBySalary) {
+                if (ranking != index) {
+                    ranked[next++] = ranking > index ? ranking - 1 : ranking;
+                }
+            }
+            return new Overlay(removed, remaining, removedInt(createdHashes, index), ranked);
+        }
+    }
+
+    private final class Rows extends AbstractList<EmployeeResponseDto> implements RandomAccess {
+
+        @Override
+        public EmployeeResponseDto get(int index) {
+            return employee(index);
+        }
+
+        @Override
+        public int size() {
+            return RosterColumns.this.size();
+        }
+    }
+
+    /**
+     * The distinct titles in order of first appearance; a row stores the index of its title here. Titles dropped by
+     * deletes stay until the next full rebuild.
+     */
+    private record Titles(String[] values, Map<String, Integer> codes) {
+
+        int size() {
+            return values.length;
+        }
+
+        String get(int code) {
+            return code == NO_TITLE ? null : values[code];
+        }
+
+        int code(String title) {
+            return title == null ? NO_TITLE : codes.get(title);
+        }
+
+        Titles with(String title) {
+            if (title == null || codes.containsKey(title)) {
+                return this;
+            }
+            Map<String, Integer> extended = new HashMap<>(codes);
+            extended.put(title, values.length);
+            String[] extendedValues = Arrays.copyOf(values, values.length + 1);
+            extendedValues[values.length] = title;
+            return new Titles(extendedValues, extended);
+        }
+
+        static final class Builder {
+
+            private final Map<String, Integer> codes = new HashMap<>();
+
+            int code(String title) {
+                return title == null ? NO_TITLE : codes.computeIfAbsent(title, ignored -> codes.size());
+            }
+
+            Titles build() {
+                String[] values = new String[codes.size()];
+                codes.forEach((title, code) -> values[code] = title);
+                return new Titles(values, codes);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+
+/**
+ * Receives every change applied to {@link EmployeeRosterCache}, in order. Callbacks run while the cache holds its write
+ * lock, so implementations see a single writer and must not call back into the cache.
+ */
+public interface RosterListener {
+
+    /**
+     * The whole roster was replaced by an upstream refresh.
+     */
+    void onRosterReplaced(RosterSnapshot snapshot);
+
+    void onEmployeeCreated(EmployeeResponseDto employee);
+
+    void onEmployeeDeleted(String id);
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable, versioned view of the employee roster. Every local write or upstream refresh produces a new snapshot with
+ * a higher {@link #version()}.
+ *
+ * <p>The employees are held in {@link RosterColumns}; the queries here read the columns and only build DTOs for the
+ * employees they return.
+ */
+public record RosterSnapshot(long version, Instant fetchedAt, RosterColumns columns) {
+
+    public static RosterSnapshot of(long version, Instant fetchedAt, List<EmployeeResponseDto> employees) {
+        return new RosterSnapshot(version, fetchedAt, RosterColumns.of(employees));
+    }
+
+    /**
+     * Every employee in roster order, each built when it is read.
+     */
+    public List<EmployeeResponseDto> employees() {
+        return columns.asList();
+    }
+
+    public Optional<EmployeeResponseDto> findById(String id) {
+        return Optional.ofNullable(columns.find(id));
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public Optional<Integer> highestSalary() {
+        int[] top = columns.rowsBySalary(1);
+        return top.length == 0 ? Optional.empty() : Optional.of(columns.salary(top[0]));
+    }
+
+    /**
+     * Names of the {@code k} best paid employees, best paid first; equal salaries keep their roster order.
+     */
+    public List<String> topEarnerNames(int k) {
+        int[] rows = columns.rowsBySalary(k);
+        List<String> names = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            names.add(columns.name(row));
+        }
+        return names;
+    }
+
+    RosterSnapshot withCreated(long newVersion, EmployeeResponseDto created) {
+        return new RosterSnapshot(newVersion, fetchedAt, columns.withCreated(created));
+    }
+
+    RosterSnapshot withDeleted(long newVersion, String id) {
+        return new RosterSnapshot(newVersion, fetchedAt, columns.withDeleted(id));
+    }
+}
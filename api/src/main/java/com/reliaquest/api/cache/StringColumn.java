@@ -0,0 +1,110 @@
+package com.reliaquest.api.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable column of strings stored as their UTF-8 bytes end to end in one array, with the start of every value in a
+ * second. A million short strings cost two arrays instead of a million {@code String}s and their backing arrays.
+ *
+ * <p>A null is stored as the single byte {@code 0xFF}, which never occurs in UTF-8. A string holding an unpaired
+ * surrogate is not valid Unicode and comes back with {@code ?} in its place, as it would from any UTF-8 round trip.
+ */
+final class StringColumn {
+
+    private static final byte[] NULL = {(byte) 0xFF};
+
+    private final byte[] bytes;
+    private final int[] offsets;
+
+    private StringColumn(byte[] bytes, int[] offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    static byte[] encode(String value) {
+        return value == null ? NULL : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    int size() {
+        return offsets.length - 1;
+    }
+
+    String get(int row) {
+        int start = offsets[row];
+        int length = offsets[row + 1] - start;
+        if (isNull(start, length)) {
+            return null;
+        }
+        return new String(bytes, start, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the value at {@code row} equals the given non-null string, compared without decoding it. ASCII values
+     * are compared char by char; anything else is encoded first.
+     */
+    boolean matches(int row, String value) {
+        int start = offsets[row];
+        int length = offsets[row + 1] - start;
+        if (length != value.length()) {
+            return length > value.length() && matchesEncoded(start, length, value);
+        }
+        for (int i = 0; i < length; i++) {
+            int b = bytes[start + i];
+            if (b < 0 || value.charAt(i) > 0x7F) {
+                return matchesEncoded(start, length, value);
+            }
+            if (b != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesEncoded(int start, int length, String value) {
+        byte[] encoded = encode(value);
+        return Arrays.equals(bytes, start, start + length, encoded, 0, encoded.length);
+    }
+
+    private boolean isNull(int start, int length) {
+        return length == 1 && bytes[start] == NULL[0];
+    }
+
+    static final class Builder {
+
+        private byte[] bytes;
+        private final int[] offsets;
+        private int size;
+
+        Builder(int capacity) {
+            bytes = new byte[Math.max(16, capacity * 16)];
+            offsets = new int[capacity + 1];
+        }
+
+        void add(String value) {
+            byte[] encoded = encode(value);
+            add(encoded, 0, encoded.length);
+        }
+
+        /**
+         * Copies the value at {@code row} of another column without decoding it.
+         */
+        void add(StringColumn column, int row) {
+            int start = column.offsets[row];
+            add(column.bytes, start, column.offsets[row + 1] - start);
+        }
+
+        private void add(byte[] source, int start, int length) {
+            int end = offsets[size];
+            if (end + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, end + length));
+            }
+            System.arraycopy(source, start, bytes, end, length);
+            offsets[++size] = end + length;
+        }
+
+        StringColumn build() {
+            return new StringColumn(Arrays.copyOf(bytes, offsets[size]), Arrays.copyOf(offsets, size + 1));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.io.IOException;
+
+/**
+ * The JSON form of an {@link EmployeeResponseDto}, written and read field by field on Jackson's streaming API instead
+ * of through bean introspection. Field names, field order and the handling of nulls and unknown fields match what the
+ * {@code @JsonProperty} mapping produces, so both can be used side by side.
+ */
+public final class EmployeeJson {
+
+    static final String ID = "id";
+    static final String NAME = "employee_name";
+    static final String SALARY = "employee_salary";
+    static final String AGE = "employee_age";
+    static final String TITLE = "employee_title";
+    static final String EMAIL = "employee_email";
+
+    private static final SerializableString ID_FIELD = new SerializedString(ID);
+    private static final SerializableString NAME_FIELD = new SerializedString(NAME);
+    private static final SerializableString SALARY_FIELD = new SerializedString(SALARY);
+    private static final SerializableString AGE_FIELD = new SerializedString(AGE);
+    private static final SerializableString TITLE_FIELD = new SerializedString(TITLE);
+    private static final SerializableString EMAIL_FIELD = new SerializedString(EMAIL);
+
+    private EmployeeJson() {}
+
+    public static void write(JsonGenerator generator, EmployeeResponseDto employee) throws IOException {
+        generator.writeStartObject(employee);
+        generator.writeFieldName(ID_FIELD);
+        generator.writeString(employee.getId());
+        generator.writeFieldName(NAME_FIELD);
+        generator.writeString(employee.getName());
+        generator.writeFieldName(SALARY_FIELD);
+        generator.writeNumber(employee.getSalary());
+        generator.writeFieldName(AGE_FIELD);
+        generator.writeNumber(employee.getAge());
+        generator.writeFieldName(TITLE_FIELD);
+        generator.writeString(employee.getTitle());
+        generator.writeFieldName(EMAIL_FIELD);
+        generator.writeString(employee.getEmail());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the employee object the parser is positioned on, at its start or at its first field, and leaves the
+     * parser on its closing brace.
+     */
+    public static EmployeeResponseDto read(JsonParser parser) throws IOException {
+        String field;
+        if (parser.isExpectedStartObjectToken()) {
+            field = parser.nextFieldName();
+        } else if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            field = parser.currentName();
+        } else {
+            throw new JsonParseException(parser, "Expected an employee object but found " + parser.currentToken());
+        }
+        Fields fields = new Fields();
+        for (; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!fields.set(field, parser)) {
+                parser.skipChildren();
+            }
+        }
+        return fields.build();
+    }
+
+    /**
+     * The fields of one employee collected as their values are parsed, for readers that see the tokens one at a time.
+     */
+    static final class Fields {
+
+        private String id;
+        private String name;
+        private int salary;
+        private int age;
+        private String title;
+        private String email;
+
+        /**
+         * Takes the value the parser is positioned on for the given field.
+         *
+         * @return false if the field is unknown, leaving it to the caller to skip its value
+         */
+        boolean set(String field, JsonParser parser) throws IOException {
+            switch (field) {
+                case ID -> id = text(field, parser);
+                case NAME -> name = text(field, parser);
+                case SALARY -> salary = number(field, parser);
+                case AGE -> age = number(field, parser);
+                case TITLE -> title = text(field, parser);
+                case EMAIL -> email = text(field, parser);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        EmployeeResponseDto build() {
+            return new EmployeeResponseDto(id, name, salary, age, title, email);
+        }
+
+        private static String text(String field, JsonParser parser) throws IOException {
+            scalar(field, parser);
+            return parser.getValueAsString();
+        }
+
+        /**
+         * A JSON integer or a string holding exactly one, as the bean mapping coerces, and 0 for null; fractions and
+         * other text are rejected rather than truncated or read as 0.
+         */
+        private static int number(String field, JsonParser parser) throws IOException {
+            scalar(field, parser);
+            switch (parser.currentToken()) {
+                case VALUE_NUMBER_INT -> {
+                    return parser.getIntValue();
+                }
+                case VALUE_STRING -> {
+                    try {
+                        return Integer.parseInt(parser.getText().trim());
+                    } catch (NumberFormatException e) {
+                        throw notAnInteger(field, parser);
+                    }
+                }
+                case VALUE_NULL -> {
+                    return 0;
+                }
+                default -> throw notAnInteger(field, parser);
+            }
+        }
+
+        private static MismatchedInputException notAnInteger(String field, JsonParser parser) {
+            return MismatchedInputException.from(
+                    parser, int.class, "Expected an integer for employee field '" + field + "'");
+        }
+
+        private static void scalar(String field, JsonParser parser) throws JsonParseException {
+            if (parser.currentToken().isStructStart()) {
+                throw new JsonParseException(parser, "Expected a value for employee field '" + field + "'");
+            }
+        }
+    }
+}
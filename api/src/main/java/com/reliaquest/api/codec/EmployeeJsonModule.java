@@ -0,0 +1,135 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.api.dto.CreateEmployeeResponseWrapper;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.dto.EmployeesResponseWrapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written serializers and deserializers for the employee payloads the api exchanges most: employees it returns
+ * to its clients and the upstream envelopes they arrive in. Registered on an {@code ObjectMapper}, they replace the
+ * reflective bean mapping for every codec built on it.
+ */
+public class EmployeeJsonModule extends SimpleModule {
+
+    private static final String DATA = "data";
+    private static final String STATUS = "status";
+
+    public EmployeeJsonModule() {
+        super(EmployeeJsonModule.class.getSimpleName());
+        addSerializer(EmployeeResponseDto.class, new EmployeeSerializer());
+        addDeserializer(EmployeeResponseDto.class, new EmployeeDeserializer());
+        addDeserializer(EmployeesResponseWrapper.class, new EmployeesDeserializer());
+        addDeserializer(CreateEmployeeResponseWrapper.class, new CreateEmployeeDeserializer());
+    }
+
+    private static final class EmployeeSerializer extends StdSerializer<EmployeeResponseDto> {
+
+        EmployeeSerializer() {
+            super(EmployeeResponseDto.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponseDto employee, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            EmployeeJson.write(generator, employee);
+        }
+    }
+
+    private static final class EmployeeDeserializer extends StdDeserializer<EmployeeResponseDto> {
+
+        EmployeeDeserializer() {
+            super(EmployeeResponseDto.class);
+        }
+
+        @Override
+        public EmployeeResponseDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EmployeeJson.read(parser);
+        }
+    }
+
+    private static final class EmployeesDeserializer extends StdDeserializer<EmployeesResponseWrapper> {
+
+        EmployeesDeserializer() {
+            super(EmployeesResponseWrapper.class);
+        }
+
+        @Override
+        public EmployeesResponseWrapper deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            List<EmployeeResponseDto> data = null;
+            String status = null;
+            for (String field = firstField(parser, context, handledType());
+                    field != null;
+                    field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                if (DATA.equals(field) && token == JsonToken.START_ARRAY) {
+                    data = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        data.add(parser.hasToken(JsonToken.VALUE_NULL) ? null : EmployeeJson.read(parser));
+                    }
+                } else if (DATA.equals(field) && token != JsonToken.VALUE_NULL) {
+                    return (EmployeesResponseWrapper)
+                            context.handleUnexpectedToken(EmployeesResponseWrapper.class, parser);
+                } else if (STATUS.equals(field)) {
+                    status = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new EmployeesResponseWrapper(data, status);
+        }
+    }
+
+    private static final class CreateEmployeeDeserializer extends StdDeserializer<CreateEmployeeResponseWrapper> {
+
+        CreateEmployeeDeserializer() {
+            super(CreateEmployeeResponseWrapper.class);
+        }
+
+        @Override
+        public CreateEmployeeResponseWrapper deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            EmployeeResponseDto data = null;
+            String status = null;
+            for (String field = firstField(parser, context, handledType());
+                    field != null;
+                    field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                if (DATA.equals(field) && token != JsonToken.VALUE_NULL) {
+                    data = EmployeeJson.read(parser);
+                } else if (STATUS.equals(field)) {
+                    status = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new CreateEmployeeResponseWrapper(data, status);
+        }
+    }
+
+    private static String firstField(JsonParser parser, DeserializationContext context, Class<?> type)
+            throws IOException {
+        if (parser.isExpectedStartObjectToken()) {
+            return parser.nextFieldName();
+        }
+        if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            return parser.currentName();
+        }
+        if (parser.hasToken(JsonToken.END_OBJECT)) {
+            return null;
+        }
+        context.handleUnexpectedToken(type, parser);
+        return null;
+    }
+}
@@ -0,0 +1,193 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes a {@code {"data": [...], "status": "..."}} roster envelope incrementally.
+ *
+ * <p>Bytes are pushed into Jackson's non-blocking parser as they arrive. The fields of each object inside the {@code
+ * data} array are collected straight from the tokens by {@link EmployeeJson.Fields}, without buffering them or going
+ * through a bean deserializer, and the employee is emitted as soon as its closing brace is seen, so the first one
+ * reaches the subscriber long before the body is complete and only one is ever held in decoded form. Network buffers
+ * are requested one at a time, which propagates the subscriber's demand to the socket.
+ */
+public class EmployeeStreamDecoder {
+
+    private static final String DATA_FIELD = "data";
+    private static final String STATUS_FIELD = "status";
+
+    private final ObjectMapper objectMapper;
+
+    public EmployeeStreamDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Flux<EmployeeResponseDto> decode(Flux<DataBuffer> body, Consumer<String> statusListener) {
+        return Flux.defer(() -> {
+            EnvelopeParser envelope = new EnvelopeParser(statusListener);
+            return body.concatMapIterable(envelope::feed, 1)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(envelope.endOfInput())))
+                    .doFinally(signal -> envelope.close());
+        });
+    }
+
+    private final class EnvelopeParser {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final Consumer<String> statusListener;
+
+        private int depth;
+        private String fieldName;
+        private boolean inData;
+        private EmployeeJson.Fields element;
+        private int elementDepth;
+        private String elementField;
+
+        EnvelopeParser(Consumer<String> statusListener) {
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new DecodingException("Could not create non-blocking JSON parser", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.statusListener = statusListener;
+        }
+
+        List<EmployeeResponseDto> feed(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new DecodingException("Could not feed JSON input", e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            return drain();
+        }
+
+        List<EmployeeResponseDto> endOfInput() {
+            feeder.endOfInput();
+            List<EmployeeResponseDto> remaining = drain();
+            if (depth != 0 || element != null) {
+                throw new DecodingException("Employee roster ended before the JSON document was complete");
+            }
+            return remaining;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Nothing left to release.
+            }
+        }
+
+        private List<EmployeeResponseDto> drain() {
+            List<EmployeeResponseDto> decoded = null;
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                    EmployeeResponseDto employee = element != null ? capture(token) : navigate(token);
+                    if (employee != null) {
+                        if (decoded == null) {
+                            decoded = new ArrayList<>();
+                        }
+                        decoded.add(employee);
+                    }
+                }
+            } catch (IOException e) {
+                throw new DecodingException("Could not decode employee roster: " + e.getMessage(), e);
+            }
+            return decoded == null ? List.of() : decoded;
+        }
+
+        /**
+         * Follows the envelope and starts capturing when an object opens directly inside the {@code data} array.
+         */
+        private EmployeeResponseDto navigate(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT -> {
+                    if (inData && depth == 2) {
+                        element = new EmployeeJson.Fields();
+                        elementDepth = 1;
+                        elementField = null;
+                    } else {
+                        depth++;
+                    }
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && DATA_FIELD.equals(fieldName)) {
+                        inData = true;
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    depth--;
+                    if (depth == 1) {
+                        inData = false;
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        fieldName = parser.currentName();
+                    }
+                }
+                case VALUE_STRING -> {
+                    if (depth == 1 && STATUS_FIELD.equals(fieldName)) {
+                        statusListener.accept(parser.getText());
+                    }
+                }
+                default -> {
+                    // Scalars outside the data array are not part of the roster.
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Collects the fields of the employee being read; values nested deeper than its own fields are skipped.
+         */
+        private EmployeeResponseDto capture(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (elementDepth == 1) {
+                        // Rejects a structure as the value of a known field; any other is skipped.
+                        element.set(elementField, parser);
+                    }
+                    elementDepth++;
+                }
+                case END_OBJECT, END_ARRAY -> elementDepth--;
+                case FIELD_NAME -> {
+                    if (elementDepth == 1) {
+                        elementField = parser.currentName();
+                    }
+                }
+                default -> {
+                    if (elementDepth == 1) {
+                        element.set(elementField, parser);
+                    }
+                }
+            }
+            if (elementDepth > 0) {
+                return null;
+            }
+            EmployeeResponseDto completed = element.build();
+            element = null;
+            return completed;
+        }
+    }
+}
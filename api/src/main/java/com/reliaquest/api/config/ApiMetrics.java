@@ -0,0 +1,134 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterChangeSubscriber;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.connector.EmployeeConnectorImpl;
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.resilience.ConnectorResilience;
+import com.reliaquest.api.resilience.RetryPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the counters the caches, single flights, limiter and retry policies already keep, so they are scraped
+ * alongside the request and upstream call timers instead of being read from logs.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiMetrics implements MeterBinder {
+
+    private final EmployeeRosterCache rosterCache;
+    private final RosterChangeSubscriber changeSubscriber;
+    private final EmployeeConnectorImpl employeeConnector;
+    private final ConnectorResilience resilience;
+
+    /**
+     * Meters hold their source only weakly; every source here is a singleton bean or owned by one.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindRosterCache(registry);
+        bindChangeFeed(registry);
+        bindUpstream(registry);
+    }
+
+    private void bindRosterCache(MeterRegistry registry) {
+        FunctionCounter.builder("employee.roster.cache.reads", rosterCache, c -> c.getStats()
+                        .hits())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.reads", rosterCache, c -> c.getStats()
+                        .staleHits())
+                .tag("result", "stale")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.reads", rosterCache, c -> c.getStats()
+                        .misses())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.refreshes", rosterCache, c -> c.getStats()
+                        .refreshes())
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.cache.refreshes", rosterCache, c -> c.getStats()
+                        .refreshFailures())
+                .tag("result", "failure")
+                .register(registry);
+        Gauge.builder("employee.roster.cache.size", rosterCache, c -> c.getStats()
+                        .size())
+                .register(registry);
+        Gauge.builder("employee.roster.cache.version", rosterCache, c -> c.getStats()
+                        .version())
+                .register(registry);
+    }
+
+    private void bindChangeFeed(MeterRegistry registry) {
+        FunctionCounter.builder("employee.roster.feed.changes", changeSubscriber, f -> f.stats()
+                        .applied())
+                .tag("result", "applied")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.feed.changes", changeSubscriber, f -> f.stats()
+                        .skipped())
+                .tag("result", "skipped")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.feed.resets", changeSubscriber, f -> f.stats()
+                        .resets())
+                .register(registry);
+        FunctionCounter.builder("employee.roster.feed.reconnects", changeSubscriber, f -> f.stats()
+                        .reconnects())
+                .register(registry);
+        Gauge.builder("employee.roster.feed.version", changeSubscriber, f -> f.stats()
+                        .version())
+                .register(registry);
+    }
+
+    private void bindUpstream(MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "employee.upstream.single.flight.calls", employeeConnector, c -> c.getRosterFlightStats()
+                                .executions())
+                .tag("flight", "roster")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.upstream.single.flight.collapsed", employeeConnector, c -> c.getRosterFlightStats()
+                                .collapsed())
+                .tag("flight", "roster")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.upstream.single.flight.calls", employeeConnector, c -> c.getEmployeeByIdFlightStats()
+                                .executions())
+                .tag("flight", "employee-by-id")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.upstream.single.flight.collapsed",
+                        employeeConnector,
+                        c -> c.getEmployeeByIdFlightStats().collapsed())
+                .tag("flight", "employee-by-id")
+                .register(registry);
+
+        AdaptiveConcurrencyLimiter limiter = resilience.getLimiter();
+        Gauge.builder("employee.upstream.limiter.limit", limiter, l -> l.stats().limit())
+                .register(registry);
+        Gauge.builder("employee.upstream.limiter.in.flight", limiter, l -> l.stats()
+                        .inFlight())
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.limiter.rejected", limiter, l -> l.stats()
+                        .rejected())
+                .register(registry);
+
+        for (ConnectorOperation operation : ConnectorOperation.values()) {
+            RetryPolicy retryPolicy = resilience.retryPolicy(operation);
+            FunctionCounter.builder("employee.upstream.retries", retryPolicy, r -> r.stats()
+                            .retries())
+                    .tag("operation", operation.getKey())
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.retry.budget.exhausted", retryPolicy, r -> r.stats()
+                            .budgetExhausted())
+                    .tag("operation", operation.getKey())
+                    .register(registry);
+        }
+    }
+}
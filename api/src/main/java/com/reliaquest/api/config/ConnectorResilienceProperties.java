@@ -0,0 +1,214 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Protection applied around every call the employee connector makes to the mock employee API.
+ *
+ * <p>The adaptive limiter is shared by all operations because the upstream enforces a single quota. Circuit breaker
+ * and bulkhead settings apply to each operation separately. An entry under {@link #getOperations()} changes only the
+ * settings it names for that operation; everything it leaves out keeps the global value.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.resilience")
+public class ConnectorResilienceProperties {
+
+    private Limiter limiter = new Limiter();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+    private Retry retry = new Retry();
+
+    /**
+     * Per-operation overrides keyed by operation name, e.g. {@code create-employee}.
+     */
+    private Map<String, Operation> operations = new HashMap<>();
+
+    public CircuitBreaker circuitBreakerFor(String operation) {
+        Operation override = operations.get(operation);
+        return override == null || override.getCircuitBreaker() == null
+                ? circuitBreaker
+                : override.getCircuitBreaker().applyTo(circuitBreaker);
+    }
+
+    public Bulkhead bulkheadFor(String operation) {
+        Operation override = operations.get(operation);
+        return override == null || override.getBulkhead() == null
+                ? bulkhead
+                : override.getBulkhead().applyTo(bulkhead);
+    }
+
+    public Retry retryFor(String operation) {
+        Operation override = operations.get(operation);
+        return override == null || override.getRetry() == null
+                ? retry
+                : override.getRetry().applyTo(retry);
+    }
+
+    @Data
+    public static class Limiter {
+
+        private boolean enabled = true;
+        private int initialLimit = 4;
+        private int minLimit = 1;
+        private int maxLimit = 64;
+
+        /**
+         * Factor the limit is multiplied by when the upstream signals overload (429 or timeout).
+         */
+        private double backoffRatio = 0.5;
+
+        /**
+         * A call slower than this multiple of the fastest observed round trip is treated as queueing upstream.
+         */
+        private double latencyTolerance = 2.0;
+
+        /**
+         * Slowdowns smaller than this are jitter, never congestion.
+         */
+        private Duration latencyNoiseFloor = Duration.ofMillis(20);
+
+        /**
+         * Number of samples after which the baseline round trip is re-learned.
+         */
+        private int baselineResetSamples = 500;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 2;
+    }
+
+    @Data
+    public static class Bulkhead {
+
+        private int maxConcurrentCalls = 25;
+        private Duration maxWaitDuration = Duration.ZERO;
+    }
+
+    /**
+     * Exponential backoff with full jitter, bounded by a retry budget so retries cannot multiply load during an outage.
+     */
+    @Data
+    public static class Retry {
+
+        private boolean enabled = true;
+
+        /**
+         * Total attempts including the first one.
+         */
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        /**
+         * A Retry-After longer than this is passed on to the caller instead of being waited out.
+         */
+        private Duration maxRetryAfter = Duration.ofSeconds(5);
+
+        /**
+         * Retries earned per call, i.e. the share of traffic that may be retries once the reserve is spent.
+         */
+        private double budgetRatio = 0.2;
+
+        /**
+         * Retries allowed each second regardless of traffic, so a quiet operation can still retry.
+         */
+        private int budgetMinRetriesPerSecond = 1;
+
+        /**
+         * Largest number of retries the budget can hold in reserve.
+         */
+        private int budgetCapacity = 10;
+    }
+
+    /**
+     * Settings of one operation that differ from the global ones; a null field keeps the global value.
+     */
+    @Data
+    public static class Operation {
+
+        private CircuitBreakerOverride circuitBreaker;
+        private BulkheadOverride bulkhead;
+        private RetryOverride retry;
+    }
+
+    @Data
+    public static class CircuitBreakerOverride {
+
+        private Float failureRateThreshold;
+        private Integer slidingWindowSize;
+        private Integer minimumNumberOfCalls;
+        private Duration waitDurationInOpenState;
+        private Integer permittedCallsInHalfOpenState;
+
+        CircuitBreaker applyTo(CircuitBreaker global) {
+            CircuitBreaker merged = new CircuitBreaker();
+            merged.setFailureRateThreshold(
+                    failureRateThreshold != null ? failureRateThreshold : global.getFailureRateThreshold());
+            merged.setSlidingWindowSize(slidingWindowSize != null ? slidingWindowSize : global.getSlidingWindowSize());
+            merged.setMinimumNumberOfCalls(
+                    minimumNumberOfCalls != null ? minimumNumberOfCalls : global.getMinimumNumberOfCalls());
+            merged.setWaitDurationInOpenState(
+                    waitDurationInOpenState != null ? waitDurationInOpenState : global.getWaitDurationInOpenState());
+            merged.setPermittedCallsInHalfOpenState(
+                    permittedCallsInHalfOpenState != null
+                            ? permittedCallsInHalfOpenState
+                            : global.getPermittedCallsInHalfOpenState());
+            return merged;
+        }
+    }
+
+    @Data
+    public static class BulkheadOverride {
+
+        private Integer maxConcurrentCalls;
+        private Duration maxWaitDuration;
+
+        Bulkhead applyTo(Bulkhead global) {
+            Bulkhead merged = new Bulkhead();
+            merged.setMaxConcurrentCalls(
+                    maxConcurrentCalls != null ? maxConcurrentCalls : global.getMaxConcurrentCalls());
+            merged.setMaxWaitDuration(maxWaitDuration != null ? maxWaitDuration : global.getMaxWaitDuration());
+            return merged;
+        }
+    }
+
+    @Data
+    public static class RetryOverride {
+
+        private Boolean enabled;
+        private Integer maxAttempts;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private Duration maxRetryAfter;
+        private Double budgetRatio;
+        private Integer budgetMinRetriesPerSecond;
+        private Integer budgetCapacity;
+
+        Retry applyTo(Retry global) {
+            Retry merged = new Retry();
+            merged.setEnabled(enabled != null ? enabled : global.isEnabled());
+            merged.setMaxAttempts(maxAttempts != null ? maxAttempts : global.getMaxAttempts());
+            merged.setInitialBackoff(initialBackoff != null ? initialBackoff : global.getInitialBackoff());
+            merged.setMaxBackoff(maxBackoff != null ? maxBackoff : global.getMaxBackoff());
+            merged.setMaxRetryAfter(maxRetryAfter != null ? maxRetryAfter : global.getMaxRetryAfter());
+            merged.setBudgetRatio(budgetRatio != null ? budgetRatio : global.getBudgetRatio());
+            merged.setBudgetMinRetriesPerSecond(
+                    budgetMinRetriesPerSecond != null
+                            ? budgetMinRetriesPerSecond
+                            : global.getBudgetMinRetriesPerSecond());
+            merged.setBudgetCapacity(budgetCapacity != null ? budgetCapacity : global.getBudgetCapacity());
+            return merged;
+        }
+    }
+}
@@ -4,4 +4,6 @@ public class Constants {
     //    TODO: Move this to application.properties file or some configuration file.
     public static final String EMPLOYEE_BASE_PATH = "/employee";
     public static final String EMPLOYEE_BY_ID_PATH = EMPLOYEE_BASE_PATH + "/{id}";
+    public static final String EMPLOYEE_BULK_PATH = EMPLOYEE_BASE_PATH + "/bulk";
+    public static final String EMPLOYEE_CHANGES_PATH = EMPLOYEE_BASE_PATH + "/changes";
 }
@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.codec.EmployeeJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registered on the auto-configured {@code ObjectMapper}, which the MVC message converters use for responses and
+     * {@link WebClientConfig} for upstream calls.
+     */
+    @Bean
+    public EmployeeJsonModule employeeJsonModule() {
+        return new EmployeeJsonModule();
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request latency breakdown: a correlation id forwarded upstream, a {@code Server-Timing} header and a sampled log
+ * line per request.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.timing")
+public class RequestTimingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Sends the breakdown to clients in a {@code Server-Timing} header.
+     */
+    private boolean serverTimingHeader = true;
+
+    /**
+     * Share of requests whose breakdown is logged, between 0 and 1.
+     */
+    private double logSampleRate = 0.01;
+
+    /**
+     * Requests taking at least this long are always logged.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
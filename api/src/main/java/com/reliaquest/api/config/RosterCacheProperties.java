@@ -0,0 +1,49 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the in-memory roster snapshot held in front of the mock employee API.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.roster-cache")
+public class RosterCacheProperties {
+
+    /**
+     * How long a fetched roster is served as fresh.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * How long past {@link #ttl} a roster may still be served while a refresh runs in the background.
+     */
+    private Duration maxStale = Duration.ofMinutes(5);
+
+    /**
+     * Interval of the proactive background refresh; zero or negative disables it.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(20);
+
+    private Feed feed = new Feed();
+
+    /**
+     * Keeps the roster current by following the upstream change feed instead of re-downloading it. While the feed is
+     * connected the roster never goes stale and is not polled.
+     */
+    @Data
+    public static class Feed {
+
+        private boolean enabled = true;
+
+        /**
+         * Longest silence tolerated on the feed before reconnecting; the upstream sends heartbeats well within it.
+         */
+        private Duration idleTimeout = Duration.ofSeconds(45);
+
+        private Duration minReconnectDelay = Duration.ofSeconds(1);
+
+        private Duration maxReconnectDelay = Duration.ofSeconds(30);
+    }
+}
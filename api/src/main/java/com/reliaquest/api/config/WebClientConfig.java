@@ -1,19 +1,82 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.timing.UpstreamTiming;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(WebClientProperties properties) {
+        WebClientProperties.Pool pool = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(pool.isMetrics());
+        return (pool.isLifo() ? builder.lifo() : builder.fifo()).build();
+    }
+
+    /**
+     * Upstream JSON goes through the application's {@code ObjectMapper}, so the hand-written employee codecs of
+     * {@link JacksonConfig} decode it rather than reflective bean mapping.
+     */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(
+            WebClientProperties properties, ConnectionProvider employeeConnectionProvider, ObjectMapper objectMapper) {
+        HttpClient httpClient = HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)
+                        properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .responseTimeout(properties.getResponseTimeout())
+                .compress(properties.isCompress())
+                .metrics(properties.getPool().isMetrics(), WebClientConfig::uriTag)
+                .doAfterRequest((request, connection) -> UpstreamTiming.requestSent(request.currentContextView()));
+        if (properties.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
         return WebClient.builder()
-                // TODO: read port from some configuration file
-                .baseUrl("http://localhost:8112/api/v1")
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().maxInMemorySize((int)
+                            properties.getMaxInMemorySize().toBytes());
+                })
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .filter(UpstreamTiming.filter())
                 .build();
     }
+
+    /**
+     * Collapses employee ids out of the client metrics' uri tag to keep its cardinality bounded.
+     */
+    static String uriTag(String uri) {
+        String path = uri.contains("?") ? uri.substring(0, uri.indexOf('?')) : uri;
+        if (path.endsWith(Constants.EMPLOYEE_BULK_PATH)) {
+            return Constants.EMPLOYEE_BULK_PATH;
+        }
+        if (path.endsWith(Constants.EMPLOYEE_CHANGES_PATH)) {
+            return Constants.EMPLOYEE_CHANGES_PATH;
+        }
+        return path.contains(Constants.EMPLOYEE_BASE_PATH + "/")
+                ? Constants.EMPLOYEE_BY_ID_PATH
+                : Constants.EMPLOYEE_BASE_PATH;
+    }
 }
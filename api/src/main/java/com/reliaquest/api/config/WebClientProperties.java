@@ -0,0 +1,127 @@
+package com.reliaquest.api.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * HTTP client used to reach the mock employee API: where it lives, how connections are pooled and how long each phase
+ * of a call may take.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "employee.client")
+public class WebClientProperties {
+
+    private String baseUrl = "http://localhost:8112/api/v1";
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Longest wait for the response headers, and afterwards for each chunk of the body.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Sends Accept-Encoding: gzip and transparently inflates compressed responses.
+     */
+    private boolean compress = true;
+
+    /**
+     * Enables TCP keep-alive probes on pooled connections.
+     */
+    private boolean keepAlive = true;
+
+    /**
+     * Negotiates HTTP/2 over cleartext, falling back to HTTP/1.1 when the upstream does not upgrade.
+     */
+    private boolean http2 = false;
+
+    /**
+     * Largest body a codec may aggregate in memory; the roster itself is decoded as a stream and is not bound by it.
+     */
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(2);
+
+    private Pool pool = new Pool();
+
+    @Valid
+    private Paging paging = new Paging();
+
+    private Bulk bulk = new Bulk();
+
+    /**
+     * Fetches the roster in pages instead of one response.
+     */
+    @Data
+    public static class Paging {
+
+        /**
+         * Employees per page; zero or negative fetches the whole roster in a single response. The mock API refuses
+         * pages larger than 10000.
+         */
+        @Max(10_000)
+        private int pageSize = 0;
+
+        /**
+         * Pages requested at the same time. They are still emitted in roster order.
+         */
+        private int concurrency = 4;
+    }
+
+    /**
+     * Splits bulk creates and deletes into several upstream calls.
+     */
+    @Data
+    public static class Bulk {
+
+        /**
+         * Items per upstream call; the mock API refuses more than 1000.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Chunks sent at the same time. Results are still reported in the order the items were given.
+         */
+        private int concurrency = 2;
+    }
+
+    @Data
+    public static class Pool {
+
+        private String name = "employee-api";
+        private int maxConnections = 50;
+
+        /**
+         * Callers allowed to wait for a connection once all are in use; beyond this they fail immediately.
+         */
+        private int pendingAcquireMaxCount = 200;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Idle connections are closed after this long, before the upstream's own keep-alive timeout can race us.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(20);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /**
+         * Period of the background sweep that closes idle and expired connections; zero only evicts on acquire.
+         */
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        /**
+         * Hands out the most recently released connection first, so surplus connections go idle and get evicted.
+         */
+        private boolean lifo = true;
+
+        /**
+         * Publishes active, idle, pending and acquire-time meters for the pool to Micrometer.
+         */
+        private boolean metrics = true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.connector;
+
+import lombok.Getter;
+
+/**
+ * Upstream operations of {@link EmployeeConnector}, named the way they appear in configuration.
+ */
+@Getter
+public enum ConnectorOperation {
+    GET_ALL_EMPLOYEES("get-all-employees", true),
+    GET_EMPLOYEE_BY_ID("get-employee-by-id", true),
+    CREATE_EMPLOYEE("create-employee", true),
+    DELETE_EMPLOYEE("delete-employee", false),
+    BULK_CREATE_EMPLOYEES("bulk-create-employees", false),
+    BULK_DELETE_EMPLOYEES("bulk-delete-employees", false);
+
+    private final String key;
+
+    /**
+     * Whether repeating the call cannot change the outcome, which makes it safe to retry after any transient failure.
+     * Creating is, because every attempt carries the same idempotency key. Other operations are only retried when the
+     * upstream never acted on the first attempt: a delete repeated after the upstream applied it reports the employee
+     * as not found, and bulk requests carry no key.
+     */
+    private final boolean idempotent;
+
+    ConnectorOperation(String key, boolean idempotent) {
+        this.key = key;
+        this.idempotent = idempotent;
+    }
+}
@@ -1,7 +1,10 @@
 package com.reliaquest.api.connector;
 
+import com.reliaquest.api.dto.BulkItemResult;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -12,5 +15,27 @@ public interface EmployeeConnector {
 
     Mono<EmployeeResponseDto> createEmployee(EmployeeDto employeeDto);
 
-    Mono<Void> deleteEmployeeByName(String name);
+    Mono<Void> deleteEmployeeById(String id);
+
+    /**
+     * Creates the employees in as many upstream calls as the configured chunk size requires, emitting one result per
+     * employee in the order given. A chunk that fails as a whole reports its error for each of its employees.
+     */
+    Flux<BulkItemResult> createEmployees(List<EmployeeDto> employees);
+
+    /**
+     * Deletes the employees with the given ids, chunked and reported like {@link #createEmployees(List)}.
+     */
+    Flux<BulkItemResult> deleteEmployeesById(List<String> ids);
+
+    /**
+     * The whole roster together with its position on the change feed.
+     */
+    Mono<VersionedRoster> getVersionedRoster();
+
+    /**
+     * Live feed of roster changes after {@code version} of {@code epoch}; without a resumable position it starts with
+     * a reset. The feed never completes on its own and is not subject to the call limits of the other operations.
+     */
+    Flux<EmployeeChangeEvent> streamChanges(String epoch, Long version);
 }
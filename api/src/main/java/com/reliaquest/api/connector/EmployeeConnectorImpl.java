@@ -1,42 +1,176 @@
 package com.reliaquest.api.connector;
 
 import static com.reliaquest.api.config.Constants.EMPLOYEE_BASE_PATH;
+import static com.reliaquest.api.config.Constants.EMPLOYEE_BULK_PATH;
 import static com.reliaquest.api.config.Constants.EMPLOYEE_BY_ID_PATH;
+import static com.reliaquest.api.config.Constants.EMPLOYEE_CHANGES_PATH;
 
+import com.reliaquest.api.codec.EmployeeStreamDecoder;
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.config.WebClientProperties;
 import com.reliaquest.api.dto.*;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.resilience.ConnectorResilience;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeConnectorImpl implements EmployeeConnector {
 
+    private static final String ROSTER_KEY = "roster";
+    private static final String NOT_FOUND = "Employee not found";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String ROSTER_EPOCH_HEADER = "X-Roster-Epoch";
+    static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final ParameterizedTypeReference<ServerSentEvent<EmployeeChangeEvent>> CHANGE_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final ConnectorResilience resilience;
+    private final WebClientProperties clientProperties;
+    private final RosterCacheProperties rosterCacheProperties;
+    private final SingleFlight<String, EmployeeResponseDto> rosterFlight = new SingleFlight<>();
+    private final SingleFlight<String, EmployeeResponseDto> employeeByIdFlight = new SingleFlight<>();
+    private final EmployeeStreamDecoder employeeStreamDecoder =
+            new EmployeeStreamDecoder(Jackson2ObjectMapperBuilder.json().build());
 
     @Override
     public Flux<EmployeeResponseDto> getAllEmployees() {
+        int pageSize = clientProperties.getPaging().getPageSize();
+        if (pageSize > 0) {
+            return rosterFlight.flux(ROSTER_KEY, () -> fetchAllEmployeesInPages(pageSize));
+        }
+        return rosterFlight.flux(
+                ROSTER_KEY, () -> resilience.decorate(ConnectorOperation.GET_ALL_EMPLOYEES, fetchAllEmployees()));
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> getEmployeeById(String id) {
+        return employeeByIdFlight.mono(
+                id, () -> resilience.decorate(ConnectorOperation.GET_EMPLOYEE_BY_ID, fetchEmployeeById(id)));
+    }
+
+    public SingleFlight.Stats getRosterFlightStats() {
+        return rosterFlight.stats();
+    }
+
+    public SingleFlight.Stats getEmployeeByIdFlightStats() {
+        return employeeByIdFlight.stats();
+    }
+
+    private Flux<EmployeeResponseDto> fetchAllEmployees() {
         return webClient
                 .get()
                 .uri(EMPLOYEE_BASE_PATH)
                 .retrieve()
-                .bodyToFlux(EmployeesResponseWrapper.class)
-                .doOnNext(response -> log.debug("Response status of getAllEmployees: {}", response.getStatus()))
-                .flatMap(wrapper -> Flux.fromIterable(wrapper.getData()))
+                .bodyToFlux(DataBuffer.class)
+                .transform(body -> employeeStreamDecoder.decode(
+                        body, status -> log.debug("Response status of getAllEmployees: {}", status)))
                 .onErrorResume(this::handleError);
     }
 
-    @Override
-    public Mono<EmployeeResponseDto> getEmployeeById(String id) {
+    /**
+     * Reads the first page to learn the roster size, then requests the remaining pages by offset with bounded
+     * parallelism and emits them in order. Each page is a separate upstream call with its own retries.
+     *
+     * <p>Offsets only line up while the upstream roster stays the same, so every page must have been cut at the
+     * version of the first. From the first page that was not, the remaining offset pages are dropped and the walk
+     * continues one page at a time from the keyset cursor of the last consistent page, which keeps its place while
+     * employees are created and deleted.
+     */
+    private Flux<EmployeeResponseDto> fetchAllEmployeesInPages(int pageSize) {
+        int concurrency = Math.max(1, clientProperties.getPaging().getConcurrency());
+        return fetchPage(pageSize, 0L, null)
+                .flatMapMany(first -> {
+                    if (first.version() < 0) {
+                        return Flux.just(first).concatWith(pagesAfter(first, pageSize));
+                    }
+                    int pages = (int) Math.min(Integer.MAX_VALUE, ((long) first.total() + pageSize - 1) / pageSize);
+                    AtomicReference<RosterPage> lastConsistent = new AtomicReference<>(first);
+                    Flux<RosterPage> rest = Flux.range(1, Math.max(0, pages - 1))
+                            .flatMapSequential(
+                                    page -> fetchPage(pageSize, (long) page * pageSize, null), concurrency, 1)
+                            .takeWhile(page -> page.version() == first.version())
+                            .doOnNext(lastConsistent::set);
+                    return Flux.just(first)
+                            .concatWith(rest)
+                            .concatWith(Flux.defer(() -> pagesAfter(lastConsistent.get(), pageSize)));
+                })
+                .concatMapIterable(RosterPage::employees);
+    }
+
+    private Flux<RosterPage> pagesAfter(RosterPage page, int pageSize) {
+        if (page.nextCursor() == null) {
+            return Flux.empty();
+        }
+        return fetchPage(pageSize, null, page.nextCursor())
+                .expand(next ->
+                        next.nextCursor() == null ? Mono.empty() : fetchPage(pageSize, null, next.nextCursor()));
+    }
+
+    /**
+     * Reads one page, at {@code offset} when given and otherwise after {@code cursor}.
+     */
+    private Mono<RosterPage> fetchPage(int limit, Long offset, String cursor) {
+        Mono<RosterPage> page = webClient
+                .get()
+                .uri(uri -> uri.path(EMPLOYEE_BASE_PATH)
+                        .queryParam("limit", limit)
+                        .queryParamIfPresent("offset", Optional.ofNullable(offset))
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .retrieve()
+                .toEntity(EmployeesResponseWrapper.class)
+                .map(response -> {
+                    List<EmployeeResponseDto> employees =
+                            response.getBody() == null || response.getBody().getData() == null
+                                    ? List.of()
+                                    : response.getBody().getData();
+                    HttpHeaders headers = response.getHeaders();
+                    String total = headers.getFirst(TOTAL_COUNT_HEADER);
+                    String version = headers.getFirst(ROSTER_VERSION_HEADER);
+                    return new RosterPage(
+                            total == null ? employees.size() : Integer.parseInt(total),
+                            version == null ? -1 : Long.parseLong(version),
+                            headers.getFirst(NEXT_CURSOR_HEADER),
+                            employees);
+                })
+                .onErrorResume(this::handleError);
+        return resilience.decorate(ConnectorOperation.GET_ALL_EMPLOYEES, page);
+    }
+
+    private Mono<EmployeeResponseDto> fetchEmployeeById(String id) {
         return webClient
                 .get()
                 .uri(EMPLOYEE_BY_ID_PATH, id)
@@ -52,11 +186,41 @@ public class EmployeeConnectorImpl implements EmployeeConnector {
                 });
     }
 
+    /**
+     * Every attempt of one create carries the same {@value #IDEMPOTENCY_KEY_HEADER}, which the upstream answers with
+     * the employee the first attempt created; that makes a create safe to retry after any transient failure.
+     */
     @Override
     public Mono<EmployeeResponseDto> createEmployee(EmployeeDto employeeDto) {
+        return Mono.defer(() -> resilience.decorate(
+                ConnectorOperation.CREATE_EMPLOYEE,
+                postEmployee(employeeDto, UUID.randomUUID().toString())));
+    }
+
+    /**
+     * Goes through the bulk endpoint, the only one that deletes by id; deleting by name could remove a namesake.
+     */
+    @Override
+    public Mono<Void> deleteEmployeeById(String id) {
+        Mono<Void> delete = sendBulk(HttpMethod.DELETE, new BulkDeleteEmployeeInput(List.of(id)), 1, "deleteEmployee")
+                .flatMap(results -> {
+                    BulkItemResult result = results.get(0);
+                    if (result.isSucceeded()) {
+                        return Mono.<Void>empty();
+                    }
+                    return Mono.error(
+                            NOT_FOUND.equals(result.getError())
+                                    ? new EmployeeNotFoundException(id)
+                                    : new EmployeeApiException(result.getError()));
+                });
+        return resilience.decorate(ConnectorOperation.DELETE_EMPLOYEE, delete);
+    }
+
+    private Mono<EmployeeResponseDto> postEmployee(EmployeeDto employeeDto, String idempotencyKey) {
         return webClient
                 .post()
                 .uri(EMPLOYEE_BASE_PATH)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
                 .bodyValue(employeeDto)
                 .retrieve()
                 .bodyToMono(CreateEmployeeResponseWrapper.class)
@@ -65,28 +229,174 @@ public class EmployeeConnectorImpl implements EmployeeConnector {
                 .onErrorResume(this::handleError);
     }
 
+    /**
+     * A chunk is only retried when the upstream never received it: one that failed after reaching the upstream may have
+     * created some of its employees already.
+     */
     @Override
-    public Mono<Void> deleteEmployeeByName(String name) {
+    public Flux<BulkItemResult> createEmployees(List<EmployeeDto> employees) {
+        return inChunks(
+                employees,
+                chunk -> resilience.decorate(
+                        ConnectorOperation.BULK_CREATE_EMPLOYEES,
+                        sendBulk(HttpMethod.POST, chunk, chunk.size(), "createEmployees")));
+    }
+
+    /**
+     * Retried like {@link #createEmployees(List)}: a chunk repeated after the upstream applied it would report its
+     * deleted employees as not found.
+     */
+    @Override
+    public Flux<BulkItemResult> deleteEmployeesById(List<String> ids) {
+        return inChunks(
+                ids,
+                chunk -> resilience.decorate(
+                        ConnectorOperation.BULK_DELETE_EMPLOYEES,
+                        sendBulk(
+                                HttpMethod.DELETE,
+                                new BulkDeleteEmployeeInput(chunk),
+                                chunk.size(),
+                                "deleteEmployees")));
+    }
+
+    /**
+     * Sends the chunks with bounded parallelism and emits their results in item order. Each chunk is a separate
+     * upstream call with its own limits and retries, and its failure is confined to its own items.
+     */
+    private <T> Flux<BulkItemResult> inChunks(List<T> items, Function<List<T>, Mono<List<BulkItemResult>>> call) {
+        WebClientProperties.Bulk bulk = clientProperties.getBulk();
+        return Flux.fromIterable(items)
+                .buffer(Math.max(1, bulk.getChunkSize()))
+                .flatMapSequential(
+                        chunk -> call.apply(chunk)
+                                .onErrorResume(e -> {
+                                    log.warn("Bulk chunk of {} items failed: {}", chunk.size(), e.getMessage());
+                                    return Mono.just(
+                                            Collections.nCopies(chunk.size(), BulkItemResult.failed(e.getMessage())));
+                                })
+                                .flatMapIterable(Function.identity()),
+                        Math.max(1, bulk.getConcurrency()),
+                        1);
+    }
+
+    private Mono<List<BulkItemResult>> sendBulk(HttpMethod method, Object body, int items, String operation) {
         return webClient
-                .method(HttpMethod.DELETE)
+                .method(method)
+                .uri(EMPLOYEE_BULK_PATH)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(BulkResponseWrapper.class)
+                .doOnNext(response -> log.debug("Response status of {}: {}", operation, response.getStatus()))
+                .flatMap(response -> {
+                    List<BulkItemResponse> results = response.getData() == null ? List.of() : response.getData();
+                    if (results.size() != items) {
+                        return Mono.error(new EmployeeApiException(
+                                "Upstream answered " + results.size() + " results for " + items + " items"));
+                    }
+                    return Mono.just(results.stream()
+                            .map(EmployeeConnectorImpl::toResult)
+                            .toList());
+                })
+                .onErrorResume(e -> e instanceof EmployeeApiException ? Mono.error(e) : handleError(e));
+    }
+
+    private static BulkItemResult toResult(BulkItemResponse response) {
+        if (response.getError() != null) {
+            return BulkItemResult.failed(response.getError());
+        }
+        if (response.getData() == null) {
+            return BulkItemResult.failed(NOT_FOUND);
+        }
+        return BulkItemResult.succeeded(response.getData());
+    }
+
+    @Override
+    public Mono<VersionedRoster> getVersionedRoster() {
+        Mono<VersionedRoster> roster = webClient
+                .get()
                 .uri(EMPLOYEE_BASE_PATH)
-                .bodyValue(new DeleteEmployeeInput(name))
                 .retrieve()
-                .bodyToMono(Void.class)
-                .onErrorResume(e -> {
-                    if (e instanceof WebClientResponseException.NotFound) {
-                        return Mono.error(new EmployeeNotFoundException("Employee not found with name: " + name));
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(response -> employeeStreamDecoder
+                        .decode(
+                                response.getBody(),
+                                status -> log.debug("Response status of getVersionedRoster: {}", status))
+                        .collectList()
+                        .map(employees -> {
+                            String version = response.getHeaders().getFirst(ROSTER_VERSION_HEADER);
+                            return new VersionedRoster(
+                                    response.getHeaders().getFirst(ROSTER_EPOCH_HEADER),
+                                    version == null ? -1 : Long.parseLong(version),
+                                    employees);
+                        }))
+                .onErrorResume(this::handleError);
+        return resilience.decorate(ConnectorOperation.GET_ALL_EMPLOYEES, roster);
+    }
+
+    /**
+     * A single long-lived response, so it bypasses the limiter, bulkhead and circuit breaker: it would hold a permit
+     * for as long as it is connected. Reconnecting is left to the subscriber, which knows where to resume from. The
+     * response timeout is replaced by the feed's idle timeout, which the upstream's heartbeats keep from firing.
+     */
+    @Override
+    public Flux<EmployeeChangeEvent> streamChanges(String epoch, Long version) {
+        Duration idleTimeout = rosterCacheProperties.getFeed().getIdleTimeout();
+        return webClient
+                .get()
+                .uri(uri -> uri.path(EMPLOYEE_CHANGES_PATH)
+                        .queryParamIfPresent("epoch", Optional.ofNullable(epoch))
+                        .queryParamIfPresent("since", Optional.ofNullable(version))
+                        .build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .httpRequest(request -> {
+                    if (request.getNativeRequest() instanceof HttpClientRequest nettyRequest) {
+                        nettyRequest.responseTimeout(idleTimeout);
                     }
-                    return handleError(e).then();
-                });
+                })
+                .retrieve()
+                .bodyToFlux(CHANGE_EVENT_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .onErrorResume(this::handleError);
     }
 
     private <T> Mono<T> handleError(Throwable error) {
-        if (error instanceof WebClientResponseException.TooManyRequests) {
-            log.warn("Rate limit exceeded. Suggesting retry after 60 seconds.");
-            return Mono.error(new TooManyRequestsException("Rate limit exceeded. Please try again after some time."));
+        if (error instanceof WebClientResponseException.TooManyRequests tooManyRequests) {
+            Duration retryAfter = retryAfter(tooManyRequests);
+            log.warn("Rate limit exceeded. Upstream asked to retry after {}.", retryAfter);
+            return Mono.error(new TooManyRequestsException(
+                    "Rate limit exceeded. Please try again after some time.", retryAfter, error));
         }
         log.error("Error occurred while calling employee API", error);
         return Mono.error(new EmployeeApiException("Failed to process request", error));
     }
+
+    /**
+     * Reads Retry-After in either of its forms, delay-seconds or an HTTP date; {@code null} when absent or unreadable.
+     */
+    static Duration retryAfter(WebClientResponseException response) {
+        String value = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant();
+                Duration remaining = Duration.between(Instant.now(), at);
+                return remaining.isNegative() ? Duration.ZERO : remaining;
+            } catch (DateTimeParseException notDate) {
+                log.debug("Ignoring unreadable Retry-After header: {}", value);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @param total roster size reported by the upstream when the page was read
+     * @param version upstream roster version the page was cut at, {@code -1} when the upstream does not report one
+     * @param nextCursor where the following page starts, {@code null} on the last page
+     */
+    private record RosterPage(int total, long version, String nextCursor, List<EmployeeResponseDto> employees) {}
 }
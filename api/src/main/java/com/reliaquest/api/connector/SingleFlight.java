@@ -0,0 +1,70 @@
+package com.reliaquest.api.connector;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Collapses concurrent identical upstream calls into a single in-flight exchange.
+ *
+ * <p>The first subscriber for a key starts the call; everyone who subscribes for the same key while it is running
+ * joins it and receives every element from the beginning, including late joiners. The upstream exchange is cancelled
+ * only once <em>all</em> subscribers have cancelled, and the key is released as soon as the exchange terminates, so
+ * the next caller always starts a fresh call.
+ *
+ * @param <K> key identifying identical calls
+ * @param <T> element type of the call
+ */
+public final class SingleFlight<K, T> {
+
+    private final ConcurrentMap<K, Flux<T>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    public Flux<T> flux(K key, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            Flux<T> running = inFlight.get(key);
+            if (running != null) {
+                collapsed.increment();
+                return running;
+            }
+            Flux<T> shared = share(key, call);
+            Flux<T> winner = inFlight.putIfAbsent(key, shared);
+            if (winner != null) {
+                collapsed.increment();
+                return winner;
+            }
+            executions.increment();
+            return shared;
+        });
+    }
+
+    public Mono<T> mono(K key, Supplier<Mono<T>> call) {
+        return flux(key, () -> call.get().flux()).singleOrEmpty();
+    }
+
+    public Stats stats() {
+        return new Stats(executions.sum(), collapsed.sum(), inFlight.size());
+    }
+
+    private Flux<T> share(K key, Supplier<Flux<T>> call) {
+        AtomicReference<Flux<T>> self = new AtomicReference<>();
+        Flux<T> shared = Flux.defer(call)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .replay()
+                .refCount();
+        self.set(shared);
+        return shared;
+    }
+
+    /**
+     * @param executions upstream calls actually started
+     * @param collapsed calls that joined an exchange already in flight instead of starting their own
+     * @param inFlight keys with an exchange currently running
+     */
+    public record Stats(long executions, long collapsed, int inFlight) {}
+}
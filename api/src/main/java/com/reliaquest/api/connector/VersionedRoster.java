@@ -0,0 +1,12 @@
+package com.reliaquest.api.connector;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
+
+/**
+ * The whole upstream roster together with the position on the change feed it corresponds to.
+ *
+ * @param epoch upstream roster identity, {@code null} when the upstream does not report one
+ * @param version upstream roster version, {@code -1} when the upstream does not report one
+ */
+public record VersionedRoster(String epoch, long version, List<EmployeeResponseDto> employees) {}
@@ -1,15 +1,20 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.dto.BulkItemResult;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.timing.RequestTiming;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -34,9 +39,24 @@ public class EmployeeController {
                     log.info("Retrieved {} employees", employees.size());
                     return ResponseEntity.ok(employees);
                 })
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error fetching all employees", e));
     }
 
+    /**
+     * Streams employees one by one for clients that accept NDJSON or server-sent events; plain JSON clients keep
+     * getting the buffered array from {@link #getAllEmployees()}.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EmployeeResponseDto> streamAllEmployees() {
+        log.info("Received request to stream all employees");
+        return employeeService
+                .getAllEmployees()
+                .doOnComplete(() -> log.info("Finished streaming all employees"))
+                .transform(RequestTiming::bindStream)
+                .doOnError(e -> log.error("Error streaming all employees", e));
+    }
+
     @GetMapping("/search/{searchString}")
     public Mono<ResponseEntity<?>> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.info("Searching employees with name fragment: {}", searchString);
@@ -51,9 +71,22 @@ public class EmployeeController {
                     log.info("Found {} employees for name fragment: {}", employees.size(), searchString);
                     return ResponseEntity.ok(employees);
                 })
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error searching employees with name fragment: {}", searchString, e));
     }
 
+    @GetMapping(
+            value = "/search/{searchString}",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EmployeeResponseDto> streamEmployeesByNameSearch(@PathVariable String searchString) {
+        log.info("Streaming employees with name fragment: {}", searchString);
+        return employeeService
+                .getEmployeesByNameSearch(searchString)
+                .doOnComplete(() -> log.info("Finished streaming employees for name fragment: {}", searchString))
+                .transform(RequestTiming::bindStream)
+                .doOnError(e -> log.error("Error streaming employees with name fragment: {}", searchString, e));
+    }
+
     @GetMapping("/{id}")
     public Mono<ResponseEntity<EmployeeResponseDto>> getEmployeeById(@PathVariable String id) {
         log.info("Fetching employee with id: {}", id);
@@ -67,6 +100,7 @@ public class EmployeeController {
                     log.warn("Employee not found with id: {}", id);
                     return Mono.error(new EmployeeNotFoundException(id));
                 }))
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error fetching employee with id: {}", id, e));
     }
 
@@ -80,6 +114,7 @@ public class EmployeeController {
                     return ResponseEntity.ok(salary);
                 })
                 .defaultIfEmpty(ResponseEntity.noContent().build())
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error fetching highest salary", e));
     }
 
@@ -97,9 +132,32 @@ public class EmployeeController {
                     log.info("Retrieved {} top earning employees", names.size());
                     return ResponseEntity.ok(names);
                 })
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error fetching top earning employees", e));
     }
 
+    @GetMapping("/top-earners")
+    public Mono<ResponseEntity<?>> getTopHighestEarningEmployeeNames(@RequestParam(defaultValue = "10") int k) {
+        log.info("Fetching top {} highest earning employee names", k);
+        if (k < 1) {
+            log.warn("Rejecting top earners request with non-positive k: {}", k);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return employeeService
+                .getTopHighestEarningEmployeeNames(k)
+                .collectList()
+                .map(names -> {
+                    if (names.isEmpty()) {
+                        log.info("No top earners found");
+                        return ResponseEntity.noContent().build();
+                    }
+                    log.info("Retrieved {} top earning employees", names.size());
+                    return ResponseEntity.ok(names);
+                })
+                .transform(RequestTiming::bind)
+                .doOnError(e -> log.error("Error fetching top {} earning employees", k, e));
+    }
+
     @PostMapping
     public Mono<ResponseEntity<EmployeeResponseDto>> createEmployee(@Valid @RequestBody EmployeeDto employeeDto) {
         log.info("Creating new employee: {}", employeeDto);
@@ -109,6 +167,7 @@ public class EmployeeController {
                     log.info("Employee created successfully: {}", createdEmployee);
                     return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
                 })
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error creating employee: {}", employeeDto, e));
     }
 
@@ -125,6 +184,46 @@ public class EmployeeController {
                     log.warn("Attempted to delete non-existent employee with id: {}", id);
                     return Mono.just(ResponseEntity.notFound().build());
                 })
+                .transform(RequestTiming::bind)
                 .doOnError(e -> log.error("Error deleting employee with id: {}", id, e));
     }
+
+    /**
+     * Creates every valid employee; the response lists one result per employee, in request order, and is 200 even
+     * when some of them failed.
+     */
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<List<BulkItemResult>>> createEmployees(@RequestBody List<EmployeeDto> employees) {
+        log.info("Creating {} employees in bulk", employees.size());
+        return employeeService
+                .createEmployees(employees)
+                .map(results -> {
+                    log.info(
+                            "Created {} of {} employees in bulk",
+                            results.stream().filter(BulkItemResult::isSucceeded).count(),
+                            results.size());
+                    return ResponseEntity.ok(results);
+                })
+                .transform(RequestTiming::bind)
+                .doOnError(e -> log.error("Error creating {} employees in bulk", employees.size(), e));
+    }
+
+    /**
+     * Deletes the employees with the given ids, reporting one result per id like {@link #createEmployees(List)}.
+     */
+    @DeleteMapping("/bulk")
+    public Mono<ResponseEntity<List<BulkItemResult>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        log.info("Deleting {} employees in bulk", ids.size());
+        return employeeService
+                .deleteEmployeesById(ids)
+                .map(results -> {
+                    log.info(
+                            "Deleted {} of {} employees in bulk",
+                            results.stream().filter(BulkItemResult::isSucceeded).count(),
+                            results.size());
+                    return ResponseEntity.ok(results);
+                })
+                .transform(RequestTiming::bind)
+                .doOnError(e -> log.error("Error deleting {} employees in bulk", ids.size(), e));
+    }
 }
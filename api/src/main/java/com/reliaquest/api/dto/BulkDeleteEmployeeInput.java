@@ -0,0 +1,16 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of the mock API's bulk delete; this service only ever deletes by id.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDeleteEmployeeInput {
+    private List<String> ids;
+}
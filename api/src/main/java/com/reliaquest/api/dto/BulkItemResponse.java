@@ -0,0 +1,16 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of one item of a bulk call to the mock API: the employee it created or deleted, nothing when a delete found
+ * no match, or an error.
+ */
+@Data
+@AllArgsConstructor
+public class BulkItemResponse {
+    private EmployeeResponseDto data;
+    private String status;
+    private String error;
+}
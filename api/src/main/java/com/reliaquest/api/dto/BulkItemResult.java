@@ -0,0 +1,31 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of one item of a bulk create or delete, reported in the order the items were sent: the employee created or
+ * deleted, or why that item failed.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    private EmployeeResponseDto employee;
+    private String error;
+
+    public static BulkItemResult succeeded(EmployeeResponseDto employee) {
+        return new BulkItemResult(employee, null);
+    }
+
+    public static BulkItemResult failed(String error) {
+        return new BulkItemResult(null, error);
+    }
+
+    @JsonIgnore
+    public boolean isSucceeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkResponseWrapper {
+    private List<BulkItemResponse> data;
+    private String status;
+}
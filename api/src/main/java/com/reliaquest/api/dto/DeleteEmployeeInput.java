@@ -1,12 +0,0 @@
-package com.reliaquest.api.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-public class DeleteEmployeeInput {
-    private String name;
-}
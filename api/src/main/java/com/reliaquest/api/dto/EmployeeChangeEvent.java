@@ -0,0 +1,44 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the mock API's roster change feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeEvent {
+
+    public static final String CREATED = "created";
+    public static final String DELETED = "deleted";
+
+    /**
+     * The requested position cannot be resumed; the roster has to be reloaded.
+     */
+    public static final String RESET = "reset";
+
+    /**
+     * The requested position was found; the changes after it follow.
+     */
+    public static final String RESUMED = "resumed";
+
+    /**
+     * Identity of the upstream roster the versions belong to; it changes when the upstream restarts.
+     */
+    private String epoch;
+
+    /**
+     * Upstream roster version right after this change; consecutive changes differ by exactly one.
+     */
+    private long version;
+
+    private String type;
+
+    /**
+     * The created or deleted employee; absent on {@link #RESET} and {@link #RESUMED}.
+     */
+    private EmployeeResponseDto employee;
+}
@@ -3,6 +3,7 @@ package com.reliaquest.api.exception;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,6 +31,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<Object> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(EmployeeApiException.class)
     public ResponseEntity<Object> handleEmployeeApiException(EmployeeApiException ex) {
         Map<String, Object> body = new HashMap<>();
@@ -63,8 +73,14 @@ public class GlobalExceptionHandler {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("message", ex.getMessage());
-        body.put("retryAfter", "60s");
 
-        return new ResponseEntity<>(body, HttpStatus.TOO_MANY_REQUESTS);
+        HttpHeaders headers = new HttpHeaders();
+        ex.getRetryAfter().ifPresent(retryAfter -> {
+            long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+            body.put("retryAfter", seconds + "s");
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        });
+
+        return new ResponseEntity<>(body, headers, HttpStatus.TOO_MANY_REQUESTS);
     }
 }
@@ -1,7 +1,25 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
+import java.util.Optional;
+
 public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
     public TooManyRequestsException(String message) {
-        super(message);
+        this(message, null, null);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * How long the upstream asked callers to wait, when it said so.
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
     }
 }
@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class UpstreamUnavailableException extends EmployeeApiException {
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
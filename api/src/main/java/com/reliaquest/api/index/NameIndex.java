@@ -0,0 +1,274 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterColumns;
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Case-folded trigram index over employee names, maintained incrementally from the roster cache.
+ *
+ * <p>Every employee gets an ascending document number and each trigram of its folded name points to a posting list of
+ * those numbers. A substring query intersects the postings of the fragment's trigrams, smallest first, and verifies
+ * the few survivors with {@link String#contains}. Fragments shorter than a trigram fall back to a scan over the
+ * pre-folded names. Deleted employees are tombstoned; once tombstones outnumber half the live documents the live ones
+ * are re-indexed into a fresh state, so create and delete churn between roster refreshes neither grows the index
+ * without bound nor leaves searches intersecting dead documents.
+ *
+ * <p>Documents hold the id and folded name only; a search returns ids, which the caller resolves against the roster
+ * snapshot it is answering from.
+ *
+ * <p>There is a single writer (the roster cache); readers never lock. Posting lists and the document table only ever
+ * grow, and each publishes its new size after the element, so readers see a consistent prefix. A compaction builds
+ * its state aside and publishes it whole.
+ */
+@Component
+public class NameIndex implements RosterListener {
+
+    static final int GRAM = 3;
+
+    /**
+     * Tombstones tolerated regardless of roster size, so a small roster is not rebuilt on every delete.
+     */
+    static final int MIN_TOMBSTONES_BEFORE_COMPACTION = 64;
+
+    private volatile State state = new State(16);
+
+    /**
+     * Ids of the employees whose name contains the fragment, ignoring case, in the order they were indexed.
+     */
+    public List<String> search(String fragment) {
+        String folded = fold(fragment);
+        State current = state;
+        if (folded.length() < GRAM) {
+            return current.scan(folded);
+        }
+        return current.lookup(folded);
+    }
+
+    public int size() {
+        return state.liveDocuments;
+    }
+
+    /**
+     * Document numbers handed out in the current state, live or tombstoned.
+     */
+    int documentSlots() {
+        return state.documentCount;
+    }
+
+    @Override
+    public void onRosterReplaced(RosterSnapshot snapshot) {
+        State rebuilt = new State(snapshot.size());
+        RosterColumns columns = snapshot.columns();
+        for (int row = 0; row < columns.size(); row++) {
+            rebuilt.add(columns.id(row), columns.name(row));
+        }
+        state = rebuilt;
+    }
+
+    @Override
+    public void onEmployeeCreated(EmployeeResponseDto employee) {
+        state.add(employee.getId(), employee.getName());
+        compactIfSparse();
+    }
+
+    @Override
+    public void onEmployeeDeleted(String id) {
+        state.remove(id);
+        compactIfSparse();
+    }
+
+    private void compactIfSparse() {
+        State current = state;
+        int tombstones = current.documentCount - current.liveDocuments;
+        if (tombstones > Math.max(MIN_TOMBSTONES_BEFORE_COMPACTION, current.liveDocuments / 2)) {
+            state = current.compacted();
+        }
+    }
+
+    static String fold(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    static long gram(String folded, int offset) {
+        return ((long) folded.charAt(offset) << 32)
+                | ((long) folded.charAt(offset + 1) << 16)
+                | folded.charAt(offset + 2);
+    }
+
+    private record Document(String id, String foldedName) {}
+
+    private static final class State {
+
+        private final Map<Long, Posting> postings = new ConcurrentHashMap<>();
+        private final Map<String, Integer> documentById = new HashMap<>();
+        private volatile Document[] documents;
+        private volatile int documentCount;
+        private volatile int liveDocuments;
+
+        State(int expectedSize) {
+            documents = new Document[Math.max(16, expectedSize)];
+        }
+
+        void add(String id, String name) {
+            remove(id);
+            index(new Document(id, fold(name)));
+        }
+
+        /**
+         * The live documents re-indexed in their current order, without tombstones or their postings.
+         */
+        State compacted() {
+            State compacted = new State(liveDocuments);
+            Document[] table = documents;
+            for (int docId = 0; docId < documentCount; docId++) {
+                if (table[docId] != null) {
+                    compacted.index(table[docId]);
+                }
+            }
+            return compacted;
+        }
+
+        private void index(Document document) {
+            int docId = documentCount;
+            Document[] table = documents;
+            if (docId == table.length) {
+                table = Arrays.copyOf(table, table.length * 2);
+            }
+            table[docId] = document;
+            documents = table;
+            documentCount = docId + 1;
+            documentById.put(document.id(), docId);
+            liveDocuments++;
+
+            String folded = document.foldedName();
+            for (int i = 0; i + GRAM <= folded.length(); i++) {
+                postings.computeIfAbsent(gram(folded, i), ignored -> new Posting())
+                        .append(docId);
+            }
+        }
+
+        void remove(String id) {
+            Integer docId = documentById.remove(id);
+            if (docId != null) {
+                documents[docId] = null;
+                liveDocuments--;
+            }
+        }
+
+        List<String> scan(String folded) {
+            Document[] table = documents;
+            int count = Math.min(documentCount, table.length);
+            List<String> matches = new ArrayList<>();
+            for (int docId = 0; docId < count; docId++) {
+                Document document = table[docId];
+                if (document != null && document.foldedName().contains(folded)) {
+                    matches.add(document.id());
+                }
+            }
+            return matches;
+        }
+
+        List<String> lookup(String folded) {
+            int gramCount = folded.length() - GRAM + 1;
+            PostingView[] lists = new PostingView[gramCount];
+            for (int i = 0; i < gramCount; i++) {
+                Posting posting = postings.get(gram(folded, i));
+                if (posting == null) {
+                    return List.of();
+                }
+                lists[i] = posting.view();
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingView::size));
+
+            int[] candidates = Arrays.copyOf(lists[0].ids(), lists[0].size());
+            int candidateCount = candidates.length;
+            for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+                candidateCount = intersect(candidates, candidateCount, lists[i]);
+            }
+
+            Document[] table = documents;
+            List<String> matches = new ArrayList<>(candidateCount);
+            for (int i = 0; i < candidateCount; i++) {
+                Document document = table[candidates[i]];
+                if (document != null && document.foldedName().contains(folded)) {
+                    matches.add(document.id());
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Intersects the first {@code count} entries of {@code candidates} with {@code other} in place and returns the
+         * new count. Both are ascending; when {@code other} is much longer each candidate is found by binary search
+         * instead of walking the whole list.
+         */
+        private static int intersect(int[] candidates, int count, PostingView other) {
+            int[] ids = other.ids();
+            int size = other.size();
+            boolean gallop = size > count * 8;
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < count && j < size; i++) {
+                int candidate = candidates[i];
+                if (gallop) {
+                    int found = Arrays.binarySearch(ids, j, size, candidate);
+                    if (found >= 0) {
+                        candidates[kept++] = candidate;
+                        j = found + 1;
+                    } else {
+                        j = -found - 1;
+                    }
+                } else {
+                    while (j < size && ids[j] < candidate) {
+                        j++;
+                    }
+                    if (j < size && ids[j] == candidate) {
+                        candidates[kept++] = candidate;
+                    }
+                }
+            }
+            return kept;
+        }
+    }
+
+    private record PostingView(int[] ids, int size) {}
+
+    /**
+     * Ascending, append-only list of document numbers.
+     */
+    private static final class Posting {
+
+        private volatile int[] ids = new int[4];
+        private volatile int size;
+
+        void append(int docId) {
+            int[] current = ids;
+            int currentSize = size;
+            if (currentSize > 0 && current[currentSize - 1] == docId) {
+                return;
+            }
+            if (currentSize == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[currentSize] = docId;
+            ids = current;
+            size = currentSize + 1;
+        }
+
+        PostingView view() {
+            int currentSize = size;
+            return new PostingView(ids, currentSize);
+        }
+    }
+}
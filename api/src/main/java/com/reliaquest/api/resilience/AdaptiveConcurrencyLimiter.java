@@ -0,0 +1,166 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Client-side concurrency limit that learns how much load the upstream accepts.
+ *
+ * <p>Additive increase, multiplicative decrease: every successful call made while at least half the limit was in use
+ * raises the limit by one; a 429, a timeout, or a round trip slower than {@code latencyTolerance} times the fastest
+ * recent one for the same operation multiplies it by {@code backoffRatio}. Calls beyond the current limit are rejected
+ * immediately instead of being sent to an upstream that would reject them anyway.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConnectorResilienceProperties.Limiter settings;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overloads = new LongAdder();
+    private final LongAdder latencyBackoffs = new LongAdder();
+
+    private final Map<ConnectorOperation, Baseline> baselines = new EnumMap<>(ConnectorOperation.class);
+
+    private double limit;
+    private volatile int permits;
+
+    public AdaptiveConcurrencyLimiter(ConnectorResilienceProperties.Limiter settings) {
+        this(settings, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConnectorResilienceProperties.Limiter settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.limit = settings.getInitialLimit();
+        this.permits = settings.getInitialLimit();
+        for (ConnectorOperation operation : ConnectorOperation.values()) {
+            baselines.put(operation, new Baseline());
+        }
+    }
+
+    public <T> Flux<T> limit(ConnectorOperation operation, Flux<T> call) {
+        if (!settings.isEnabled()) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            if (!tryAcquire()) {
+                rejected.increment();
+                return Flux.error(new TooManyRequestsException(
+                        "Upstream concurrency limit of " + permits + " reached. Please try again later."));
+            }
+            long start = nanoClock.getAsLong();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return call.doOnError(failure::set).doFinally(signal -> release(operation, signal, failure.get(), start));
+        });
+    }
+
+    public Stats stats() {
+        return new Stats(permits, inFlight.get(), rejected.sum(), overloads.sum(), latencyBackoffs.sum());
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= permits) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(ConnectorOperation operation, SignalType signal, Throwable failure, long start) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (signal == SignalType.ON_COMPLETE) {
+            onSuccess(baselines.get(operation), nanoClock.getAsLong() - start, inFlightAtCompletion);
+        } else if (signal == SignalType.ON_ERROR && isOverload(failure)) {
+            onOverload();
+        }
+    }
+
+    private synchronized void onSuccess(Baseline baseline, long rttNanos, int inFlightAtCompletion) {
+        long baselineNanos = baseline.update(rttNanos, settings.getBaselineResetSamples());
+        if (rttNanos > baselineNanos * settings.getLatencyTolerance()
+                && rttNanos - baselineNanos > settings.getLatencyNoiseFloor().toNanos()) {
+            latencyBackoffs.increment();
+            decrease();
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            setLimit(Math.min(settings.getMaxLimit(), limit + 1));
+        }
+    }
+
+    private synchronized void onOverload() {
+        overloads.increment();
+        decrease();
+    }
+
+    private void decrease() {
+        setLimit(Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio()));
+    }
+
+    private void setLimit(double newLimit) {
+        int previous = permits;
+        limit = newLimit;
+        permits = (int) newLimit;
+        if (previous != permits) {
+            log.debug("Adjusted upstream concurrency limit from {} to {}", previous, permits);
+        }
+    }
+
+    private static boolean isOverload(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TooManyRequestsException
+                    || cause instanceof TimeoutException
+                    || cause instanceof ReadTimeoutException
+                    || cause instanceof WriteTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fastest recent round trip of one operation; operations differ too much in payload to share a baseline.
+     */
+    private static final class Baseline {
+
+        private long rttNanos = Long.MAX_VALUE;
+        private int samplesSinceReset;
+
+        long update(long sampleNanos, int resetAfterSamples) {
+            if (++samplesSinceReset >= resetAfterSamples) {
+                rttNanos = sampleNanos;
+                samplesSinceReset = 0;
+            } else {
+                rttNanos = Math.min(rttNanos, sampleNanos);
+            }
+            return rttNanos;
+        }
+    }
+
+    /**
+     * @param limit current number of concurrent calls allowed
+     * @param inFlight calls currently holding a permit
+     * @param rejected calls refused because the limit was reached
+     * @param overloads calls the upstream rejected with 429 or that timed out
+     * @param latencyBackoffs decreases triggered by slow round trips
+     */
+    public record Stats(int limit, int inFlight, long rejected, long overloads, long latencyBackoffs) {}
+}
@@ -0,0 +1,178 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Wraps each upstream call of the employee connector in, from the outside in: a per-operation {@link RetryPolicy}, the
+ * shared {@link AdaptiveConcurrencyLimiter}, a per-operation bulkhead and a per-operation circuit breaker. Every retry
+ * therefore goes through the limiter and the circuit breaker again, like any other attempt. The local gates sit outside
+ * the circuit breaker so that their rejections, which never reached the upstream, are not counted as its failures.
+ *
+ * <p>Rejections are translated into the API's own exceptions: a full bulkhead or exhausted limiter becomes
+ * {@link TooManyRequestsException} and an open circuit becomes {@link UpstreamUnavailableException}. A missing employee
+ * is a valid answer and never counts against the circuit.
+ *
+ * <p>Every attempt, local rejections included, is timed as {@value #CALLS_METER} tagged with its operation and
+ * outcome.
+ */
+@Slf4j
+@Component
+public class ConnectorResilience {
+
+    public static final String CALLS_METER = "employee.upstream.calls";
+
+    @Getter
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Getter
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    @Getter
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    private final Map<ConnectorOperation, CircuitBreaker> circuitBreakers = new EnumMap<>(ConnectorOperation.class);
+    private final Map<ConnectorOperation, Bulkhead> bulkheads = new EnumMap<>(ConnectorOperation.class);
+    private final Map<ConnectorOperation, RetryPolicy> retryPolicies = new EnumMap<>(ConnectorOperation.class);
+    private final MeterRegistry meterRegistry;
+
+    public ConnectorResilience(ConnectorResilienceProperties properties) {
+        this(properties, new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public ConnectorResilience(ConnectorResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AdaptiveConcurrencyLimiter(properties.getLimiter());
+        for (ConnectorOperation operation : ConnectorOperation.values()) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(
+                    operation.getKey(), circuitBreakerConfig(properties.circuitBreakerFor(operation.getKey())));
+            circuitBreaker
+                    .getEventPublisher()
+                    .onStateTransition(event -> log.warn(
+                            "Circuit breaker for {} moved {}",
+                            event.getCircuitBreakerName(),
+                            event.getStateTransition()));
+            circuitBreakers.put(operation, circuitBreaker);
+            bulkheads.put(
+                    operation,
+                    bulkheadRegistry.bulkhead(
+                            operation.getKey(), bulkheadConfig(properties.bulkheadFor(operation.getKey()))));
+            retryPolicies.put(operation, new RetryPolicy(operation, properties.retryFor(operation.getKey())));
+        }
+    }
+
+    public <T> Flux<T> decorate(ConnectorOperation operation, Flux<T> call) {
+        return retryPolicies.get(operation).apply(guard(operation, call));
+    }
+
+    public <T> Mono<T> decorate(ConnectorOperation operation, Mono<T> call) {
+        return decorate(operation, call.flux()).singleOrEmpty();
+    }
+
+    public CircuitBreaker circuitBreaker(ConnectorOperation operation) {
+        return circuitBreakers.get(operation);
+    }
+
+    public Bulkhead bulkhead(ConnectorOperation operation) {
+        return bulkheads.get(operation);
+    }
+
+    public RetryPolicy retryPolicy(ConnectorOperation operation) {
+        return retryPolicies.get(operation);
+    }
+
+    private <T> Flux<T> guard(ConnectorOperation operation, Flux<T> call) {
+        Flux<T> breaker = call.transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(operation)))
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(operation)));
+        Flux<T> guarded = limiter.limit(operation, breaker)
+                .onErrorMap(
+                        BulkheadFullException.class,
+                        e -> new TooManyRequestsException(
+                                "Too many concurrent " + operation.getKey() + " calls. Please try again later."))
+                .onErrorMap(
+                        CallNotPermittedException.class,
+                        e -> new UpstreamUnavailableException(
+                                "Employee service is temporarily unavailable for " + operation.getKey(), e));
+        return timed(operation, guarded);
+    }
+
+    private <T> Flux<T> timed(ConnectorOperation operation, Flux<T> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.doOnComplete(() -> record(sample, operation, "success"))
+                    .doOnError(e -> record(sample, operation, outcome(e)))
+                    .doOnCancel(() -> record(sample, operation, "cancelled"));
+        });
+    }
+
+    private void record(Timer.Sample sample, ConnectorOperation operation, String outcome) {
+        sample.stop(Timer.builder(CALLS_METER)
+                .description("Upstream employee API calls, one per attempt")
+                .tag("operation", operation.getKey())
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Separates the upstream's own 429 and 5xx answers from rejections made here before calling it.
+     */
+    static String outcome(Throwable error) {
+        if (error instanceof EmployeeNotFoundException) {
+            return "not_found";
+        }
+        if (error instanceof UpstreamUnavailableException) {
+            return "circuit_open";
+        }
+        if (error instanceof TooManyRequestsException) {
+            return error.getCause() instanceof WebClientResponseException ? "rate_limited" : "rejected";
+        }
+        if (error.getCause() instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+        }
+        return "error";
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(ConnectorResilienceProperties.CircuitBreaker settings) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                .ignoreExceptions(EmployeeNotFoundException.class)
+                .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(ConnectorResilienceProperties.Bulkhead settings) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(settings.getMaxWaitDuration())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that every call pays into and every retry withdraws from.
+ *
+ * <p>Each call deposits {@code ratio} of a retry, and the bucket also refills by {@code minPerSecond} retries every
+ * second, up to {@code capacity}. When the upstream fails everything, retries are therefore limited to roughly
+ * {@code ratio} of the incoming traffic instead of multiplying it by the attempt count. Balances are kept in
+ * thousandths of a retry so fractional ratios need no floating point on the hot path.
+ */
+final class RetryBudget {
+
+    private static final long SCALE = 1000;
+    private static final long MAX_REFILL_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final long depositPerCall;
+    private final long refillPerSecond;
+    private final long capacity;
+    private final LongSupplier nanoClock;
+    private final AtomicLong balance;
+
+    private long lastRefillNanos;
+
+    RetryBudget(double ratio, int minPerSecond, int capacity, LongSupplier nanoClock) {
+        this.depositPerCall = Math.round(ratio * SCALE);
+        this.refillPerSecond = minPerSecond * SCALE;
+        this.capacity = capacity * SCALE;
+        this.nanoClock = nanoClock;
+        this.balance = new AtomicLong(this.capacity);
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    void recordCall() {
+        if (depositPerCall > 0) {
+            deposit(depositPerCall);
+        }
+    }
+
+    synchronized boolean tryWithdraw() {
+        long now = nanoClock.getAsLong();
+        long refill = Math.min(now - lastRefillNanos, MAX_REFILL_NANOS) * refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        if (refill > 0) {
+            lastRefillNanos = now;
+            deposit(refill);
+        }
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Whole retries currently available.
+     */
+    long available() {
+        return balance.get() / SCALE;
+    }
+
+    private void deposit(long amount) {
+        balance.accumulateAndGet(amount, (current, added) -> Math.min(capacity, current + added));
+    }
+}
@@ -0,0 +1,168 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Retries one connector operation after rate limiting and transient upstream failures.
+ *
+ * <p>Only a 429, a 5xx, a connection failure or a timeout is retried, and only while nothing has been emitted yet, so a
+ * half-streamed roster is never replayed. Operations that are not idempotent are retried only when the upstream cannot
+ * have acted on the request: it refused it with a 429, or the connection was never established.
+ *
+ * <p>The n-th retry waits a uniformly random time between zero and {@code initialBackoff * 2^n} (capped at
+ * {@code maxBackoff}); when the upstream sends Retry-After that wait is added on top of it, and a Retry-After beyond
+ * {@code maxRetryAfter} ends the retries so the caller sees it instead. Every retry is paid for from a
+ * {@link RetryBudget}.
+ */
+@Slf4j
+public class RetryPolicy {
+
+    private final ConnectorOperation operation;
+    private final ConnectorResilienceProperties.Retry settings;
+    private final RetryBudget budget;
+    private final DoubleSupplier random;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    public RetryPolicy(ConnectorOperation operation, ConnectorResilienceProperties.Retry settings) {
+        this(operation, settings, System::nanoTime, () -> ThreadLocalRandom.current()
+                .nextDouble());
+    }
+
+    RetryPolicy(
+            ConnectorOperation operation,
+            ConnectorResilienceProperties.Retry settings,
+            LongSupplier nanoClock,
+            DoubleSupplier random) {
+        this.operation = operation;
+        this.settings = settings;
+        this.budget = new RetryBudget(
+                settings.getBudgetRatio(),
+                settings.getBudgetMinRetriesPerSecond(),
+                settings.getBudgetCapacity(),
+                nanoClock);
+        this.random = random;
+    }
+
+    public <T> Flux<T> apply(Flux<T> call) {
+        if (!settings.isEnabled() || settings.getMaxAttempts() <= 1) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            calls.increment();
+            budget.recordCall();
+            AtomicBoolean emitted = new AtomicBoolean();
+            return call.doOnNext(ignored -> emitted.set(true))
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                        Throwable failure = signal.failure();
+                        Duration delay = emitted.get() ? null : delayBefore(signal.totalRetries() + 1, failure);
+                        return delay == null ? Mono.error(failure) : Mono.delay(delay);
+                    })));
+        });
+    }
+
+    public Stats stats() {
+        return new Stats(calls.sum(), retries.sum(), budgetExhausted.sum(), budget.available());
+    }
+
+    /**
+     * Returns how long to wait before the given retry, or {@code null} to give up.
+     */
+    private Duration delayBefore(long retry, Throwable failure) {
+        if (retry >= settings.getMaxAttempts()
+                || !(operation.isIdempotent() ? isRetryable(failure) : isUnsent(failure))) {
+            return null;
+        }
+        Optional<Duration> retryAfter = retryAfter(failure);
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(settings.getMaxRetryAfter()) > 0) {
+            return null;
+        }
+        if (!budget.tryWithdraw()) {
+            budgetExhausted.increment();
+            log.warn("Retry budget for {} exhausted, failing without retry", operation.getKey());
+            return null;
+        }
+        retries.increment();
+        Duration delay = retryAfter.orElse(Duration.ZERO).plus(jitteredBackoff(retry));
+        log.debug("Retrying {} (retry {}) in {} after {}", operation.getKey(), retry, delay, failure.toString());
+        return delay;
+    }
+
+    private Duration jitteredBackoff(long retry) {
+        long ceiling = settings.getMaxBackoff().toNanos();
+        long exponential = settings.getInitialBackoff().toNanos() << Math.min(retry - 1, 30);
+        long bound = exponential <= 0 ? ceiling : Math.min(ceiling, exponential);
+        return Duration.ofNanos((long) (random.getAsDouble() * bound));
+    }
+
+    static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException response) {
+                return response.getStatusCode().value() == 429
+                        || response.getStatusCode().is5xxServerError();
+            }
+            if (cause instanceof WebClientRequestException
+                    || cause instanceof TimeoutException
+                    || cause instanceof ReadTimeoutException
+                    || cause instanceof WriteTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isUnsent(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException response) {
+                return response.getStatusCode().value() == 429;
+            }
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<Duration> retryAfter(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TooManyRequestsException tooManyRequests) {
+                return tooManyRequests.getRetryAfter();
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param calls calls made through this policy, excluding their retries
+     * @param retries additional attempts made after a retryable failure
+     * @param budgetExhausted retryable failures passed on because the budget was empty
+     * @param budgetAvailable whole retries currently left in the budget
+     */
+    public record Stats(long calls, long retries, long budgetExhausted, long budgetAvailable) {
+
+        public long attempts() {
+            return calls + retries;
+        }
+    }
+}
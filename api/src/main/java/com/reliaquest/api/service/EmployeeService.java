@@ -1,7 +1,9 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.dto.BulkItemResult;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.util.List;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,7 +18,19 @@ public interface EmployeeService {
 
     Flux<String> getTop10HighestEarningEmployeeNames();
 
+    Flux<String> getTopHighestEarningEmployeeNames(int k);
+
     Mono<EmployeeResponseDto> createEmployee(EmployeeDto employeeDto);
 
     Mono<Void> deleteEmployeeById(String id);
+
+    /**
+     * One result per employee, in the order given; invalid employees fail without reaching the upstream.
+     */
+    Mono<List<BulkItemResult>> createEmployees(List<EmployeeDto> employees);
+
+    /**
+     * One result per id, in the order given; ids that cannot exist upstream fail without reaching it.
+     */
+    Mono<List<BulkItemResult>> deleteEmployeesById(List<String> ids);
 }
@@ -1,8 +1,22 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
 import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.dto.BulkItemResult;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.index.NameIndex;
+import com.reliaquest.api.timing.RequestTiming;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,47 +29,143 @@ import reactor.core.publisher.Mono;
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeConnector employeeConnector;
+    private final EmployeeRosterCache rosterCache;
+    private final NameIndex nameIndex;
+    private final Validator validator;
 
     @Override
     public Flux<EmployeeResponseDto> getAllEmployees() {
-        return employeeConnector.getAllEmployees();
+        return snapshot().flatMapIterable(RosterSnapshot::employees);
     }
 
     @Override
     public Flux<EmployeeResponseDto> getEmployeesByNameSearch(String nameFragment) {
-        return getAllEmployees()
-                .filter(employee -> employee.getName().toLowerCase().contains(nameFragment.toLowerCase()));
+        return snapshot()
+                .flatMap(snapshot -> RequestTiming.measure("search", () -> nameIndex.search(nameFragment).stream()
+                        .map(snapshot::findById)
+                        .flatMap(Optional::stream)
+                        .toList()))
+                .flatMapIterable(Function.identity());
     }
 
     @Override
     public Mono<EmployeeResponseDto> getEmployeeById(String id) {
-        return employeeConnector.getEmployeeById(id);
+        return rosterCache.findById(id).map(Mono::just).orElseGet(() -> employeeConnector.getEmployeeById(id));
     }
 
     @Override
     public Mono<Integer> getHighestSalaryOfEmployees() {
-        return getAllEmployees().map(EmployeeResponseDto::getSalary).reduce(Integer::max);
+        return snapshot()
+                .flatMap(snapshot -> RequestTiming.measure("rank", snapshot::highestSalary))
+                .flatMap(Mono::justOrEmpty);
     }
 
     @Override
     public Flux<String> getTop10HighestEarningEmployeeNames() {
-        return getAllEmployees()
-                .sort((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
-                .map(EmployeeResponseDto::getName)
-                .take(10);
+        return getTopHighestEarningEmployeeNames(10);
+    }
+
+    @Override
+    public Flux<String> getTopHighestEarningEmployeeNames(int k) {
+        return snapshot()
+                .flatMap(snapshot -> RequestTiming.measure("rank", () -> snapshot.topEarnerNames(k)))
+                .flatMapIterable(Function.identity());
     }
 
     @Override
     public Mono<EmployeeResponseDto> createEmployee(EmployeeDto employeeDto) {
-        return employeeConnector.createEmployee(employeeDto);
+        return employeeConnector.createEmployee(employeeDto).doOnNext(rosterCache::onEmployeeCreated);
     }
 
+    /**
+     * One upstream call per delete and no lookup first: the id goes to the delete-by-id endpoint, so no id-to-name
+     * resolution, cached or fetched, is needed. An id that no longer exists is reported as not found rather than
+     * resolved to a name another employee may share.
+     */
     @Override
     public Mono<Void> deleteEmployeeById(String id) {
-        return employeeConnector.getEmployeeById(id).flatMap(employee -> {
-            String name = employee.getName();
-            log.info("Deleting employee with name: {}", name);
-            return employeeConnector.deleteEmployeeByName(name);
+        if (idError(id) != null) {
+            return Mono.error(new EmployeeNotFoundException(id));
+        }
+        return employeeConnector
+                .deleteEmployeeById(id)
+                .then(Mono.fromRunnable(() -> rosterCache.onEmployeeDeleted(id)));
+    }
+
+    @Override
+    public Mono<List<BulkItemResult>> createEmployees(List<EmployeeDto> employees) {
+        return sendValid(employees, this::validationError, employeeConnector::createEmployees)
+                .doOnNext(results -> results.stream()
+                        .filter(BulkItemResult::isSucceeded)
+                        .map(BulkItemResult::getEmployee)
+                        .forEach(rosterCache::onEmployeeCreated));
+    }
+
+    @Override
+    public Mono<List<BulkItemResult>> deleteEmployeesById(List<String> ids) {
+        return sendValid(ids, EmployeeServiceImpl::idError, employeeConnector::deleteEmployeesById)
+                .doOnNext(results -> results.stream()
+                        .filter(BulkItemResult::isSucceeded)
+                        .map(result -> result.getEmployee().getId())
+                        .forEach(rosterCache::onEmployeeDeleted));
+    }
+
+    /**
+     * The roster, with the time spent waiting for it recorded as the request's {@code roster} stage.
+     */
+    private Mono<RosterSnapshot> snapshot() {
+        return RequestTiming.stage("roster", rosterCache.getSnapshot());
+    }
+
+    /**
+     * Sends only the items without an error upstream and merges the upstream results back into item order.
+     */
+    private <T> Mono<List<BulkItemResult>> sendValid(
+            List<T> items, Function<T, String> error, Function<List<T>, Flux<BulkItemResult>> send) {
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+        List<T> valid = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String message = error.apply(items.get(i));
+            if (message == null) {
+                valid.add(items.get(i));
+            } else {
+                results[i] = BulkItemResult.failed(message);
+            }
+        }
+        Flux<BulkItemResult> sent = valid.isEmpty() ? Flux.empty() : send.apply(valid);
+        return sent.collectList().map(upstream -> {
+            int next = 0;
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    results[i] = next < upstream.size()
+                            ? upstream.get(next++)
+                            : BulkItemResult.failed("Failed to process request");
+                }
+            }
+            return Arrays.asList(results);
         });
     }
+
+    private String validationError(EmployeeDto employee) {
+        if (employee == null) {
+            return "Employee must not be null";
+        }
+        return validator.validate(employee).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .reduce((first, second) -> first + ", " + second)
+                .orElse(null);
+    }
+
+    /**
+     * Upstream ids are UUIDs, so anything else cannot match an employee.
+     */
+    private static String idError(String id) {
+        try {
+            UUID.fromString(id);
+            return null;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return "Employee not found with id: " + id;
+        }
+    }
 }
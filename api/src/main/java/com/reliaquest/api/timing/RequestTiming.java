@@ -0,0 +1,238 @@
+package com.reliaquest.api.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Where one API request spent its time, stage by stage, under a correlation id that also travels to the upstream.
+ *
+ * <p>{@link RequestTimingFilter} starts it; the controller {@link #bind binds} it into the Reactor Context of the
+ * response pipeline, from where the service and the upstream calls record their stages. A stage recorded several
+ * times, e.g. by parallel page fetches, accumulates. Once the response value is ready the breakdown is handed over for
+ * the {@code Server-Timing} header; the time spent writing the response after that only reaches the log.
+ */
+public final class RequestTiming {
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    @Getter
+    private final String correlationId;
+
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private final AtomicBoolean ready = new AtomicBoolean();
+    private final Consumer<String> onReady;
+    private volatile long readyNanos;
+
+    public RequestTiming(String correlationId, Consumer<String> onReady) {
+        this(correlationId, onReady, System::nanoTime);
+    }
+
+    RequestTiming(String correlationId, Consumer<String> onReady, LongSupplier nanoClock) {
+        this.correlationId = correlationId;
+        this.onReady = onReady;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    public long now() {
+        return nanoClock.getAsLong();
+    }
+
+    public void record(String stage, long nanos) {
+        record(stage, nanos, 1);
+    }
+
+    private void record(String stage, long nanos, int count) {
+        synchronized (stages) {
+            stages.computeIfAbsent(stage, name -> new Stage()).add(nanos, count);
+        }
+    }
+
+    /**
+     * Timing of work several requests wait for, such as one upstream fetch shared by concurrent readers. It forwards
+     * the correlation id of the request that started the work and has no header of its own; once the work is done,
+     * {@link #addStagesTo} hands its stages to every request that waited.
+     */
+    public static RequestTiming shared(String correlationId) {
+        return new RequestTiming(correlationId, header -> {});
+    }
+
+    /**
+     * Adds every stage recorded so far, with its call count, to {@code target}.
+     */
+    public void addStagesTo(RequestTiming target) {
+        Map<String, Stage> copy = new LinkedHashMap<>();
+        synchronized (stages) {
+            stages.forEach((name, stage) -> copy.put(name, new Stage(stage)));
+        }
+        copy.forEach((name, stage) -> target.record(name, stage.nanos, stage.count));
+    }
+
+    /**
+     * Binds this timing to a pipeline that runs outside of any request's own pipeline.
+     */
+    public <T> Mono<T> bindTo(Mono<T> pipeline) {
+        return pipeline.contextWrite(Context.of(RequestTiming.class, this));
+    }
+
+    /**
+     * Marks the response value as ready and hands the breakdown so far to the header callback, once.
+     */
+    public void responseReady() {
+        if (ready.compareAndSet(false, true)) {
+            readyNanos = now();
+            onReady.accept(serverTiming());
+        }
+    }
+
+    /**
+     * Stages in the {@code Server-Timing} syntax, milliseconds, followed by the total up to now.
+     */
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder();
+        synchronized (stages) {
+            stages.forEach((name, stage) -> {
+                header.append(name).append(";dur=").append(millis(stage.nanos));
+                if (stage.count > 1) {
+                    header.append(";desc=\"").append(stage.count).append(" calls\"");
+                }
+                header.append(", ");
+            });
+        }
+        return header.append("total;dur=").append(millis(now() - startNanos)).toString();
+    }
+
+    /**
+     * One {@code key=value} pair per stage, then {@code write_ms} and {@code total_ms}, for structured logging at the
+     * end of the request.
+     */
+    public String summary() {
+        long end = now();
+        StringBuilder line = new StringBuilder("correlation_id=").append(correlationId);
+        synchronized (stages) {
+            stages.forEach((name, stage) -> line.append(' ')
+                    .append(name.replace('-', '_'))
+                    .append("_ms=")
+                    .append(millis(stage.nanos)));
+        }
+        if (readyNanos != 0) {
+            line.append(" write_ms=").append(millis(end - readyNanos));
+        }
+        return line.append(" total_ms=").append(millis(end - startNanos)).toString();
+    }
+
+    public long elapsedNanos() {
+        return now() - startNanos;
+    }
+
+    /**
+     * Binds the timing of the request being handled on this thread to the pipeline, records how long it took to be
+     * subscribed and releases the {@code Server-Timing} header with its first signal. Outside a request the pipeline
+     * is returned as is.
+     */
+    public static <T> Mono<T> bind(Mono<T> response) {
+        RequestTiming timing = current();
+        if (timing == null) {
+            return response;
+        }
+        return response.doOnEach(signal -> timing.responseReady())
+                .doOnSubscribe(subscription -> timing.record("subscribe", timing.now() - timing.startNanos))
+                .contextWrite(Context.of(RequestTiming.class, timing));
+    }
+
+    /**
+     * Like {@link #bind(Mono)} for streamed responses, whose headers are sent before the first element, so the
+     * breakdown only reaches the log.
+     */
+    public static <T> Flux<T> bindStream(Flux<T> response) {
+        RequestTiming timing = current();
+        if (timing == null) {
+            return response;
+        }
+        return response.doOnSubscribe(subscription -> timing.record("subscribe", timing.now() - timing.startNanos))
+                .contextWrite(Context.of(RequestTiming.class, timing));
+    }
+
+    public static Optional<RequestTiming> from(ContextView context) {
+        return context.getOrEmpty(RequestTiming.class);
+    }
+
+    /**
+     * Records the time from subscription until the given pipeline emits or terminates as {@code stage}.
+     */
+    public static <T> Mono<T> stage(String stage, Mono<T> pipeline) {
+        return Mono.deferContextual(context -> from(context)
+                .map(timing -> {
+                    long start = timing.now();
+                    AtomicBoolean done = new AtomicBoolean();
+                    return pipeline.doOnEach(signal -> {
+                        if (done.compareAndSet(false, true)) {
+                            timing.record(stage, timing.now() - start);
+                        }
+                    });
+                })
+                .orElse(pipeline));
+    }
+
+    /**
+     * Computes the value on subscription, recording the time it took as {@code stage}.
+     */
+    public static <T> Mono<T> measure(String stage, Supplier<T> computation) {
+        return Mono.deferContextual(context -> {
+            Optional<RequestTiming> timing = from(context);
+            if (timing.isEmpty()) {
+                return Mono.justOrEmpty(computation.get());
+            }
+            long start = timing.get().now();
+            T value = computation.get();
+            timing.get().record(stage, timing.get().now() - start);
+            return Mono.justOrEmpty(value);
+        });
+    }
+
+    private static RequestTiming current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null
+                ? null
+                : (RequestTiming) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static final class Stage {
+        private long nanos;
+        private int count;
+
+        Stage() {}
+
+        Stage(Stage other) {
+            this.nanos = other.nanos;
+            this.count = other.count;
+        }
+
+        void add(long duration, int calls) {
+            nanos += duration;
+            count += calls;
+        }
+    }
+}
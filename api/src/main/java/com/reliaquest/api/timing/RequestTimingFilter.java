@@ -0,0 +1,92 @@
+package com.reliaquest.api.timing;
+
+import com.reliaquest.api.config.RequestTimingProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts a {@link RequestTiming} for every API request, answers with its correlation id and, once the response has
+ * been written, logs the breakdown of a sample of requests and of every slow one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String MDC_KEY = "correlationId";
+
+    private final RequestTimingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String correlationId = request.getHeader(RequestTiming.CORRELATION_ID_HEADER);
+        if (!StringUtils.hasText(correlationId) || correlationId.length() > 128) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        RequestTiming timing = new RequestTiming(correlationId, header -> {
+            if (properties.isServerTimingHeader() && !response.isCommitted()) {
+                response.setHeader(RequestTiming.SERVER_TIMING_HEADER, header);
+            }
+        });
+        request.setAttribute(RequestTiming.ATTRIBUTE, timing);
+        response.setHeader(RequestTiming.CORRELATION_ID_HEADER, correlationId);
+        MDC.put(MDC_KEY, correlationId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    finish(request, response, timing);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {}
+
+                @Override
+                public void onError(AsyncEvent event) {}
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {}
+            });
+        } else {
+            timing.responseReady();
+            finish(request, response, timing);
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        boolean slow = timing.elapsedNanos() >= properties.getSlowThreshold().toNanos();
+        if (slow || ThreadLocalRandom.current().nextDouble() < properties.getLogSampleRate()) {
+            log.info(
+                    "request_timing method={} uri={} status={} slow={} {}",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    response.getStatus(),
+                    slow,
+                    timing.summary());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.timing;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Splits each upstream exchange made for a timed request into {@code upstream-connect} (pool acquire, connect and
+ * sending the request), {@code upstream-wait} (until the response headers arrive) and {@code upstream-body} (reading
+ * and decoding the body), and forwards the request's correlation id.
+ */
+public final class UpstreamTiming {
+
+    private UpstreamTiming() {}
+
+    /**
+     * WebClient side: starts the exchange clock and records the stages once the response arrives and its body ends.
+     */
+    public static ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(context -> RequestTiming.from(context)
+                .map(timing -> {
+                    Exchange exchange = new Exchange(timing);
+                    ClientRequest forwarded = ClientRequest.from(request)
+                            .header(RequestTiming.CORRELATION_ID_HEADER, timing.getCorrelationId())
+                            .build();
+                    return next.exchange(forwarded)
+                            .map(response -> {
+                                long received = timing.now();
+                                long sent = exchange.sent == 0 ? received : exchange.sent;
+                                timing.record("upstream-connect", sent - exchange.start);
+                                timing.record("upstream-wait", received - sent);
+                                Runnable bodyDone = () -> timing.record("upstream-body", timing.now() - received);
+                                return response.mutate()
+                                        .body(body ->
+                                                body.doOnTerminate(bodyDone).doOnCancel(bodyDone))
+                                        .build();
+                            })
+                            .contextWrite(Context.of(Exchange.class, exchange));
+                })
+                .orElseGet(() -> next.exchange(request)));
+    }
+
+    /**
+     * Reactor Netty side: called once the request has been written to the connection.
+     */
+    public static void requestSent(ContextView context) {
+        if (context.hasKey(Exchange.class)) {
+            Exchange exchange = context.get(Exchange.class);
+            exchange.sent = exchange.timing.now();
+        }
+    }
+
+    private static final class Exchange {
+        private final RequestTiming timing;
+        private final long start;
+        private volatile long sent;
+
+        Exchange(RequestTiming timing) {
+            this.timing = timing;
+            this.start = timing.now();
+        }
+    }
+}
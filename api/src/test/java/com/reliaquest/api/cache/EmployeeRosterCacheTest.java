@@ -0,0 +1,251 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.timing.RequestTiming;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class EmployeeRosterCacheTest {
+
+    private static final EmployeeResponseDto JOHN =
+            new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+    private static final EmployeeResponseDto JANE =
+            new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com");
+
+    @Mock
+    private EmployeeConnector employeeConnector;
+
+    @Mock
+    private RosterListener listener;
+
+    private MutableClock clock;
+    private EmployeeRosterCache rosterCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        RosterCacheProperties properties = new RosterCacheProperties();
+        properties.setTtl(Duration.ofSeconds(30));
+        properties.setMaxStale(Duration.ofMinutes(5));
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        rosterCache = new EmployeeRosterCache(employeeConnector, properties, List.of(listener), clock);
+    }
+
+    @Test
+    void getEmployees_FreshSnapshotIsServedFromMemory() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN, JANE));
+
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN, JANE).verifyComplete();
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN, JANE).verifyComplete();
+
+        verify(employeeConnector, times(1)).getAllEmployees();
+        RosterCacheStats stats = rosterCache.getStats();
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.refreshes()).isEqualTo(1);
+    }
+
+    @Test
+    void getEmployees_StaleSnapshotIsServedWhileRevalidating() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN)).thenReturn(Flux.just(JOHN, JANE));
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+
+        clock.advance(Duration.ofMinutes(1));
+
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN, JANE).verifyComplete();
+        assertThat(rosterCache.getStats().staleHits()).isEqualTo(1);
+        assertThat(rosterCache.getStats().version()).isEqualTo(1);
+    }
+
+    @Test
+    void getEmployees_ExpiredSnapshotWaitsForUpstream() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN)).thenReturn(Flux.just(JANE));
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+
+        clock.advance(Duration.ofMinutes(10));
+
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JANE).verifyComplete();
+        assertThat(rosterCache.getStats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void getEmployees_ConcurrentMissesShareOneFetch() {
+        Sinks.Many<EmployeeResponseDto> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        when(employeeConnector.getAllEmployees()).thenReturn(upstream.asFlux());
+
+        StepVerifier first = StepVerifier.create(rosterCache.getEmployees())
+                .expectNext(JOHN)
+                .expectComplete()
+                .verifyLater();
+        StepVerifier second = StepVerifier.create(rosterCache.getEmployees())
+                .expectNext(JOHN)
+                .expectComplete()
+                .verifyLater();
+        upstream.tryEmitNext(JOHN);
+        upstream.tryEmitComplete();
+
+        first.verify();
+        second.verify();
+        verify(employeeConnector, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void getEmployees_SharedFetchForwardsFirstCorrelationIdAndTimesEveryWaitingRequest() {
+        Sinks.Many<EmployeeResponseDto> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicReference<String> forwardedCorrelationId = new AtomicReference<>();
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.deferContextual(context -> {
+            RequestTiming.from(context).ifPresent(timing -> {
+                forwardedCorrelationId.set(timing.getCorrelationId());
+                timing.record("upstream-wait", 5_000_000);
+            });
+            return upstream.asFlux();
+        }));
+        RequestTiming firstTiming = new RequestTiming("first", header -> {});
+        RequestTiming secondTiming = new RequestTiming("second", header -> {});
+
+        StepVerifier first = StepVerifier.create(
+                        rosterCache.getEmployees().contextWrite(Context.of(RequestTiming.class, firstTiming)))
+                .expectNext(JOHN)
+                .expectComplete()
+                .verifyLater();
+        StepVerifier second = StepVerifier.create(
+                        rosterCache.getEmployees().contextWrite(Context.of(RequestTiming.class, secondTiming)))
+                .expectNext(JOHN)
+                .expectComplete()
+                .verifyLater();
+        upstream.tryEmitNext(JOHN);
+        upstream.tryEmitComplete();
+
+        first.verify();
+        second.verify();
+        assertThat(forwardedCorrelationId).hasValue("first");
+        assertThat(firstTiming.serverTiming()).startsWith("upstream-wait;dur=5.000, total;dur=");
+        assertThat(secondTiming.serverTiming()).startsWith("upstream-wait;dur=5.000, total;dur=");
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_UpdateSnapshotInPlace() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN));
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+
+        rosterCache.onEmployeeCreated(JANE);
+        rosterCache.onEmployeeDeleted("1");
+
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JANE).verifyComplete();
+        assertThat(rosterCache.getStats().version()).isEqualTo(2);
+        assertThat(rosterCache.findById("2")).contains(JANE);
+        assertThat(rosterCache.findById("1")).isEmpty();
+        verify(listener).onRosterReplaced(any(RosterSnapshot.class));
+        verify(listener).onEmployeeCreated(JANE);
+        verify(listener).onEmployeeDeleted("1");
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_RepeatedChangesAreIgnored() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN));
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+
+        rosterCache.onEmployeeCreated(JOHN);
+        rosterCache.onEmployeeDeleted("2");
+
+        assertThat(rosterCache.getStats().version()).isEqualTo(0);
+        verify(listener, times(0)).onEmployeeCreated(any());
+        verify(listener, times(0)).onEmployeeDeleted(any());
+    }
+
+    @Test
+    void replaceRoster_WhileFollowingChangesNeverExpires() {
+        rosterCache.replaceRoster(List.of(JOHN));
+        rosterCache.setFollowingChanges(true);
+
+        clock.advance(Duration.ofHours(1));
+
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+        assertThat(rosterCache.findById("1")).contains(JOHN);
+        verify(employeeConnector, times(0)).getAllEmployees();
+        verify(listener).onRosterReplaced(any(RosterSnapshot.class));
+
+        rosterCache.setFollowingChanges(false);
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN, JANE));
+
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN, JANE).verifyComplete();
+    }
+
+    @Test
+    void refresh_ReplaysWritesMadeWhileFetchWasInFlight() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(JOHN));
+        StepVerifier.create(rosterCache.getEmployees()).expectNext(JOHN).verifyComplete();
+
+        Sinks.Many<EmployeeResponseDto> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        when(employeeConnector.getAllEmployees()).thenReturn(upstream.asFlux());
+        StepVerifier refresh = StepVerifier.create(rosterCache.refresh())
+                .expectNextCount(1)
+                .expectComplete()
+                .verifyLater();
+
+        rosterCache.onEmployeeCreated(JANE);
+        upstream.tryEmitNext(JOHN);
+        upstream.tryEmitComplete();
+        refresh.verify();
+
+        assertThat(rosterCache.findById("2")).contains(JANE);
+    }
+
+    @Test
+    void findById_NeverTriggersFetch() {
+        assertThat(rosterCache.findById("1")).isEmpty();
+        verify(employeeConnector, times(0)).getAllEmployees();
+        assertThat(rosterCache.getStats().version()).isEqualTo(-1);
+        assertThat(rosterCache.getStats().size()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
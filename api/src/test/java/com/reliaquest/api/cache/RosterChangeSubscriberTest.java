@@ -0,0 +1,125 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.connector.VersionedRoster;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RosterChangeSubscriberTest {
+
+    private static final EmployeeResponseDto JOHN =
+            new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+    private static final EmployeeResponseDto JANE =
+            new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com");
+
+    @Mock
+    private EmployeeConnector employeeConnector;
+
+    private EmployeeRosterCache rosterCache;
+    private RosterChangeSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        RosterCacheProperties properties = new RosterCacheProperties();
+        properties.getFeed().setMinReconnectDelay(Duration.ofMillis(1));
+        properties.getFeed().setMaxReconnectDelay(Duration.ofMillis(5));
+        rosterCache = new EmployeeRosterCache(employeeConnector, properties, List.of(), Clock.systemUTC());
+        subscriber = new RosterChangeSubscriber(employeeConnector, rosterCache, properties);
+    }
+
+    @Test
+    void follow_ResetReloadsRosterAndSkipsChangesItAlreadyContains() {
+        when(employeeConnector.streamChanges(null, null))
+                .thenReturn(Flux.just(reset("e1", 4), created("e1", 5, JOHN), created("e1", 6, JANE))
+                        .concatWith(Flux.never()));
+        when(employeeConnector.getVersionedRoster()).thenReturn(Mono.just(new VersionedRoster("e1", 5, List.of(JOHN))));
+
+        StepVerifier.create(subscriber.follow()).expectNextCount(3).thenCancel().verify();
+
+        assertThat(rosterCache.findById("1")).contains(JOHN);
+        assertThat(rosterCache.findById("2")).contains(JANE);
+        assertThat(subscriber.stats()).isEqualTo(new RosterChangeSubscriber.Stats("e1", 6, 1, 1, 1, 0));
+        verify(employeeConnector, times(0)).getAllEmployees();
+    }
+
+    @Test
+    void follow_ResumesFromLastAppliedVersionAfterDisconnect() {
+        when(employeeConnector.streamChanges(null, null)).thenReturn(Flux.just(reset("e1", 1), created("e1", 2, JANE)));
+        when(employeeConnector.streamChanges("e1", 2L))
+                .thenReturn(Flux.just(resumed("e1", 2), deleted("e1", 3, JOHN)).concatWith(Flux.never()));
+        when(employeeConnector.getVersionedRoster()).thenReturn(Mono.just(new VersionedRoster("e1", 1, List.of(JOHN))));
+
+        StepVerifier.create(subscriber.follow()).expectNextCount(4).thenCancel().verify(Duration.ofSeconds(5));
+
+        assertThat(rosterCache.findById("1")).isEmpty();
+        assertThat(rosterCache.findById("2")).contains(JANE);
+        assertThat(subscriber.stats()).isEqualTo(new RosterChangeSubscriber.Stats("e1", 3, 2, 0, 1, 1));
+        verify(employeeConnector, times(1)).getVersionedRoster();
+    }
+
+    @Test
+    void follow_GapInVersionsForcesReload() {
+        when(employeeConnector.streamChanges(null, null))
+                .thenReturn(Flux.just(reset("e1", 1), created("e1", 3, JANE)))
+                .thenReturn(Flux.just(reset("e1", 3)).concatWith(Flux.never()));
+        when(employeeConnector.getVersionedRoster())
+                .thenReturn(Mono.just(new VersionedRoster("e1", 1, List.of(JOHN))))
+                .thenReturn(Mono.just(new VersionedRoster("e1", 3, List.of(JOHN, JANE))));
+
+        StepVerifier.create(subscriber.follow()).expectNextCount(2).thenCancel().verify(Duration.ofSeconds(5));
+
+        assertThat(rosterCache.findById("2")).contains(JANE);
+        assertThat(subscriber.stats()).isEqualTo(new RosterChangeSubscriber.Stats("e1", 3, 0, 0, 2, 1));
+    }
+
+    @Test
+    void follow_ResumedAtUnexpectedPositionStartsOver() {
+        when(employeeConnector.streamChanges(null, null))
+                .thenReturn(Flux.just(reset("e1", 1)))
+                .thenReturn(Flux.just(reset("e2", 0)).concatWith(Flux.never()));
+        when(employeeConnector.streamChanges("e1", 1L)).thenReturn(Flux.just(resumed("e1", 0)));
+        when(employeeConnector.getVersionedRoster())
+                .thenReturn(Mono.just(new VersionedRoster("e1", 1, List.of(JOHN))))
+                .thenReturn(Mono.just(new VersionedRoster("e2", 0, List.of(JANE))));
+
+        StepVerifier.create(subscriber.follow()).expectNextCount(2).thenCancel().verify(Duration.ofSeconds(5));
+
+        assertThat(rosterCache.findById("1")).isEmpty();
+        assertThat(rosterCache.findById("2")).contains(JANE);
+        assertThat(subscriber.stats().epoch()).isEqualTo("e2");
+        assertThat(subscriber.stats().reconnects()).isEqualTo(2);
+    }
+
+    private static EmployeeChangeEvent reset(String epoch, long version) {
+        return new EmployeeChangeEvent(epoch, version, EmployeeChangeEvent.RESET, null);
+    }
+
+    private static EmployeeChangeEvent resumed(String epoch, long version) {
+        return new EmployeeChangeEvent(epoch, version, EmployeeChangeEvent.RESUMED, null);
+    }
+
+    private static EmployeeChangeEvent created(String epoch, long version, EmployeeResponseDto employee) {
+        return new EmployeeChangeEvent(epoch, version, EmployeeChangeEvent.CREATED, employee);
+    }
+
+    private static EmployeeChangeEvent deleted(String epoch, long version, EmployeeResponseDto employee) {
+        return new EmployeeChangeEvent(epoch, version, EmployeeChangeEvent.DELETED, employee);
+    }
+}
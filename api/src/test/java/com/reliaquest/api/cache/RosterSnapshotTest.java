@@ -0,0 +1,209 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RosterSnapshotTest {
+
+    private static final EmployeeResponseDto JOHN =
+            new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+    private static final EmployeeResponseDto JANE =
+            new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com");
+    private static final EmployeeResponseDto BOB =
+            new EmployeeResponseDto("3", "Bob Johnson", 55000, 40, "Developer", "bob@example.com");
+
+    private final RosterSnapshot snapshot = RosterSnapshot.of(0, Instant.EPOCH, List.of(JOHN, JANE, BOB));
+
+    @Test
+    void employees_AreRebuiltFromColumnsInRosterOrder() {
+        EmployeeResponseDto unusual = new EmployeeResponseDto("4", "Zoë Ünal 李", -5, 0, null, null);
+
+        RosterSnapshot withUnusual = RosterSnapshot.of(0, Instant.EPOCH, List.of(JOHN, unusual, JANE));
+
+        assertThat(withUnusual.employees()).containsExactly(JOHN, unusual, JANE);
+        assertThat(withUnusual.findById("4")).contains(unusual);
+    }
+
+    @Test
+    void findById_ReadsRowThroughIdTable() {
+        assertThat(snapshot.findById("2")).contains(JANE);
+        assertThat(snapshot.findById("9")).isEmpty();
+        assertThat(snapshot.findById(null)).isEmpty();
+    }
+
+    @Test
+    void of_KeepsLastOccurrenceOfRepeatedId() {
+        EmployeeResponseDto raisedJohn =
+                new EmployeeResponseDto("1", "John Doe", 80000, 30, "Developer", "john@example.com");
+
+        RosterSnapshot repeated = RosterSnapshot.of(0, Instant.EPOCH, List.of(JOHN, JANE, raisedJohn));
+
+        assertThat(repeated.employees()).containsExactly(JANE, raisedJohn);
+        assertThat(repeated.findById("1")).contains(raisedJohn);
+    }
+
+    @Test
+    void titles_AreStoredOncePerDistinctValue() {
+        assertThat(snapshot.columns().distinctTitles()).isEqualTo(2);
+        assertThat(snapshot.columns().title(2)).isEqualTo("Developer");
+    }
+
+    @Test
+    void highestSalary_IsFirstRowBySalary() {
+        assertThat(snapshot.highestSalary()).contains(60000);
+    }
+
+    @Test
+    void topEarnerNames_ReturnsFirstKInDescendingSalaryOrder() {
+        assertThat(snapshot.topEarnerNames(2)).containsExactly("Jane Smith", "Bob Johnson");
+        assertThat(snapshot.topEarnerNames(10)).containsExactly("Jane Smith", "Bob Johnson", "John Doe");
+    }
+
+    @Test
+    void withCreatedAndDeleted_UpdateRankingAndLookup() {
+        EmployeeResponseDto alice = new EmployeeResponseDto("4", "Alice", 70000, 28, "Director", "alice@example.com");
+
+        RosterSnapshot updated = snapshot.withCreated(1, alice).withDeleted(2, "2");
+
+        assertThat(updated.version()).isEqualTo(2);
+        assertThat(updated.highestSalary()).contains(70000);
+        assertThat(updated.topEarnerNames(3)).containsExactly("Alice", "Bob Johnson", "John Doe");
+        assertThat(updated.employees()).containsExactly(JOHN, BOB, alice);
+        assertThat(updated.findById("2")).isEmpty();
+        assertThat(updated.findById("4")).contains(alice);
+        assertThat(snapshot.employees()).containsExactly(JOHN, JANE, BOB);
+    }
+
+    @Test
+    void withCreated_ReplacesExistingRowForSameId() {
+        EmployeeResponseDto raisedJohn =
+                new EmployeeResponseDto("1", "John Doe", 80000, 30, "Developer", "john@example.com");
+
+        RosterSnapshot updated = snapshot.withCreated(1, raisedJohn);
+
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(updated.topEarnerNames(3)).containsExactly("John Doe", "Jane Smith", "Bob Johnson");
+        assertThat(updated.findById("1")).contains(raisedJohn);
+    }
+
+    @Test
+    void withDeleted_UnknownIdOnlyAdvancesVersion() {
+        RosterSnapshot updated = snapshot.withDeleted(1, "9");
+
+        assertThat(updated.version()).isEqualTo(1);
+        assertThat(updated.employees()).containsExactly(JOHN, JANE, BOB);
+    }
+
+    @Test
+    void equalSalaries_AreAllKeptInRosterOrder() {
+        EmployeeResponseDto twin = new EmployeeResponseDto("5", "Twin", 60000, 35, "Manager", "twin@example.com");
+
+        RosterSnapshot updated = snapshot.withCreated(1, twin);
+
+        assertThat(updated.size()).isEqualTo(4);
+        assertThat(updated.topEarnerNames(2)).containsExactly("Jane Smith", "Twin");
+    }
+
+    @Test
+    void emptyRoster_HasNoHighestSalary() {
+        RosterSnapshot empty = RosterSnapshot.of(0, Instant.EPOCH, List.of());
+
+        assertThat(empty.highestSalary()).isEmpty();
+        assertThat(empty.topEarnerNames(10)).isEmpty();
+        assertThat(empty.employees()).isEmpty();
+    }
+
+    @Test
+    void writes_AgreeWithListModelOnRandomSequence() {
+        Random random = new Random(7);
+        Map<String, EmployeeResponseDto> expected = new LinkedHashMap<>();
+        RosterSnapshot current = RosterSnapshot.of(0, Instant.EPOCH, List.of());
+        for (int step = 1; step <= 500; step++) {
+            String id = String.valueOf(random.nextInt(60));
+            if (random.nextInt(3) == 0) {
+                expected.remove(id);
+                current = current.withDeleted(step, id);
+            } else {
+                EmployeeResponseDto employee = new EmployeeResponseDto(
+                        id, "Name " + step, random.nextInt(5) * 1000, 30, "Title " + random.nextInt(4), null);
+                expected.remove(id);
+                expected.put(id, employee);
+                current = current.withCreated(step, employee);
+            }
+
+            List<EmployeeResponseDto> rows = new ArrayList<>(expected.values());
+            assertThat(current.employees()).containsExactlyElementsOf(rows);
+            assertThat(current.findById(id)).isEqualTo(Optional.ofNullable(expected.get(id)));
+            assertThat(current.topEarnerNames(5))
+                    .containsExactlyElementsOf(rows.stream()
+                            .sorted(Comparator.comparingInt(EmployeeResponseDto::getSalary)
+                                    .reversed())
+                            .limit(5)
+                            .map(EmployeeResponseDto::getName)
+                            .toList());
+        }
+    }
+
+    @Test
+    void writes_GoToTheOverlayUntilItIsMergedIntoTheColumns() {
+        RosterSnapshot current = snapshot.withDeleted(1, "2");
+        assertThat(current.columns().overlaySize()).isEqualTo(1);
+
+        for (int i = 0; i < RosterColumns.MIN_OVERLAY_MERGE; i++) {
+            current = current.withCreated(i + 2, new EmployeeResponseDto("n" + i, "New " + i, i, 20, "Intern", null));
+        }
+
+        assertThat(current.columns().overlaySize()).isZero();
+        assertThat(current.size()).isEqualTo(2 + RosterColumns.MIN_OVERLAY_MERGE);
+        assertThat(current.findById("2")).isEmpty();
+        assertThat(current.findById("n7")).contains(new EmployeeResponseDto("n7", "New 7", 7, 20, "Intern", null));
+        assertThat(current.employees().subList(0, 3))
+                .containsExactly(JOHN, BOB, new EmployeeResponseDto("n0", "New 0", 0, 20, "Intern", null));
+        assertThat(current.topEarnerNames(3)).containsExactly("Bob Johnson", "John Doe", "New 1023");
+    }
+
+    @Test
+    void writes_AgreeWithListModelAcrossOverlayMerges() {
+        Random random = new Random(11);
+        Map<String, EmployeeResponseDto> expected = new LinkedHashMap<>();
+        RosterSnapshot current = RosterSnapshot.of(0, Instant.EPOCH, List.of());
+        for (int step = 1; step <= 6000; step++) {
+            String id = String.valueOf(random.nextInt(1500));
+            if (random.nextInt(3) == 0) {
+                expected.remove(id);
+                current = current.withDeleted(step, id);
+            } else {
+                EmployeeResponseDto employee = new EmployeeResponseDto(
+                        id, "Name " + step, random.nextInt(50) * 1000, 30, "Title " + random.nextInt(4), null);
+                expected.remove(id);
+                expected.put(id, employee);
+                current = current.withCreated(step, employee);
+            }
+
+            if (step % 250 == 0) {
+                List<EmployeeResponseDto> rows = new ArrayList<>(expected.values());
+                assertThat(current.employees()).containsExactlyElementsOf(rows);
+                for (EmployeeResponseDto row : rows) {
+                    assertThat(current.findById(row.getId())).contains(row);
+                }
+                assertThat(current.topEarnerNames(20))
+                        .containsExactlyElementsOf(rows.stream()
+                                .sorted(Comparator.comparingInt(EmployeeResponseDto::getSalary)
+                                        .reversed())
+                                .limit(20)
+                                .map(EmployeeResponseDto::getName)
+                                .toList());
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.CreateEmployeeResponseWrapper;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.dto.EmployeesResponseWrapper;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class EmployeeJsonModuleTest {
+
+    private static final EmployeeResponseDto JOHN =
+            new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+    private static final EmployeeResponseDto UNNAMED = new EmployeeResponseDto("2", null, 0, 0, null, null);
+    private static final TypeReference<List<EmployeeResponseDto>> EMPLOYEES = new TypeReference<>() {};
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper handWritten =
+            Jackson2ObjectMapperBuilder.json().modules(new EmployeeJsonModule()).build();
+
+    @Test
+    void employees_AreWrittenExactlyAsByTheBeanMapping() throws Exception {
+        List<EmployeeResponseDto> employees = List.of(JOHN, UNNAMED);
+
+        assertThat(handWritten.writeValueAsString(employees)).isEqualTo(reflective.writeValueAsString(employees));
+    }
+
+    @Test
+    void employees_RoundTripThroughBothMappings() throws Exception {
+        String json = reflective.writeValueAsString(List.of(JOHN, UNNAMED));
+
+        assertThat(handWritten.readValue(json, EMPLOYEES)).containsExactly(JOHN, UNNAMED);
+        assertThat(reflective.readValue(handWritten.writeValueAsString(List.of(JOHN)), EMPLOYEES))
+                .containsExactly(JOHN);
+    }
+
+    @Test
+    void rosterEnvelope_SkipsUnknownFieldsAndKeepsNullElements() throws Exception {
+        String json = "{\"total\":{\"count\":2},\"data\":[{\"id\":\"1\",\"employee_name\":\"John Doe\","
+                + "\"employee_salary\":\"50000\",\"employee_age\":30,\"employee_title\":\"Developer\","
+                + "\"employee_email\":\"john@example.com\",\"extra\":[1,[2]]},null],\"status\":\"ok\"}";
+
+        EmployeesResponseWrapper wrapper = handWritten.readValue(json, EmployeesResponseWrapper.class);
+
+        assertThat(wrapper.getData()).isEqualTo(Arrays.asList(JOHN, null));
+        assertThat(wrapper.getStatus()).isEqualTo("ok");
+    }
+
+    @Test
+    void rosterEnvelope_WithoutDataHasNullData() throws Exception {
+        EmployeesResponseWrapper wrapper =
+                handWritten.readValue("{\"data\":null,\"status\":\"ok\"}", EmployeesResponseWrapper.class);
+
+        assertThat(wrapper.getData()).isNull();
+        assertThat(handWritten.readValue("{}", EmployeesResponseWrapper.class).getStatus())
+                .isNull();
+    }
+
+    @Test
+    void createEnvelope_ReadsTheCreatedEmployee() throws Exception {
+        String json = reflective.writeValueAsString(new CreateEmployeeResponseWrapper(JOHN, "ok"));
+
+        assertThat(handWritten.readValue(json, CreateEmployeeResponseWrapper.class))
+                .isEqualTo(new CreateEmployeeResponseWrapper(JOHN, "ok"));
+    }
+
+    @Test
+    void employee_StructureAsValueOfKnownFieldIsRejected() {
+        assertThatThrownBy(() -> handWritten.readValue("{\"employee_age\":[30]}", EmployeeResponseDto.class))
+                .isInstanceOf(JsonProcessingException.class)
+                .hasMessageContaining("employee_age");
+    }
+
+    @Test
+    void employee_NonIntegerValueOfNumberFieldIsRejected() {
+        for (String salary : List.of("\"abc\"", "\"1.5\"", "1.5", "true")) {
+            assertThatThrownBy(() ->
+                            handWritten.readValue("{\"employee_salary\":" + salary + "}", EmployeeResponseDto.class))
+                    .isInstanceOf(JsonMappingException.class)
+                    .hasMessageContaining("employee_salary");
+        }
+    }
+
+    @Test
+    void employee_NullNumberFieldIsZeroAsInTheBeanMapping() throws Exception {
+        String json = "{\"id\":\"2\",\"employee_salary\":null,\"employee_age\":null}";
+
+        assertThat(handWritten.readValue(json, EmployeeResponseDto.class))
+                .isEqualTo(reflective.readValue(json, EmployeeResponseDto.class))
+                .isEqualTo(UNNAMED);
+    }
+}
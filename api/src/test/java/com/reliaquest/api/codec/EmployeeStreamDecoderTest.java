@@ -0,0 +1,145 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import com.reliaquest.api.dto.EmployeesResponseWrapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class EmployeeStreamDecoderTest {
+
+    private static final EmployeeResponseDto JOHN =
+            new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+    private static final EmployeeResponseDto JANE =
+            new EmployeeResponseDto("2", "Jane \"JJ\" Smith", 60000, 35, "Manager", "jane@example.com");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final EmployeeStreamDecoder decoder = new EmployeeStreamDecoder(objectMapper);
+
+    @Test
+    void decode_EmitsEveryEmployeeAndReportsStatus() throws Exception {
+        String json = objectMapper.writeValueAsString(new EmployeesResponseWrapper(List.of(JOHN, JANE), "ok"));
+        AtomicReference<String> status = new AtomicReference<>();
+
+        StepVerifier.create(decoder.decode(chunks(json, 7), status::set))
+                .expectNext(JOHN, JANE)
+                .verifyComplete();
+        assertThat(status).hasValue("ok");
+    }
+
+    @Test
+    void decode_HandlesSingleByteChunks() throws Exception {
+        String json = objectMapper.writeValueAsString(new EmployeesResponseWrapper(List.of(JOHN, JANE), "ok"));
+
+        StepVerifier.create(decoder.decode(chunks(json, 1), ignored -> {}))
+                .expectNext(JOHN, JANE)
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_EmitsFirstEmployeeBeforeBodyCompletes() throws Exception {
+        String json = objectMapper.writeValueAsString(new EmployeesResponseWrapper(List.of(JOHN, JANE), "ok"));
+        int secondElement = json.indexOf("{\"id\":\"2\"");
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(decoder.decode(body.asFlux(), ignored -> {}))
+                .then(() -> body.tryEmitNext(buffer(json.substring(0, secondElement))))
+                .expectNext(JOHN)
+                .then(() -> {
+                    body.tryEmitNext(buffer(json.substring(secondElement)));
+                    body.tryEmitComplete();
+                })
+                .expectNext(JANE)
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_RequestsNetworkBuffersOnlyAsDemanded() throws Exception {
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            employees.add(new EmployeeResponseDto(String.valueOf(i), "E" + i, i, 30, "t", i + "@example.com"));
+        }
+        String json = objectMapper.writeValueAsString(new EmployeesResponseWrapper(employees, "ok"));
+        AtomicInteger buffersRequested = new AtomicInteger();
+        Flux<DataBuffer> body = chunks(json, 64).doOnRequest(n -> buffersRequested.addAndGet((int) n));
+
+        StepVerifier.create(decoder.decode(body, ignored -> {}), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+        assertThat(buffersRequested.get()).isLessThan(10);
+    }
+
+    @Test
+    void decode_NullOrMissingDataIsEmpty() {
+        StepVerifier.create(decoder.decode(chunks("{\"data\":null,\"status\":\"ok\"}", 5), ignored -> {}))
+                .verifyComplete();
+        StepVerifier.create(decoder.decode(chunks("{\"status\":\"ok\"}", 5), ignored -> {}))
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_SkipsUnknownFieldsNestedInsideAnEmployee() {
+        String json =
+                "{\"data\":[{\"id\":\"1\",\"manager\":{\"id\":\"9\",\"tags\":[1,{}]},\"employee_name\":\"John Doe\","
+                        + "\"employee_salary\":50000,\"employee_age\":30,\"employee_title\":\"Developer\","
+                        + "\"employee_email\":\"john@example.com\"}],\"status\":\"ok\"}";
+
+        StepVerifier.create(decoder.decode(chunks(json, 3), ignored -> {}))
+                .expectNext(JOHN)
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_StructureAsValueOfKnownFieldFails() {
+        StepVerifier.create(decoder.decode(
+                        chunks("{\"data\":[{\"employee_name\":{\"first\":\"John\"}}]}", 4), ignored -> {}))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    void decode_TruncatedBodyFails() throws Exception {
+        String json = objectMapper.writeValueAsString(new EmployeesResponseWrapper(List.of(JOHN, JANE), "ok"));
+
+        StepVerifier.create(decoder.decode(chunks(json.substring(0, json.length() - 20), 16), ignored -> {}))
+                .expectNext(JOHN)
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    void decode_MalformedBodyFails() {
+        StepVerifier.create(decoder.decode(chunks("{\"data\":[{\"id\":}]}", 4), ignored -> {}))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            byte[] chunk = new byte[Math.min(chunkSize, bytes.length - offset)];
+            System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+class ConnectorResiliencePropertiesTest {
+
+    @Test
+    void operationOverride_ChangesOnlyTheSettingsItNames() {
+        ConnectorResilienceProperties properties = bind(Map.of(
+                "employee.resilience.bulkhead.max-wait-duration", "50ms",
+                "employee.resilience.retry.max-attempts", "4",
+                "employee.resilience.retry.max-backoff", "3s",
+                "employee.resilience.circuit-breaker.sliding-window-size", "40",
+                "employee.resilience.operations.create-employee.bulkhead.max-concurrent-calls", "5",
+                "employee.resilience.operations.create-employee.retry.max-attempts", "2",
+                "employee.resilience.operations.create-employee.circuit-breaker.failure-rate-threshold", "25"));
+
+        ConnectorResilienceProperties.Bulkhead bulkhead = properties.bulkheadFor("create-employee");
+        assertThat(bulkhead.getMaxConcurrentCalls()).isEqualTo(5);
+        assertThat(bulkhead.getMaxWaitDuration()).isEqualTo(Duration.ofMillis(50));
+
+        ConnectorResilienceProperties.Retry retry = properties.retryFor("create-employee");
+        assertThat(retry.getMaxAttempts()).isEqualTo(2);
+        assertThat(retry.getMaxBackoff()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(retry.isEnabled()).isTrue();
+
+        ConnectorResilienceProperties.CircuitBreaker circuitBreaker = properties.circuitBreakerFor("create-employee");
+        assertThat(circuitBreaker.getFailureRateThreshold()).isEqualTo(25);
+        assertThat(circuitBreaker.getSlidingWindowSize()).isEqualTo(40);
+
+        assertThat(properties.bulkheadFor("delete-employee")).isSameAs(properties.getBulkhead());
+        assertThat(properties.getBulkhead().getMaxConcurrentCalls()).isEqualTo(25);
+        assertThat(properties.getRetry().getMaxAttempts()).isEqualTo(4);
+    }
+
+    private static ConnectorResilienceProperties bind(Map<String, String> values) {
+        return new Binder(new MapConfigurationPropertySource(values))
+                .bind("employee.resilience", ConnectorResilienceProperties.class)
+                .get();
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.codec.EmployeeJsonModule;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+class WebClientConfigTest {
+
+    private final WebClientConfig config = new WebClientConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MockWebServer mockWebServer;
+    private WebClientProperties properties;
+    private ConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Metrics.addRegistry(registry);
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        properties = new WebClientProperties();
+        properties.setBaseUrl(mockWebServer.url("/api/v1").toString());
+        properties.getPool().setName("web-client-config-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (provider != null) {
+            provider.dispose();
+        }
+        mockWebServer.shutdown();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void webClient_NegotiatesAndInflatesGzip() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(new Buffer().write(gzip("{\"status\":\"ok\"}")))
+                .addHeader("Content-Encoding", "gzip")
+                .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(webClient().get().uri("/employee").retrieve().bodyToMono(String.class))
+                .expectNext("{\"status\":\"ok\"}")
+                .verifyComplete();
+
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getPath()).isEqualTo("/api/v1/employee");
+        assertThat(request.getHeader("Accept-Encoding")).contains("gzip");
+    }
+
+    @Test
+    void webClient_PublishesPoolMetrics() {
+        mockWebServer.enqueue(new MockResponse().setBody("[]").addHeader("Content-Type", "application/json"));
+
+        webClient().get().uri("/employee").retrieve().bodyToMono(String.class).block();
+
+        assertThat(registry.find("reactor.netty.connection.provider.idle.connections")
+                        .tag("name", "web-client-config-test")
+                        .gauge())
+                .isNotNull();
+        assertThat(registry.find("reactor.netty.connection.provider.pending.connections.time")
+                        .tag("name", "web-client-config-test")
+                        .timer())
+                .isNotNull();
+    }
+
+    @Test
+    void webClient_FailsWhenResponseIsTooSlow() {
+        properties.setResponseTimeout(Duration.ofMillis(100));
+        mockWebServer.enqueue(new MockResponse().setBody("late").setHeadersDelay(1, TimeUnit.SECONDS));
+
+        StepVerifier.create(webClient().get().uri("/employee").retrieve().bodyToMono(String.class))
+                .expectError(WebClientRequestException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void uriTag_CollapsesIdsButKeepsBulkAndChangesPaths() {
+        assertThat(WebClientConfig.uriTag("/api/v1/employee?limit=100&offset=200"))
+                .isEqualTo(Constants.EMPLOYEE_BASE_PATH);
+        assertThat(WebClientConfig.uriTag("/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"))
+                .isEqualTo(Constants.EMPLOYEE_BY_ID_PATH);
+        assertThat(WebClientConfig.uriTag("/api/v1/employee/bulk")).isEqualTo(Constants.EMPLOYEE_BULK_PATH);
+        assertThat(WebClientConfig.uriTag("/api/v1/employee/changes?since=42"))
+                .isEqualTo(Constants.EMPLOYEE_CHANGES_PATH);
+    }
+
+    private WebClient webClient() {
+        provider = config.employeeConnectionProvider(properties);
+        return config.webClient(
+                properties,
+                provider,
+                Jackson2ObjectMapperBuilder.json()
+                        .modules(new EmployeeJsonModule())
+                        .build());
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
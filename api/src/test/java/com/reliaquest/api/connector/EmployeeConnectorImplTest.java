@@ -1,28 +1,47 @@
 package com.reliaquest.api.connector;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.config.WebClientProperties;
+import com.reliaquest.api.dto.BulkItemResponse;
+import com.reliaquest.api.dto.BulkItemResult;
+import com.reliaquest.api.dto.BulkResponseWrapper;
 import com.reliaquest.api.dto.CreateEmployeeResponseWrapper;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.dto.EmployeesResponseWrapper;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.resilience.ConnectorResilience;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 class EmployeeConnectorImplTest {
 
     private static MockWebServer mockWebServer;
+    private WebClient webClient;
+    private ConnectorResilience retryingResilience;
     private EmployeeConnectorImpl employeeConnector;
     private ObjectMapper objectMapper;
 
@@ -40,11 +59,30 @@ class EmployeeConnectorImplTest {
     @BeforeEach
     void initialize() {
         String baseUrl = String.format("http://localhost:%s", mockWebServer.getPort());
-        WebClient webClient = WebClient.create(baseUrl);
-        employeeConnector = new EmployeeConnectorImpl(webClient);
+        webClient = WebClient.create(baseUrl);
+        ConnectorResilienceProperties properties = new ConnectorResilienceProperties();
+        properties.getRetry().setEnabled(false);
+        employeeConnector = new EmployeeConnectorImpl(
+                webClient, new ConnectorResilience(properties), new WebClientProperties(), new RosterCacheProperties());
         objectMapper = new ObjectMapper();
     }
 
+    private EmployeeConnectorImpl connectorWithRetries() throws InterruptedException {
+        forgetRecordedRequests();
+        ConnectorResilienceProperties properties = new ConnectorResilienceProperties();
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(5));
+        retryingResilience = new ConnectorResilience(properties);
+        return new EmployeeConnectorImpl(
+                webClient, retryingResilience, new WebClientProperties(), new RosterCacheProperties());
+    }
+
+    private static void forgetRecordedRequests() throws InterruptedException {
+        while (mockWebServer.takeRequest(1, TimeUnit.MILLISECONDS) != null) {
+            // Forget requests recorded by earlier tests so takeRequest() sees only this test's.
+        }
+    }
+
     @Test
     void getAllEmployees_Success() throws Exception {
         List<EmployeeResponseDto> employees = Arrays.asList(
@@ -59,6 +97,108 @@ class EmployeeConnectorImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getVersionedRoster_ReadsEpochAndVersionHeaders() throws Exception {
+        List<EmployeeResponseDto> employees =
+                List.of(new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new EmployeesResponseWrapper(employees, "success")))
+                .addHeader("Content-Type", "application/json")
+                .addHeader("X-Roster-Epoch", "e1")
+                .addHeader("X-Roster-Version", "42"));
+
+        StepVerifier.create(employeeConnector.getVersionedRoster())
+                .assertNext(roster -> {
+                    assertThat(roster.epoch()).isEqualTo("e1");
+                    assertThat(roster.version()).isEqualTo(42);
+                    assertThat(roster.employees())
+                            .extracting(EmployeeResponseDto::getId)
+                            .containsExactly("1");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamChanges_DecodesEventsAndSkipsHeartbeats() throws Exception {
+        forgetRecordedRequests();
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "text/event-stream")
+                .setBody("id:3\nevent:resumed\ndata:{\"epoch\":\"e1\",\"version\":3,\"type\":\"resumed\"}\n\n"
+                        + ":heartbeat\n\n"
+                        + "id:4\nevent:created\n"
+                        + "data:{\"epoch\":\"e1\",\"version\":4,\"type\":\"created\","
+                        + "\"employee\":{\"id\":\"7\",\"employee_name\":\"Jane Smith\","
+                        + "\"employee_salary\":60000}}\n\n"));
+
+        StepVerifier.create(employeeConnector.streamChanges("e1", 3L))
+                .assertNext(event -> assertThat(event.getType()).isEqualTo(EmployeeChangeEvent.RESUMED))
+                .assertNext(event -> {
+                    assertThat(event.getVersion()).isEqualTo(4);
+                    assertThat(event.getType()).isEqualTo(EmployeeChangeEvent.CREATED);
+                    assertThat(event.getEmployee().getName()).isEqualTo("Jane Smith");
+                })
+                .verifyComplete();
+
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getPath()).isEqualTo("/employee/changes?epoch=e1&since=3");
+        assertThat(request.getHeader("Accept")).isEqualTo("text/event-stream");
+    }
+
+    @Test
+    void getAllEmployees_ConcurrentCallsShareOneExchange() throws Exception {
+        List<EmployeeResponseDto> employees = Arrays.asList(
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com"),
+                new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new EmployeesResponseWrapper(employees, "success")))
+                .addHeader("Content-Type", "application/json")
+                .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+        int requestsBefore = mockWebServer.getRequestCount();
+
+        StepVerifier.create(Flux.merge(
+                        employeeConnector.getAllEmployees(),
+                        employeeConnector.getAllEmployees(),
+                        employeeConnector.getAllEmployees()))
+                .expectNextCount(6)
+                .verifyComplete();
+
+        assertThat(mockWebServer.getRequestCount() - requestsBefore).isEqualTo(1);
+        assertThat(employeeConnector.getRosterFlightStats().executions()).isEqualTo(1);
+        assertThat(employeeConnector.getRosterFlightStats().collapsed()).isEqualTo(2);
+        assertThat(employeeConnector.getRosterFlightStats().inFlight()).isZero();
+    }
+
+    @Test
+    void getEmployeeById_ConcurrentCallsForSameIdShareOneExchange() throws Exception {
+        EmployeeResponseDto employee =
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new CreateEmployeeResponseWrapper(employee, "success")))
+                .addHeader("Content-Type", "application/json")
+                .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+        int requestsBefore = mockWebServer.getRequestCount();
+
+        StepVerifier.create(Flux.merge(employeeConnector.getEmployeeById("1"), employeeConnector.getEmployeeById("1")))
+                .expectNext(employee, employee)
+                .verifyComplete();
+
+        assertThat(mockWebServer.getRequestCount() - requestsBefore).isEqualTo(1);
+        assertThat(employeeConnector.getEmployeeByIdFlightStats().collapsed()).isEqualTo(1);
+    }
+
+    @Test
+    void getAllEmployees_SequentialCallsAreNotCoalesced() throws Exception {
+        String body = objectMapper.writeValueAsString(new EmployeesResponseWrapper(List.of(), "success"));
+        mockWebServer.enqueue(new MockResponse().setBody(body).addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setBody(body).addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(employeeConnector.getAllEmployees()).verifyComplete();
+        StepVerifier.create(employeeConnector.getAllEmployees()).verifyComplete();
+
+        assertThat(employeeConnector.getRosterFlightStats().executions()).isEqualTo(2);
+        assertThat(employeeConnector.getRosterFlightStats().collapsed()).isZero();
+    }
+
     @Test
     void getAllEmployees_TooManyRequests() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(429));
@@ -68,6 +208,193 @@ class EmployeeConnectorImplTest {
                 .verify();
     }
 
+    @Test
+    void getAllEmployees_RetriesAfterRateLimitHonouringRetryAfter() throws Exception {
+        EmployeeConnectorImpl connector = connectorWithRetries();
+        EmployeeResponseDto employee =
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "0"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new EmployeesResponseWrapper(List.of(employee), "success")))
+                .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(connector.getAllEmployees()).expectNext(employee).verifyComplete();
+        assertThat(retryingResilience
+                        .retryPolicy(ConnectorOperation.GET_ALL_EMPLOYEES)
+                        .stats()
+                        .attempts())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void getAllEmployees_LongRetryAfterIsPassedToCaller() throws Exception {
+        EmployeeConnectorImpl connector = connectorWithRetries();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "120"));
+
+        StepVerifier.create(connector.getAllEmployees())
+                .expectErrorSatisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .contains(Duration.ofSeconds(120)))
+                .verify();
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void createEmployee_ServerErrorIsRetriedUnderTheSameIdempotencyKey() throws Exception {
+        EmployeeConnectorImpl connector = connectorWithRetries();
+        EmployeeResponseDto createdEmployee =
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new CreateEmployeeResponseWrapper(createdEmployee, "success")))
+                .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(connector.createEmployee(new EmployeeDto("John Doe", 50000, 30, "Developer")))
+                .expectNext(createdEmployee)
+                .verifyComplete();
+        String key =
+                mockWebServer.takeRequest(1, TimeUnit.SECONDS).getHeader(EmployeeConnectorImpl.IDEMPOTENCY_KEY_HEADER);
+        assertThat(key).isNotBlank();
+        assertThat(mockWebServer
+                        .takeRequest(1, TimeUnit.SECONDS)
+                        .getHeader(EmployeeConnectorImpl.IDEMPOTENCY_KEY_HEADER))
+                .isEqualTo(key);
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void createEmployee_RejectedWithTooManyRequestsIsRetried() throws Exception {
+        EmployeeConnectorImpl connector = connectorWithRetries();
+        EmployeeResponseDto createdEmployee =
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new CreateEmployeeResponseWrapper(createdEmployee, "success")))
+                .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(connector.createEmployee(new EmployeeDto("John Doe", 50000, 30, "Developer")))
+                .expectNext(createdEmployee)
+                .verifyComplete();
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void getAllEmployees_PagingModeFetchesPagesInParallelAndEmitsInOrder() throws Exception {
+        List<EmployeeResponseDto> roster = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            roster.add(new EmployeeResponseDto(String.valueOf(i), "Employee " + i, i, 30, "Developer", i + "@x.com"));
+        }
+        List<String> requestedOffsets = new CopyOnWriteArrayList<>();
+        try (MockWebServer pagedServer = new MockWebServer()) {
+            pagedServer.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+                    int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+                    requestedOffsets.add(String.valueOf(offset));
+                    List<EmployeeResponseDto> page = roster.subList(offset, Math.min(offset + limit, roster.size()));
+                    try {
+                        return new MockResponse()
+                                // Later pages answer faster, so in-order output cannot come from arrival order.
+                                .setHeadersDelay(100 - offset * 3L, TimeUnit.MILLISECONDS)
+                                .setBody(objectMapper.writeValueAsString(new EmployeesResponseWrapper(page, "ok")))
+                                .addHeader("Content-Type", "application/json")
+                                .addHeader("X-Total-Count", roster.size())
+                                .addHeader("X-Roster-Version", 7);
+                    } catch (Exception e) {
+                        return new MockResponse().setResponseCode(500);
+                    }
+                }
+            });
+            pagedServer.start();
+            WebClientProperties clientProperties = new WebClientProperties();
+            clientProperties.getPaging().setPageSize(10);
+            clientProperties.getPaging().setConcurrency(2);
+            EmployeeConnectorImpl connector = new EmployeeConnectorImpl(
+                    WebClient.create(pagedServer.url("/").toString()),
+                    new ConnectorResilience(new ConnectorResilienceProperties()),
+                    clientProperties,
+                    new RosterCacheProperties());
+
+            StepVerifier.create(connector.getAllEmployees())
+                    .expectNextSequence(roster)
+                    .verifyComplete();
+        }
+        assertThat(requestedOffsets).containsExactlyInAnyOrder("0", "10", "20");
+    }
+
+    @Test
+    void getAllEmployees_PagingModeContinuesByCursorWhenRosterChangesMidWalk() throws Exception {
+        List<EmployeeResponseDto> roster = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            roster.add(new EmployeeResponseDto(String.valueOf(i), "Employee " + i, i, 30, "Developer", i + "@x.com"));
+        }
+        // Employee 2 is deleted once the first page has been served, so later offsets are one employee off.
+        List<EmployeeResponseDto> afterDelete = new ArrayList<>(roster);
+        afterDelete.remove(2);
+        List<String> cursors = new CopyOnWriteArrayList<>();
+        try (MockWebServer pagedServer = new MockWebServer()) {
+            pagedServer.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+                    String offsetParam = request.getRequestUrl().queryParameter("offset");
+                    String cursor = request.getRequestUrl().queryParameter("cursor");
+                    List<EmployeeResponseDto> source;
+                    int from;
+                    if (cursor != null) {
+                        cursors.add(cursor);
+                        source = afterDelete;
+                        String after = cursor.substring("after-".length());
+                        from = 1
+                                + afterDelete.indexOf(afterDelete.stream()
+                                        .filter(employee -> employee.getId().equals(after))
+                                        .findFirst()
+                                        .orElseThrow());
+                    } else {
+                        from = Integer.parseInt(offsetParam);
+                        source = from == 0 ? roster : afterDelete;
+                    }
+                    int to = Math.min(from + limit, source.size());
+                    try {
+                        MockResponse response = new MockResponse()
+                                .setBody(objectMapper.writeValueAsString(
+                                        new EmployeesResponseWrapper(source.subList(from, to), "ok")))
+                                .addHeader("Content-Type", "application/json")
+                                .addHeader("X-Total-Count", source.size());
+                        if (cursor == null) {
+                            response.addHeader("X-Roster-Version", source == roster ? 7 : 8);
+                        }
+                        if (to < source.size()) {
+                            response.addHeader(
+                                    "X-Next-Cursor",
+                                    "after-" + source.get(to - 1).getId());
+                        }
+                        return response;
+                    } catch (Exception e) {
+                        return new MockResponse().setResponseCode(500);
+                    }
+                }
+            });
+            pagedServer.start();
+            WebClientProperties clientProperties = new WebClientProperties();
+            clientProperties.getPaging().setPageSize(10);
+            clientProperties.getPaging().setConcurrency(2);
+            EmployeeConnectorImpl connector = new EmployeeConnectorImpl(
+                    WebClient.create(pagedServer.url("/").toString()),
+                    new ConnectorResilience(new ConnectorResilienceProperties()),
+                    clientProperties,
+                    new RosterCacheProperties());
+
+            StepVerifier.create(connector.getAllEmployees())
+                    .expectNextSequence(roster)
+                    .verifyComplete();
+        }
+        assertThat(cursors).containsExactly("after-9", "after-19");
+    }
+
     @Test
     void getEmployeeById_Success() throws Exception {
         EmployeeResponseDto employee =
@@ -115,18 +442,107 @@ class EmployeeConnectorImplTest {
     }
 
     @Test
-    void deleteEmployeeByName_Success() {
-        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+    void deleteEmployeeById_SendsIdToBulkEndpoint() throws Exception {
+        forgetRecordedRequests();
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new BulkResponseWrapper(
+                        List.of(new BulkItemResponse(john, "Successfully processed request.", null)),
+                        "Successfully processed request.")))
+                .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(employeeConnector.deleteEmployeeById("1")).verifyComplete();
 
-        StepVerifier.create(employeeConnector.deleteEmployeeByName("John Doe")).verifyComplete();
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getMethod()).isEqualTo("DELETE");
+        assertThat(request.getPath()).endsWith("/employee/bulk");
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"ids\":[\"1\"]}");
     }
 
     @Test
-    void deleteEmployeeByName_NotFound() {
-        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+    void deleteEmployeeById_UnmatchedIdIsNotFound() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new BulkResponseWrapper(
+                        List.of(new BulkItemResponse(null, "Successfully processed request.", null)),
+                        "Successfully processed request.")))
+                .addHeader("Content-Type", "application/json"));
 
-        StepVerifier.create(employeeConnector.deleteEmployeeByName("John Doe"))
+        StepVerifier.create(employeeConnector.deleteEmployeeById("1"))
                 .expectError(EmployeeNotFoundException.class)
                 .verify();
     }
+
+    @Test
+    void createEmployees_SplitsIntoChunksAndReportsFailedChunkPerItem() throws Exception {
+        forgetRecordedRequests();
+        WebClientProperties clientProperties = new WebClientProperties();
+        clientProperties.getBulk().setChunkSize(2);
+        clientProperties.getBulk().setConcurrency(1);
+        ConnectorResilienceProperties properties = new ConnectorResilienceProperties();
+        properties.getRetry().setEnabled(false);
+        EmployeeConnectorImpl connector = new EmployeeConnectorImpl(
+                webClient, new ConnectorResilience(properties), clientProperties, new RosterCacheProperties());
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new BulkResponseWrapper(
+                        List.of(
+                                new BulkItemResponse(john, "Successfully processed request.", null),
+                                new BulkItemResponse(null, "Failed to process request.", "Validation failed")),
+                        "Successfully processed request.")))
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+        StepVerifier.create(connector.createEmployees(List.of(
+                        new EmployeeDto("John Doe", 50000, 30, "Developer"),
+                        new EmployeeDto("Jane Smith", 60000, 35, "Manager"),
+                        new EmployeeDto("Jim Beam", 40000, 40, "Driver"))))
+                .expectNext(
+                        BulkItemResult.succeeded(john),
+                        BulkItemResult.failed("Validation failed"),
+                        BulkItemResult.failed("Failed to process request"))
+                .verifyComplete();
+
+        RecordedRequest first = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(first.getMethod()).isEqualTo("POST");
+        assertThat(first.getPath()).isEqualTo("/employee/bulk");
+        assertThat(objectMapper.readTree(first.getBody().readUtf8())).hasSize(2);
+        assertThat(objectMapper.readTree(
+                        mockWebServer.takeRequest(1, TimeUnit.SECONDS).getBody().readUtf8()))
+                .hasSize(1);
+    }
+
+    @Test
+    void deleteEmployeesById_SendsIdsAndReportsUnmatchedAsNotFound() throws Exception {
+        forgetRecordedRequests();
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(new BulkResponseWrapper(
+                        List.of(
+                                new BulkItemResponse(john, "Successfully processed request.", null),
+                                new BulkItemResponse(null, "Successfully processed request.", null)),
+                        "Successfully processed request.")))
+                .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(employeeConnector.deleteEmployeesById(List.of("1", "2")))
+                .expectNext(BulkItemResult.succeeded(john), BulkItemResult.failed("Employee not found"))
+                .verifyComplete();
+
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getMethod()).isEqualTo("DELETE");
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"ids\":[\"1\",\"2\"]}");
+    }
+
+    @Test
+    void deleteEmployeesById_ServerErrorIsNotRetried() throws Exception {
+        EmployeeConnectorImpl connector = connectorWithRetries();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        StepVerifier.create(connector.deleteEmployeesById(List.of("1", "2")))
+                .expectNext(
+                        BulkItemResult.failed("Failed to process request"),
+                        BulkItemResult.failed("Failed to process request"))
+                .verifyComplete();
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+    }
 }
@@ -0,0 +1,95 @@
+package com.reliaquest.api.connector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    void lateJoinerReceivesElementsEmittedBeforeItSubscribed() {
+        Sinks.Many<Integer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier first = StepVerifier.create(singleFlight.flux("k", () -> {
+                    calls.incrementAndGet();
+                    return upstream.asFlux();
+                }))
+                .expectNext(1, 2)
+                .expectComplete()
+                .verifyLater();
+        upstream.tryEmitNext(1);
+        StepVerifier late = StepVerifier.create(singleFlight.flux("k", () -> {
+                    calls.incrementAndGet();
+                    return Flux.empty();
+                }))
+                .expectNext(1, 2)
+                .expectComplete()
+                .verifyLater();
+        upstream.tryEmitNext(2);
+        upstream.tryEmitComplete();
+
+        first.verify();
+        late.verify();
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.stats().collapsed()).isEqualTo(1);
+    }
+
+    @Test
+    void upstreamIsCancelledOnlyWhenEverySubscriberCancels() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<Integer> never = Flux.<Integer>never().doOnCancel(() -> cancelled.set(true));
+
+        Disposable first = singleFlight.flux("k", () -> never).subscribe();
+        Disposable second = singleFlight.flux("k", () -> never).subscribe();
+
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        assertThat(singleFlight.stats().inFlight()).isEqualTo(1);
+
+        second.dispose();
+        assertThat(cancelled).isTrue();
+        assertThat(singleFlight.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotShareAnExchange() {
+        StepVerifier.create(Flux.merge(
+                        singleFlight
+                                .flux("a", () -> Flux.just(1).concatWith(Flux.never()))
+                                .take(1),
+                        singleFlight.flux("b", () -> Flux.just(2))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(singleFlight.stats().executions()).isEqualTo(2);
+        assertThat(singleFlight.stats().collapsed()).isZero();
+    }
+
+    @Test
+    void errorsAreSharedAndReleaseTheKey() {
+        Sinks.Many<Integer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier first = StepVerifier.create(singleFlight.flux("k", upstream::asFlux))
+                .expectError(IllegalStateException.class)
+                .verifyLater();
+        StepVerifier second = StepVerifier.create(singleFlight.flux("k", upstream::asFlux))
+                .expectError(IllegalStateException.class)
+                .verifyLater();
+        upstream.tryEmitError(new IllegalStateException("boom"));
+
+        first.verify();
+        second.verify();
+        StepVerifier.create(singleFlight.flux("k", () -> Flux.just(3)))
+                .expectNext(3)
+                .verifyComplete();
+    }
+}
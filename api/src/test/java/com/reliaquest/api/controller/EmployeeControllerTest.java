@@ -1,9 +1,17 @@
 package com.reliaquest.api.controller;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
-
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.dto.BulkItemResult;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
@@ -16,7 +24,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -46,6 +58,50 @@ class EmployeeControllerTest {
                 .verifyComplete();
     }
 
+    @Test
+    void streamAllEmployees_EmitsEachEmployee() {
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        EmployeeResponseDto jane = new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com");
+        when(employeeService.getAllEmployees()).thenReturn(Flux.just(john, jane));
+
+        StepVerifier.create(employeeController.streamAllEmployees())
+                .expectNext(john, jane)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamEmployeesByNameSearch_EmitsEachMatch() {
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        when(employeeService.getEmployeesByNameSearch("John")).thenReturn(Flux.just(john));
+
+        StepVerifier.create(employeeController.streamEmployeesByNameSearch("John"))
+                .expectNext(john)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllEmployees_NegotiatesStreamingOnlyWhenAskedFor() throws Exception {
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        when(employeeService.getAllEmployees()).thenReturn(Flux.just(john));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(employeeController).build();
+
+        MvcResult json = mockMvc.perform(get("/api/v1/employees").accept(MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+
+        MvcResult ndjson = mockMvc.perform(get("/api/v1/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(startsWith("{\"id\":\"1\"")));
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() {
         List<EmployeeResponseDto> employees = Arrays.asList(
@@ -98,6 +154,23 @@ class EmployeeControllerTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getTopHighestEarningEmployeeNames_Success() {
+        List<String> topEarners = Arrays.asList("Jane Smith", "John Doe");
+        when(employeeService.getTopHighestEarningEmployeeNames(2)).thenReturn(Flux.fromIterable(topEarners));
+
+        StepVerifier.create(employeeController.getTopHighestEarningEmployeeNames(2))
+                .expectNext(ResponseEntity.ok(topEarners))
+                .verifyComplete();
+    }
+
+    @Test
+    void getTopHighestEarningEmployeeNames_RejectsNonPositiveK() {
+        StepVerifier.create(employeeController.getTopHighestEarningEmployeeNames(0))
+                .expectNext(ResponseEntity.badRequest().build())
+                .verifyComplete();
+    }
+
     @Test
     void createEmployee_Success() {
         EmployeeDto employeeDto = new EmployeeDto("John Doe", 50000, 30, "Developer");
@@ -128,4 +201,20 @@ class EmployeeControllerTest {
                 .expectNext(ResponseEntity.notFound().build())
                 .verifyComplete();
     }
+
+    @Test
+    void createEmployees_ReportsEveryResultWithOk() {
+        List<EmployeeDto> employees = List.of(
+                new EmployeeDto("John Doe", 50000, 30, "Developer"),
+                new EmployeeDto("Jane Smith", 60000, 35, "Manager"));
+        List<BulkItemResult> results = List.of(
+                BulkItemResult.succeeded(
+                        new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com")),
+                BulkItemResult.failed("Failed to process request"));
+        when(employeeService.createEmployees(employees)).thenReturn(Mono.just(results));
+
+        StepVerifier.create(employeeController.createEmployees(employees))
+                .expectNext(ResponseEntity.ok(results))
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,126 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.EmployeeResponseDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private static final EmployeeResponseDto JOHN =
+            new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+    private static final EmployeeResponseDto JOHNNY =
+            new EmployeeResponseDto("2", "Johnny Smith", 55000, 32, "Developer", "johnny@example.com");
+    private static final EmployeeResponseDto JANE =
+            new EmployeeResponseDto("3", "Jane Smithson", 60000, 35, "Manager", "jane@example.com");
+
+    private NameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new NameIndex();
+        nameIndex.onRosterReplaced(RosterSnapshot.of(0, Instant.EPOCH, List.of(JOHN, JOHNNY, JANE)));
+    }
+
+    @Test
+    void search_MatchesCaseInsensitiveSubstrings() {
+        assertThat(nameIndex.search("john")).containsExactly(ids(JOHN, JOHNNY));
+        assertThat(nameIndex.search("SMITH")).containsExactly(ids(JOHNNY, JANE));
+        assertThat(nameIndex.search("ny smi")).containsExactly(ids(JOHNNY));
+        assertThat(nameIndex.search("Jane Smithson")).containsExactly(ids(JANE));
+    }
+
+    @Test
+    void search_ShortFragmentsFallBackToScan() {
+        assertThat(nameIndex.search("oh")).containsExactly(ids(JOHN, JOHNNY));
+        assertThat(nameIndex.search("")).containsExactly(ids(JOHN, JOHNNY, JANE));
+    }
+
+    @Test
+    void search_VerifiesCandidatesSharingAllTrigrams() {
+        // "abcab" contains every trigram of "cabc" but not the fragment itself.
+        EmployeeResponseDto decoy = new EmployeeResponseDto("9", "abcab", 1, 20, "t", "d@example.com");
+        nameIndex.onEmployeeCreated(decoy);
+
+        assertThat(nameIndex.search("cabc")).isEmpty();
+        assertThat(nameIndex.search("bcab")).containsExactly(ids(decoy));
+    }
+
+    @Test
+    void search_UnknownTrigramReturnsNothing() {
+        assertThat(nameIndex.search("xyz")).isEmpty();
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_UpdateIndexIncrementally() {
+        EmployeeResponseDto johanna =
+                new EmployeeResponseDto("4", "Johanna Lee", 70000, 28, "Director", "johanna@example.com");
+
+        nameIndex.onEmployeeCreated(johanna);
+        nameIndex.onEmployeeDeleted("1");
+
+        assertThat(nameIndex.search("joh")).containsExactly(ids(JOHNNY, johanna));
+        assertThat(nameIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void onEmployeeCreated_ReindexesRenamedEmployee() {
+        EmployeeResponseDto renamed =
+                new EmployeeResponseDto("1", "Jack Doe", 50000, 30, "Developer", "john@example.com");
+
+        nameIndex.onEmployeeCreated(renamed);
+
+        assertThat(nameIndex.search("john")).containsExactly(ids(JOHNNY));
+        assertThat(nameIndex.search("jack")).containsExactly(ids(renamed));
+    }
+
+    @Test
+    void search_AgreesWithLinearFilterOnRandomRoster() {
+        Random random = new Random(42);
+        String[] parts = {"an", "na", "jo", "hn", "sm", "ith", "el", "la", "ro", "se"};
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int p = 0; p < 4; p++) {
+                name.append(parts[random.nextInt(parts.length)]);
+            }
+            employees.add(new EmployeeResponseDto(String.valueOf(i), name.toString(), i, 30, "t", i + "@example.com"));
+        }
+        nameIndex.onRosterReplaced(RosterSnapshot.of(1, Instant.EPOCH, employees));
+
+        for (String fragment : List.of("a", "ANNA", "johnsm", "ithro", "lase", "elelel", "q")) {
+            List<String> expected = employees.stream()
+                    .filter(e -> e.getName().toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT)))
+                    .map(EmployeeResponseDto::getId)
+                    .toList();
+            assertThat(nameIndex.search(fragment)).as(fragment).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void onEmployeeDeleted_CompactsTombstonesWithoutARosterRefresh() {
+        for (int i = 0; i < 10_000; i++) {
+            String id = "churn-" + i;
+            nameIndex.onEmployeeCreated(new EmployeeResponseDto(id, "Temp Worker", 1, 20, "t", id + "@example.com"));
+            nameIndex.onEmployeeDeleted(id);
+        }
+
+        assertThat(nameIndex.size()).isEqualTo(3);
+        assertThat(nameIndex.documentSlots()).isLessThanOrEqualTo(3 + 1 + NameIndex.MIN_TOMBSTONES_BEFORE_COMPACTION);
+        assertThat(nameIndex.search("temp")).isEmpty();
+        assertThat(nameIndex.search("smith")).containsExactly(ids(JOHNNY, JANE));
+        assertThat(nameIndex.search("jo")).containsExactly(ids(JOHN, JOHNNY));
+    }
+
+    private static String[] ids(EmployeeResponseDto... employees) {
+        return Arrays.stream(employees).map(EmployeeResponseDto::getId).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private ConnectorResilienceProperties.Limiter settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new ConnectorResilienceProperties.Limiter();
+        settings.setInitialLimit(4);
+        settings.setMaxLimit(8);
+    }
+
+    @Test
+    void limit_RejectsCallsBeyondTheLimit() {
+        settings.setInitialLimit(2);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(settings, nanos::get);
+        Sinks.Empty<String> first = Sinks.empty();
+        Sinks.Empty<String> second = Sinks.empty();
+
+        limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, first.asMono().flux())
+                .subscribe();
+        limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, second.asMono().flux())
+                .subscribe();
+
+        StepVerifier.create(limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, Flux.just("third")))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+        assertThat(limiter.stats().inFlight()).isEqualTo(2);
+        assertThat(limiter.stats().rejected()).isEqualTo(1);
+
+        first.tryEmitEmpty();
+        StepVerifier.create(limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, Flux.just("third")))
+                .expectNext("third")
+                .verifyComplete();
+    }
+
+    @Test
+    void limit_GrowsWhileTheLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(settings, nanos::get);
+        Sinks.Empty<String> holder = Sinks.empty();
+        for (int i = 0; i < 3; i++) {
+            limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, holder.asMono().flux())
+                    .subscribe();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, Flux.just(i)).blockLast();
+        }
+
+        assertThat(limiter.stats().limit()).isEqualTo(8);
+    }
+
+    @Test
+    void limit_DoesNotGrowWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(settings, nanos::get);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(ConnectorOperation.GET_ALL_EMPLOYEES, Flux.just(i)).blockLast();
+        }
+
+        assertThat(limiter.stats().limit()).isEqualTo(4);
+    }
+
+    @Test
+    void limit_HalvesOnUpstreamOverload() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(settings, nanos::get);
+
+        StepVerifier.create(limiter.limit(
+                        ConnectorOperation.GET_ALL_EMPLOYEES, Flux.error(new TooManyRequestsException("slow down"))))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+
+        assertThat(limiter.stats().limit()).isEqualTo(2);
+        assertThat(limiter.stats().overloads()).isEqualTo(1);
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void limit_BacksOffWhenRoundTripsSlowDown() {
+        settings.setLatencyNoiseFloor(Duration.ofMillis(5));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(settings, nanos::get);
+
+        callTaking(limiter, ConnectorOperation.GET_EMPLOYEE_BY_ID, Duration.ofMillis(10));
+        callTaking(limiter, ConnectorOperation.GET_EMPLOYEE_BY_ID, Duration.ofMillis(12));
+        assertThat(limiter.stats().latencyBackoffs()).isZero();
+
+        callTaking(limiter, ConnectorOperation.GET_EMPLOYEE_BY_ID, Duration.ofMillis(50));
+        assertThat(limiter.stats().latencyBackoffs()).isEqualTo(1);
+        assertThat(limiter.stats().limit()).isEqualTo(2);
+    }
+
+    @Test
+    void limit_KeepsASeparateBaselinePerOperation() {
+        settings.setLatencyNoiseFloor(Duration.ofMillis(5));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(settings, nanos::get);
+
+        callTaking(limiter, ConnectorOperation.GET_EMPLOYEE_BY_ID, Duration.ofMillis(10));
+        callTaking(limiter, ConnectorOperation.GET_ALL_EMPLOYEES, Duration.ofMillis(200));
+
+        assertThat(limiter.stats().latencyBackoffs()).isZero();
+    }
+
+    private void callTaking(AdaptiveConcurrencyLimiter limiter, ConnectorOperation operation, Duration latency) {
+        limiter.limit(operation, Flux.just(1).doOnNext(ignored -> nanos.addAndGet(latency.toNanos())))
+                .blockLast();
+    }
+}
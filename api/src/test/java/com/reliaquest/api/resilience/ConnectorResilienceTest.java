@@ -0,0 +1,160 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ConnectorResilienceTest {
+
+    private ConnectorResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConnectorResilienceProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getLimiter().setEnabled(false);
+    }
+
+    @Test
+    void decorate_OpensCircuitAfterRepeatedFailures() {
+        ConnectorResilience resilience = new ConnectorResilience(properties);
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(resilience.decorate(
+                            ConnectorOperation.GET_ALL_EMPLOYEES, Mono.error(new EmployeeApiException("boom"))))
+                    .expectError(EmployeeApiException.class)
+                    .verify();
+        }
+
+        assertThat(resilience
+                        .circuitBreaker(ConnectorOperation.GET_ALL_EMPLOYEES)
+                        .getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(resilience.decorate(ConnectorOperation.GET_ALL_EMPLOYEES, Mono.just("never sent")))
+                .expectError(UpstreamUnavailableException.class)
+                .verify();
+        assertThat(resilience
+                        .circuitBreaker(ConnectorOperation.GET_EMPLOYEE_BY_ID)
+                        .getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void decorate_NotFoundDoesNotCountAsFailure() {
+        ConnectorResilience resilience = new ConnectorResilience(properties);
+
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(resilience.decorate(
+                            ConnectorOperation.GET_EMPLOYEE_BY_ID, Mono.error(new EmployeeNotFoundException("gone"))))
+                    .expectError(EmployeeNotFoundException.class)
+                    .verify();
+        }
+
+        assertThat(resilience
+                        .circuitBreaker(ConnectorOperation.GET_EMPLOYEE_BY_ID)
+                        .getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void decorate_LocalRejectionsDoNotCountAgainstCircuit() {
+        properties.getLimiter().setEnabled(true);
+        properties.getLimiter().setInitialLimit(1);
+        properties.getLimiter().setMinLimit(1);
+        ConnectorResilience resilience = new ConnectorResilience(properties);
+        Sinks.Empty<String> pending = Sinks.empty();
+
+        resilience
+                .decorate(ConnectorOperation.GET_ALL_EMPLOYEES, pending.asMono())
+                .subscribe();
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(resilience.decorate(ConnectorOperation.GET_ALL_EMPLOYEES, Mono.just("rejected")))
+                    .expectError(TooManyRequestsException.class)
+                    .verify();
+        }
+
+        CircuitBreaker circuitBreaker = resilience.circuitBreaker(ConnectorOperation.GET_ALL_EMPLOYEES);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void decorate_FullBulkheadIsTooManyRequests() {
+        ConnectorResilienceProperties.Operation create = new ConnectorResilienceProperties.Operation();
+        ConnectorResilienceProperties.BulkheadOverride bulkhead = new ConnectorResilienceProperties.BulkheadOverride();
+        bulkhead.setMaxConcurrentCalls(1);
+        create.setBulkhead(bulkhead);
+        properties.getOperations().put(ConnectorOperation.CREATE_EMPLOYEE.getKey(), create);
+        ConnectorResilience resilience = new ConnectorResilience(properties);
+        Sinks.Empty<String> pending = Sinks.empty();
+
+        resilience
+                .decorate(ConnectorOperation.CREATE_EMPLOYEE, pending.asMono())
+                .subscribe();
+
+        StepVerifier.create(resilience.decorate(ConnectorOperation.CREATE_EMPLOYEE, Mono.just("second")))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+        assertThat(resilience
+                        .circuitBreaker(ConnectorOperation.CREATE_EMPLOYEE)
+                        .getMetrics()
+                        .getNumberOfFailedCalls())
+                .isZero();
+        StepVerifier.create(resilience.decorate(ConnectorOperation.DELETE_EMPLOYEE, Mono.just("other operation")))
+                .expectNext("other operation")
+                .verifyComplete();
+    }
+
+    @Test
+    void decorate_TimesEachAttemptByOperationAndOutcome() {
+        properties.getRetry().setMaxAttempts(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConnectorResilience resilience = new ConnectorResilience(properties, registry);
+        WebClientResponseException tooManyRequests =
+                WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "", null, null, null);
+        WebClientResponseException unavailable =
+                WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(), "", null, null, null);
+
+        StepVerifier.create(resilience.decorate(ConnectorOperation.GET_EMPLOYEE_BY_ID, Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+        StepVerifier.create(resilience.decorate(
+                        ConnectorOperation.GET_EMPLOYEE_BY_ID,
+                        Mono.error(new TooManyRequestsException("slow down", null, tooManyRequests))))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+        StepVerifier.create(resilience.decorate(
+                        ConnectorOperation.DELETE_EMPLOYEE,
+                        Mono.error(new EmployeeApiException("Failed to process request", unavailable))))
+                .expectError(EmployeeApiException.class)
+                .verify();
+
+        assertThat(count(registry, "get-employee-by-id", "success")).isEqualTo(1);
+        assertThat(count(registry, "get-employee-by-id", "rate_limited")).isEqualTo(1);
+        assertThat(count(registry, "delete-employee", "server_error")).isEqualTo(1);
+        assertThat(ConnectorResilience.outcome(new TooManyRequestsException("local")))
+                .isEqualTo("rejected");
+    }
+
+    private static long count(SimpleMeterRegistry registry, String operation, String outcome) {
+        return registry.get(ConnectorResilience.CALLS_METER)
+                .tags("operation", operation, "outcome", outcome)
+                .timer()
+                .count();
+    }
+}
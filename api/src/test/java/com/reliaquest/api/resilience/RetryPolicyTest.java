@@ -0,0 +1,180 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.ConnectorResilienceProperties;
+import com.reliaquest.api.connector.ConnectorOperation;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class RetryPolicyTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private ConnectorResilienceProperties.Retry settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new ConnectorResilienceProperties.Retry();
+        settings.setInitialBackoff(Duration.ofMillis(1));
+        settings.setMaxBackoff(Duration.ofMillis(2));
+    }
+
+    @Test
+    void apply_RetriesTransientFailureUntilSuccess() {
+        RetryPolicy policy = policy();
+        AtomicInteger attempts = new AtomicInteger();
+        Flux<String> call =
+                Flux.defer(() -> attempts.incrementAndGet() < 3 ? Flux.error(upstream(503)) : Flux.just("ok"));
+
+        StepVerifier.create(policy.apply(call)).expectNext("ok").verifyComplete();
+
+        assertThat(policy.stats().attempts()).isEqualTo(3);
+        assertThat(policy.stats().retries()).isEqualTo(2);
+    }
+
+    @Test
+    void apply_StopsAtMaxAttempts() {
+        RetryPolicy policy = policy();
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.apply(Flux.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Flux.error(upstream(429));
+                })))
+                .expectError(EmployeeApiException.class)
+                .verify();
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void apply_DoesNotRetryClientErrorsOrLocalRejections() {
+        RetryPolicy policy = policy();
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.apply(Flux.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Flux.error(upstream(400));
+                })))
+                .expectError(EmployeeApiException.class)
+                .verify();
+        StepVerifier.create(policy.apply(Flux.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Flux.error(new TooManyRequestsException("limiter is full"));
+                })))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void apply_DoesNotRetryAfterElementsWereEmitted() {
+        RetryPolicy policy = policy();
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.apply(Flux.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Flux.just("first").concatWith(Flux.error(upstream(503)));
+                })))
+                .expectNext("first")
+                .expectError(EmployeeApiException.class)
+                .verify();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void apply_StopsRetryingWhenBudgetIsExhausted() {
+        settings.setBudgetCapacity(2);
+        settings.setBudgetRatio(0);
+        settings.setBudgetMinRetriesPerSecond(1);
+        RetryPolicy policy = policy();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(policy.apply(Flux.error(upstream(503))))
+                    .expectError(EmployeeApiException.class)
+                    .verify();
+        }
+
+        assertThat(policy.stats().retries()).isEqualTo(2);
+        assertThat(policy.stats().budgetExhausted()).isEqualTo(2);
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        StepVerifier.create(policy.apply(Flux.error(upstream(503))))
+                .expectError(EmployeeApiException.class)
+                .verify();
+        assertThat(policy.stats().retries()).isEqualTo(3);
+    }
+
+    @Test
+    void apply_LongRetryAfterIsNotWaitedOut() {
+        RetryPolicy policy = policy();
+        TooManyRequestsException rateLimited =
+                new TooManyRequestsException("slow down", Duration.ofMinutes(1), upstream(429));
+
+        StepVerifier.create(policy.apply(Flux.error(rateLimited)))
+                .expectErrorMatches(e -> e == rateLimited)
+                .verify();
+
+        assertThat(policy.stats().retries()).isZero();
+    }
+
+    @Test
+    void apply_RetriesNonIdempotentOperationOnlyWhenUpstreamNeverActed() {
+        RetryPolicy policy = policy(ConnectorOperation.BULK_CREATE_EMPLOYEES);
+        EmployeeApiException refused = new EmployeeApiException(
+                "Failed to connect",
+                new WebClientRequestException(
+                        new ConnectException("Connection refused"),
+                        HttpMethod.POST,
+                        URI.create("http://localhost/api/v1/employee"),
+                        HttpHeaders.EMPTY));
+
+        StepVerifier.create(policy.apply(Flux.error(upstream(503))))
+                .expectError(EmployeeApiException.class)
+                .verify();
+        StepVerifier.create(policy.apply(Flux.error(new EmployeeApiException("Timed out", new TimeoutException()))))
+                .expectError(EmployeeApiException.class)
+                .verify();
+        assertThat(policy.stats().retries()).isZero();
+
+        AtomicInteger attempts = new AtomicInteger();
+        StepVerifier.create(policy.apply(Flux.defer(() -> switch (attempts.incrementAndGet()) {
+                    case 1 -> Flux.error(upstream(429));
+                    case 2 -> Flux.error(refused);
+                    default -> Flux.just("created");
+                })))
+                .expectNext("created")
+                .verifyComplete();
+        assertThat(policy.stats().retries()).isEqualTo(2);
+    }
+
+    private RetryPolicy policy() {
+        return policy(ConnectorOperation.GET_ALL_EMPLOYEES);
+    }
+
+    private RetryPolicy policy(ConnectorOperation operation) {
+        return new RetryPolicy(operation, settings, nanos::get, () -> 0.5);
+    }
+
+    private static EmployeeApiException upstream(int status) {
+        return new EmployeeApiException(
+                "Failed to process request",
+                WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0], null));
+    }
+}
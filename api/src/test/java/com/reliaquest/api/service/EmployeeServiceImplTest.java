@@ -1,12 +1,20 @@
 package com.reliaquest.api.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.RosterCacheProperties;
 import com.reliaquest.api.connector.EmployeeConnector;
+import com.reliaquest.api.dto.BulkItemResult;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.dto.EmployeeResponseDto;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.index.NameIndex;
+import jakarta.validation.Validation;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +31,19 @@ class EmployeeServiceImplTest {
     private EmployeeConnector employeeConnector;
 
     private EmployeeServiceImpl employeeService;
+    private EmployeeRosterCache rosterCache;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        employeeService = new EmployeeServiceImpl(employeeConnector);
+        NameIndex nameIndex = new NameIndex();
+        RosterCacheProperties properties = new RosterCacheProperties();
+        rosterCache = new EmployeeRosterCache(employeeConnector, properties, List.of(nameIndex));
+        employeeService = new EmployeeServiceImpl(
+                employeeConnector,
+                rosterCache,
+                nameIndex,
+                Validation.buildDefaultValidatorFactory().getValidator());
     }
 
     @Test
@@ -54,6 +70,21 @@ class EmployeeServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getEmployeesByNameSearch_IsCaseInsensitiveAndMatchesSubstrings() {
+        EmployeeResponseDto john = new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        EmployeeResponseDto jane = new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com");
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(john, jane));
+
+        StepVerifier.create(employeeService.getEmployeesByNameSearch("SMI"))
+                .expectNext(jane)
+                .verifyComplete();
+        StepVerifier.create(employeeService.getEmployeesByNameSearch("j"))
+                .expectNext(john, jane)
+                .verifyComplete();
+        StepVerifier.create(employeeService.getEmployeesByNameSearch("xyz")).verifyComplete();
+    }
+
     @Test
     void getEmployeeById_Success() {
         EmployeeResponseDto employee =
@@ -99,6 +130,47 @@ class EmployeeServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getTopHighestEarningEmployeeNames_ReturnsRequestedNumberOfEarners() {
+        List<EmployeeResponseDto> employees = Arrays.asList(
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com"),
+                new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com"),
+                new EmployeeResponseDto("3", "Bob Johnson", 55000, 40, "Developer", "bob@example.com"));
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.fromIterable(employees));
+
+        StepVerifier.create(employeeService.getTopHighestEarningEmployeeNames(2))
+                .expectNext("Jane Smith", "Bob Johnson")
+                .verifyComplete();
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_TracksCreatedEmployees() {
+        EmployeeResponseDto existing =
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        EmployeeResponseDto createdEmployee =
+                new EmployeeResponseDto("2", "Jane Smith", 90000, 35, "Manager", "jane@example.com");
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(existing));
+        when(employeeConnector.createEmployee(any(EmployeeDto.class))).thenReturn(Mono.just(createdEmployee));
+
+        StepVerifier.create(employeeService.getHighestSalaryOfEmployees())
+                .expectNext(50000)
+                .verifyComplete();
+        StepVerifier.create(employeeService.createEmployee(new EmployeeDto("Jane Smith", 90000, 35, "Manager")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(employeeService.getHighestSalaryOfEmployees())
+                .expectNext(90000)
+                .verifyComplete();
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_EmptyRoster() {
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.empty());
+
+        StepVerifier.create(employeeService.getHighestSalaryOfEmployees()).verifyComplete();
+    }
+
     @Test
     void createEmployee_Success() {
         EmployeeDto employeeDto = new EmployeeDto("John Doe", 50000, 30, "Developer");
@@ -112,12 +184,100 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    void deleteEmployeeById_Success() {
-        EmployeeResponseDto employee =
+    void createEmployee_IsVisibleInCachedRoster() {
+        EmployeeResponseDto existing =
                 new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
-        when(employeeConnector.getEmployeeById("1")).thenReturn(Mono.just(employee));
-        when(employeeConnector.deleteEmployeeByName("John Doe")).thenReturn(Mono.empty());
+        EmployeeResponseDto createdEmployee =
+                new EmployeeResponseDto("2", "Jane Smith", 60000, 35, "Manager", "jane@example.com");
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(existing));
+        when(employeeConnector.createEmployee(any(EmployeeDto.class))).thenReturn(Mono.just(createdEmployee));
+
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectNext(existing)
+                .verifyComplete();
+        StepVerifier.create(employeeService.createEmployee(new EmployeeDto("Jane Smith", 60000, 35, "Manager")))
+                .expectNext(createdEmployee)
+                .verifyComplete();
+
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectNext(existing, createdEmployee)
+                .verifyComplete();
+        verify(employeeConnector, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void deleteEmployeeById_DeletesByIdAndUpdatesCache() {
+        EmployeeResponseDto john = new EmployeeResponseDto(
+                "9b1b4b8e-7b5c-4c8e-9a55-3f6a2c1d0e11", "John Doe", 50000, 30, "Developer", "john@example.com");
+        EmployeeResponseDto namesake = new EmployeeResponseDto(
+                "0e1f8a52-3c7d-4e57-8b1e-6a8c5d2f4b90", "John Doe", 60000, 35, "Manager", "john2@example.com");
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(john, namesake));
+        when(employeeConnector.deleteEmployeeById(namesake.getId())).thenReturn(Mono.empty());
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectNextCount(2)
+                .verifyComplete();
+
+        StepVerifier.create(employeeService.deleteEmployeeById(namesake.getId()))
+                .verifyComplete();
+
+        verify(employeeConnector).deleteEmployeeById(namesake.getId());
+        verify(employeeConnector, times(0)).getEmployeeById(any());
+        assertThat(rosterCache.findById(namesake.getId())).isEmpty();
+        assertThat(rosterCache.findById(john.getId())).contains(john);
+    }
+
+    @Test
+    void deleteEmployeeById_UnknownIdIsNotFound() {
+        String stale = "9b1b4b8e-7b5c-4c8e-9a55-3f6a2c1d0e11";
+        when(employeeConnector.deleteEmployeeById(stale)).thenReturn(Mono.error(new EmployeeNotFoundException(stale)));
+
+        StepVerifier.create(employeeService.deleteEmployeeById(stale))
+                .expectError(EmployeeNotFoundException.class)
+                .verify();
+        StepVerifier.create(employeeService.deleteEmployeeById("1"))
+                .expectError(EmployeeNotFoundException.class)
+                .verify();
+        verify(employeeConnector, times(0)).deleteEmployeeById("1");
+    }
 
-        StepVerifier.create(employeeService.deleteEmployeeById("1")).verifyComplete();
+    @Test
+    void createEmployees_SendsOnlyValidEmployeesAndKeepsInputOrder() {
+        EmployeeDto john = new EmployeeDto("John Doe", 50000, 30, "Developer");
+        EmployeeDto underage = new EmployeeDto("Young Person", 10000, 12, "Intern");
+        EmployeeDto jane = new EmployeeDto("Jane Smith", 60000, 35, "Manager");
+        EmployeeResponseDto createdJohn =
+                new EmployeeResponseDto("1", "John Doe", 50000, 30, "Developer", "john@example.com");
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.empty());
+        when(employeeConnector.createEmployees(List.of(john, jane)))
+                .thenReturn(Flux.just(BulkItemResult.succeeded(createdJohn), BulkItemResult.failed("Upstream failed")));
+        StepVerifier.create(employeeService.getAllEmployees()).verifyComplete();
+
+        StepVerifier.create(employeeService.createEmployees(Arrays.asList(john, underage, jane, null)))
+                .expectNext(List.of(
+                        BulkItemResult.succeeded(createdJohn),
+                        BulkItemResult.failed("Age must be at least 18"),
+                        BulkItemResult.failed("Upstream failed"),
+                        BulkItemResult.failed("Employee must not be null")))
+                .verifyComplete();
+        assertThat(rosterCache.findById("1")).contains(createdJohn);
+    }
+
+    @Test
+    void deleteEmployeesById_RejectsIdsThatCannotExistAndUpdatesCache() {
+        EmployeeResponseDto john = new EmployeeResponseDto(
+                "9b1b4b8e-7b5c-4c8e-9a55-3f6a2c1d0e11", "John Doe", 50000, 30, "Developer", "john@example.com");
+        String missing = "0e1f8a52-3c7d-4e57-8b1e-6a8c5d2f4b90";
+        when(employeeConnector.getAllEmployees()).thenReturn(Flux.just(john));
+        when(employeeConnector.deleteEmployeesById(List.of(john.getId(), missing)))
+                .thenReturn(Flux.just(BulkItemResult.succeeded(john), BulkItemResult.failed("Employee not found")));
+        StepVerifier.create(employeeService.getAllEmployees()).expectNext(john).verifyComplete();
+
+        StepVerifier.create(employeeService.deleteEmployeesById(List.of(john.getId(), "1", missing)))
+                .expectNext(List.of(
+                        BulkItemResult.succeeded(john),
+                        BulkItemResult.failed("Employee not found with id: 1"),
+                        BulkItemResult.failed("Employee not found")))
+                .verifyComplete();
+        assertThat(rosterCache.findById(john.getId())).isEmpty();
     }
 }
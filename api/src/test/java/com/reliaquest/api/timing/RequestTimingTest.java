@@ -0,0 +1,80 @@
+package com.reliaquest.api.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class RequestTimingTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> headers = new ArrayList<>();
+    private final RequestTiming timing = new RequestTiming("abc", headers::add, clock::get);
+
+    @Test
+    void serverTiming_AccumulatesRepeatedStagesAndEndsWithTotal() {
+        timing.record("roster", 2_000_000);
+        timing.record("upstream-wait", 1_000_000);
+        timing.record("upstream-wait", 1_500_000);
+        clock.set(5_000_000);
+
+        assertThat(timing.serverTiming())
+                .isEqualTo("roster;dur=2.000, upstream-wait;dur=2.500;desc=\"2 calls\", total;dur=5.000");
+    }
+
+    @Test
+    void responseReady_HandsOverTheHeaderOnceAndSummaryReportsWriteTime() {
+        timing.record("upstream-wait", 1_000_000);
+        clock.set(3_000_000);
+        timing.responseReady();
+        clock.set(4_000_000);
+        timing.responseReady();
+
+        assertThat(headers).containsExactly("upstream-wait;dur=1.000, total;dur=3.000");
+        assertThat(timing.summary())
+                .isEqualTo("correlation_id=abc upstream_wait_ms=1.000 write_ms=1.000 total_ms=4.000");
+    }
+
+    @Test
+    void stageAndMeasure_RecordIntoTheTimingInTheContext() {
+        Mono<Integer> pipeline = RequestTiming.stage("roster", Mono.fromCallable(() -> {
+                    clock.addAndGet(2_000_000);
+                    return 1;
+                }))
+                .flatMap(value -> RequestTiming.measure("rank", () -> {
+                    clock.addAndGet(1_000_000);
+                    return value + 1;
+                }))
+                .contextWrite(Context.of(RequestTiming.class, timing));
+
+        StepVerifier.create(pipeline).expectNext(2).verifyComplete();
+
+        assertThat(timing.serverTiming()).isEqualTo("roster;dur=2.000, rank;dur=1.000, total;dur=3.000");
+    }
+
+    @Test
+    void addStagesTo_CopiesSharedStagesWithTheirCallCounts() {
+        RequestTiming shared = RequestTiming.shared("abc");
+        shared.record("upstream-wait", 2_000_000);
+        shared.record("upstream-wait", 1_000_000);
+
+        shared.addStagesTo(timing);
+        timing.record("upstream-wait", 1_000_000);
+
+        assertThat(shared.getCorrelationId()).isEqualTo("abc");
+        assertThat(timing.serverTiming()).isEqualTo("upstream-wait;dur=4.000;desc=\"3 calls\", total;dur=0.000");
+    }
+
+    @Test
+    void stageAndMeasure_WithoutTimingJustRunThePipeline() {
+        StepVerifier.create(RequestTiming.stage("roster", Mono.just(1))
+                        .flatMap(value -> RequestTiming.measure("rank", () -> value + 1)))
+                .expectNext(2)
+                .verifyComplete();
+    }
+}
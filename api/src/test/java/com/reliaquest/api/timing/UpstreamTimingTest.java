@@ -0,0 +1,71 @@
+package com.reliaquest.api.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class UpstreamTimingTest {
+
+    private MockWebServer mockWebServer;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        HttpClient httpClient = HttpClient.create()
+                .doAfterRequest((request, connection) -> UpstreamTiming.requestSent(request.currentContextView()));
+        webClient = WebClient.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(UpstreamTiming.filter())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void timedExchange_ForwardsCorrelationIdAndRecordsUpstreamStages() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+        RequestTiming timing = new RequestTiming("abc", header -> {});
+
+        StepVerifier.create(webClient
+                        .get()
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .contextWrite(Context.of(RequestTiming.class, timing)))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS).getHeader(RequestTiming.CORRELATION_ID_HEADER))
+                .isEqualTo("abc");
+        assertThat(timing.serverTiming())
+                .containsSubsequence("upstream-connect;dur=", "upstream-wait;dur=", "upstream-body;dur=", "total;dur=");
+    }
+
+    @Test
+    void untimedExchange_IsLeftAlone() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+
+        StepVerifier.create(webClient.get().retrieve().bodyToMono(String.class))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS).getHeader(RequestTiming.CORRELATION_ID_HEADER))
+                .isNull();
+    }
+}
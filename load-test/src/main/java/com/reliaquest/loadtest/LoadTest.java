@@ -0,0 +1,129 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the api with an open workload: requests arrive on a fixed schedule whether or not earlier ones have been
+ * answered, as they would from many independent clients, so a slow api builds up a queue instead of being offered
+ * less load. The arrival rate grows linearly to {@code --rps} over {@code --ramp-up}, which is not measured, and then
+ * stays there for {@code --duration}.
+ *
+ * <p>Run with {@code ./gradlew load-test:loadTest}; see {@link LoadTestOptions} for the options.
+ */
+public final class LoadTest {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        options.describe().forEach(System.out::println);
+        try (LocalApps apps = options.start() ? LocalApps.start(options) : null) {
+            run(options);
+        }
+    }
+
+    private static void run(LoadTestOptions options) throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "load-test-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        Workload workload = Workload.prime(client, options.target(), options.mix());
+        System.out.println("Roster has " + workload.seedSize() + " employees");
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        options.mix().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long rampUp = options.rampUp().toNanos();
+        long end = rampUp + options.duration().toNanos();
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long nextProgress = PROGRESS_INTERVAL.toNanos();
+
+        for (long arrival = 0; ; arrival++) {
+            long offset = arrivalOffset(arrival, options.rps(), rampUp);
+            if (offset >= end) {
+                break;
+            }
+            long due = start + offset;
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            if (offset >= nextProgress) {
+                System.out.printf(
+                        "%3ds %s, %d in flight%n",
+                        TimeUnit.NANOSECONDS.toSeconds(offset),
+                        offset < rampUp ? "ramping up" : "measuring",
+                        options.maxInFlight() - inFlight.availablePermits());
+                nextProgress += PROGRESS_INTERVAL.toNanos();
+            }
+
+            Operation operation = workload.next();
+            OperationStats measured = offset >= rampUp ? stats.get(operation) : null;
+            if (!inFlight.tryAcquire()) {
+                if (measured != null) {
+                    measured.drop();
+                }
+                continue;
+            }
+            HttpRequest request =
+                    operation.request(workload).timeout(options.timeout()).build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+                inFlight.release();
+                if (error != null) {
+                    if (measured != null) {
+                        measured.failed(micros);
+                    }
+                    return;
+                }
+                operation.completed(workload, response);
+                if (measured != null) {
+                    measured.completed(response.statusCode(), operation.expected(response.statusCode()), micros);
+                }
+            });
+        }
+
+        Duration drain = options.timeout().plusSeconds(5);
+        if (!inFlight.tryAcquire(options.maxInFlight(), drain.toNanos(), TimeUnit.NANOSECONDS)) {
+            System.out.println("Some requests were still outstanding " + drain + " after the run");
+        }
+        executor.shutdownNow();
+
+        LoadTestReport report = new LoadTestReport(options, stats, startedAt, options.duration());
+        report.print();
+        System.out.println("\nResults written to " + report.write());
+    }
+
+    /**
+     * Offset from the start of the run at which the given arrival is due: the rate grows linearly to {@code rps}
+     * over the ramp-up, so the arrivals it holds are {@code rps * rampUp / 2}, evenly spaced at {@code 1 / rps}
+     * after it.
+     */
+    static long arrivalOffset(long arrival, double rps, long rampUpNanos) {
+        double rampUpSeconds = rampUpNanos / 1e9;
+        double rampUpArrivals = rps * rampUpSeconds / 2;
+        double seconds = arrival < rampUpArrivals
+                ? Math.sqrt(2 * arrival * rampUpSeconds / rps)
+                : rampUpSeconds + (arrival - rampUpArrivals) / rps;
+        return (long) (seconds * 1e9);
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options, each given as {@code --name=value}.
+ *
+ * @param start whether to start the mock server and the api from their jars, or to drive an api already running at
+ *     {@code target}
+ * @param serverArgs Spring Boot arguments for the mock server; by default its snapshot file, request limit and debug
+ *     logging are turned off so the run measures the api
+ * @param apiArgs Spring Boot arguments for the api
+ * @param rps target arrival rate once ramped up, in requests per second
+ * @param rampUp time over which the arrival rate grows linearly from zero to {@code rps}; not measured
+ * @param duration measured time at the full rate, after the ramp-up
+ * @param mix relative weight of each operation
+ * @param maxInFlight requests outstanding at once before new arrivals are dropped and counted as such
+ */
+record LoadTestOptions(
+        boolean start,
+        URI target,
+        int apiPort,
+        int serverPort,
+        Path apiJar,
+        Path serverJar,
+        List<String> apiArgs,
+        List<String> serverArgs,
+        double rps,
+        Duration rampUp,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        Duration timeout,
+        Path reportDir) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> apiArgs = new LinkedHashMap<>();
+        Map<String, String> serverArgs = new LinkedHashMap<>();
+        serverArgs.put("--mock.snapshot.path", "--mock.snapshot.path=");
+        serverArgs.put("--mock.request-limit.enabled", "--mock.request-limit.enabled=false");
+        serverArgs.put("--logging.level.com.reliaquest", "--logging.level.com.reliaquest=INFO");
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, equals);
+            String value = arg.substring(equals + 1);
+            switch (name) {
+                case "api-arg" -> apiArgs.put(argName(value), value);
+                case "server-arg" -> serverArgs.put(argName(value), value);
+                default -> values.put(name, value);
+            }
+        }
+
+        int apiPort = Integer.parseInt(values.getOrDefault("api-port", "8111"));
+        int serverPort = Integer.parseInt(values.getOrDefault("server-port", "8112"));
+        boolean start = Boolean.parseBoolean(values.getOrDefault("start", "true"));
+        return new LoadTestOptions(
+                start,
+                URI.create(values.getOrDefault("target", "http://localhost:" + apiPort)),
+                apiPort,
+                serverPort,
+                start ? Path.of(required(values, "api-jar")) : null,
+                start ? Path.of(required(values, "server-jar")) : null,
+                List.copyOf(apiArgs.values()),
+                List.copyOf(serverArgs.values()),
+                Double.parseDouble(values.getOrDefault("rps", "100")),
+                duration(values.getOrDefault("ramp-up", "30s")),
+                duration(values.getOrDefault("duration", "60s")),
+                mix(values.get("mix")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+                duration(values.getOrDefault("timeout", "10s")),
+                Path.of(values.getOrDefault("report-dir", "build/reports/load-test")));
+    }
+
+    /**
+     * Weights as {@code get-by-id=30,create=10,...}; operations left out are not run. Without a mix every operation
+     * runs with its default weight.
+     */
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        if (value == null) {
+            for (Operation operation : Operation.values()) {
+                mix.put(operation, operation.defaultWeight());
+            }
+            return mix;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in the mix but got '" + entry + "'");
+            }
+            mix.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+        return mix;
+    }
+
+    /**
+     * Durations in the Spring Boot style: {@code 500ms}, {@code 30s}, {@code 2m}, {@code 1h}.
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration '" + value + "'");
+        };
+    }
+
+    List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add("target=" + target + (start ? " (started locally, mock server on port " + serverPort + ")" : ""));
+        lines.add("rps=" + rps + " ramp-up=" + rampUp + " duration=" + duration + " max-in-flight=" + maxInFlight);
+        lines.add("mix="
+                + String.join(
+                        ",",
+                        mix.entrySet().stream()
+                                .map(entry -> entry.getKey().key() + "=" + entry.getValue())
+                                .toList()));
+        return lines;
+    }
+
+    private static String argName(String arg) {
+        int equals = arg.indexOf('=');
+        return equals < 0 ? arg : arg.substring(0, equals);
+    }
+
+    private static String required(Map<String, String> values, String name) {
+        String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + name + " is required unless --start=false");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,185 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Prints a summary table of a run and writes {@code results.json}: the options, and per operation and in total the
+ * achieved rate, outcome counts and rates, status codes, latency percentiles in milliseconds and the full latency
+ * histogram, HdrHistogram-compressed and base64-encoded, so two runs can be compared at any percentile later.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    private final LoadTestOptions options;
+    private final Map<Operation, OperationStats> stats;
+    private final Instant startedAt;
+    private final Duration measured;
+
+    LoadTestReport(
+            LoadTestOptions options, Map<Operation, OperationStats> stats, Instant startedAt, Duration measured) {
+        this.options = options;
+        this.stats = stats;
+        this.startedAt = startedAt;
+        this.measured = measured;
+    }
+
+    void print() {
+        System.out.printf(
+                Locale.ROOT,
+                "%n%-16s %9s %8s %9s %9s %9s %9s %7s %7s %7s%n",
+                "operation",
+                "requests",
+                "rps",
+                "p50 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms",
+                "err %",
+                "429 %",
+                "drop %");
+        stats.forEach(
+                (operation, operationStats) -> printRow(operation.key(), operationStats.latencies(), operationStats));
+        printRow("total", total(), null);
+    }
+
+    Path write() throws IOException {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) ->
+                operations.put(operation.key(), summary(operationStats.latencies(), operationStats)));
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("startedAt", startedAt.toString());
+        run.put("target", options.target().toString());
+        run.put("targetRps", options.rps());
+        run.put("rampUpSeconds", options.rampUp().toMillis() / 1000.0);
+        run.put("measuredSeconds", measured.toMillis() / 1000.0);
+        run.put("maxInFlight", options.maxInFlight());
+        run.put("timeoutSeconds", options.timeout().toMillis() / 1000.0);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        run.put("mix", mix);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("run", run);
+        results.put("total", summary(total(), null));
+        results.put("operations", operations);
+
+        Path file = options.reportDir().resolve("results.json");
+        Files.createDirectories(options.reportDir());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), results);
+        return file;
+    }
+
+    private Histogram total() {
+        Histogram total = new Histogram(3);
+        stats.values().forEach(operationStats -> total.add(operationStats.latencies()));
+        return total;
+    }
+
+    private void printRow(String name, Histogram latencies, OperationStats operationStats) {
+        Counts counts = counts(operationStats);
+        System.out.printf(
+                Locale.ROOT,
+                "%-16s %9d %8.1f %9.2f %9.2f %9.2f %9.2f %7.2f %7.2f %7.2f%n",
+                name,
+                counts.requests,
+                counts.requests / seconds(),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()),
+                percent(counts.errors + counts.failures, counts.requests),
+                percent(counts.rateLimited, counts.requests),
+                percent(counts.dropped, counts.requests));
+    }
+
+    private Map<String, Object> summary(Histogram latencies, OperationStats operationStats) {
+        Counts counts = counts(operationStats);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", counts.requests);
+        summary.put("rps", counts.requests / seconds());
+        summary.put("ok", counts.ok);
+        summary.put("errors", counts.errors);
+        summary.put("failures", counts.failures);
+        summary.put("rateLimited", counts.rateLimited);
+        summary.put("dropped", counts.dropped);
+        summary.put("errorRate", rate(counts.errors + counts.failures, counts.requests));
+        summary.put("rateLimitedRate", rate(counts.rateLimited, counts.requests));
+        summary.put("droppedRate", rate(counts.dropped, counts.requests));
+        if (operationStats != null) {
+            summary.put("statuses", operationStats.statuses());
+        }
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            percentiles.put(PERCENTILE_NAMES[i], millis(latencies.getValueAtPercentile(PERCENTILES[i])));
+        }
+        percentiles.put("max", millis(latencies.getMaxValue()));
+        percentiles.put("mean", latencies.getMean() / 1000.0);
+        summary.put("latencyMs", percentiles);
+        summary.put("histogram", encode(latencies));
+        return summary;
+    }
+
+    /**
+     * Counts for one operation, or summed over all of them when {@code operationStats} is null.
+     */
+    private Counts counts(OperationStats operationStats) {
+        Counts counts = new Counts();
+        for (OperationStats s : operationStats == null ? stats.values() : List.of(operationStats)) {
+            counts.requests += s.requests();
+            counts.ok += s.ok();
+            counts.errors += s.errors();
+            counts.failures += s.failures();
+            counts.rateLimited += s.rateLimited();
+            counts.dropped += s.dropped();
+        }
+        return counts;
+    }
+
+    private double seconds() {
+        return Math.max(measured.toMillis(), 1) / 1000.0;
+    }
+
+    private static String encode(Histogram latencies) {
+        ByteBuffer buffer = ByteBuffer.allocate(latencies.getNeededByteBufferCapacity());
+        int length = latencies.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double rate(long count, long requests) {
+        return requests == 0 ? 0 : (double) count / requests;
+    }
+
+    private static double percent(long count, long requests) {
+        return rate(count, requests) * 100;
+    }
+
+    private static final class Counts {
+        private long requests;
+        private long ok;
+        private long errors;
+        private long failures;
+        private long rateLimited;
+        private long dropped;
+    }
+}
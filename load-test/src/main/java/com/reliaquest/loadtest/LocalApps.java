@@ -0,0 +1,99 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mock server and the api, each in its own JVM so the load generator does not compete with them for heap and
+ * garbage collection. Their output goes to {@code server.log} and {@code api.log} in the report directory.
+ */
+final class LocalApps implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    private final List<Process> processes = new ArrayList<>();
+    private final HttpClient client =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private LocalApps() {}
+
+    /**
+     * Starts the mock server, then the api pointed at it, and returns once both report healthy.
+     */
+    static LocalApps start(LoadTestOptions options) throws IOException, InterruptedException {
+        LocalApps apps = new LocalApps();
+        try {
+            apps.launch("server", options.serverJar(), options.serverPort(), options.serverArgs(), options.reportDir());
+            List<String> apiArgs = new ArrayList<>();
+            apiArgs.add("--employee.client.base-url=http://localhost:" + options.serverPort() + "/api/v1");
+            apiArgs.addAll(options.apiArgs());
+            apps.launch("api", options.apiJar(), options.apiPort(), apiArgs, options.reportDir());
+            return apps;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            apps.close();
+            throw e;
+        }
+    }
+
+    private void launch(String name, Path jar, int port, List<String> args, Path reportDir)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+        Path log = reportDir.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+        System.out.println("Started " + name + " (pid " + process.pid() + "), logging to " + log);
+        awaitHealthy(name, process, URI.create("http://localhost:" + port + "/actuator/health"), log);
+    }
+
+    private void awaitHealthy(String name, Process process, URI health, Path log) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(
+                        name + " exited with status " + process.exitValue() + " while starting, see " + log);
+            }
+            try {
+                HttpResponse<Void> response =
+                        client.send(HttpRequest.newBuilder(health).build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException(name + " was not healthy after " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    /**
+     * Stops the api before the mock server, giving each a few seconds to shut down gracefully.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+        processes.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One endpoint of {@code EmployeeController}, with its share of the default workload mix.
+ */
+enum Operation {
+    GET_ALL("get-all", 10) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("");
+        }
+    },
+    STREAM_ALL("stream-all", 5) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("").header("Accept", NDJSON);
+        }
+    },
+    SEARCH("search", 15) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("/search/" + workload.nameFragment());
+        }
+    },
+    STREAM_SEARCH("stream-search", 5) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("/search/" + workload.nameFragment()).header("Accept", NDJSON);
+        }
+    },
+    GET_BY_ID("get-by-id", 30) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("/" + workload.seedId());
+        }
+    },
+    HIGHEST_SALARY("highest-salary", 5) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("/highest-salary");
+        }
+    },
+    TOP_TEN_EARNERS("top-ten-earners", 5) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("/top-ten-earners");
+        }
+    },
+    TOP_EARNERS("top-earners", 5) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.get("/top-earners?k=" + workload.random().nextInt(1, 51));
+        }
+    },
+    CREATE("create", 10) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.post("", workload.newEmployee());
+        }
+
+        @Override
+        void completed(Workload workload, HttpResponse<String> response) {
+            workload.rememberCreated(response);
+        }
+    },
+    DELETE("delete", 8) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            return workload.delete("/" + workload.takeCreatedId());
+        }
+
+        /**
+         * Without an employee created by the load test left to delete, a random id is deleted instead.
+         */
+        @Override
+        boolean expected(int status) {
+            return super.expected(status) || status == 404;
+        }
+    },
+    BULK_CREATE("bulk-create", 1) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            List<String> employees = new ArrayList<>(BULK_SIZE);
+            for (int i = 0; i < BULK_SIZE; i++) {
+                employees.add(workload.newEmployee());
+            }
+            return workload.post("/bulk", "[" + String.join(",", employees) + "]");
+        }
+
+        @Override
+        void completed(Workload workload, HttpResponse<String> response) {
+            workload.rememberCreated(response);
+        }
+    },
+    BULK_DELETE("bulk-delete", 1) {
+        @Override
+        HttpRequest.Builder request(Workload workload) {
+            List<String> ids = new ArrayList<>(BULK_SIZE);
+            for (int i = 0; i < BULK_SIZE; i++) {
+                ids.add("\"" + workload.takeCreatedId() + "\"");
+            }
+            return workload.delete("/bulk", "[" + String.join(",", ids) + "]");
+        }
+    };
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int BULK_SIZE = 10;
+
+    private final String key;
+    private final int defaultWeight;
+
+    Operation(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    abstract HttpRequest.Builder request(Workload workload);
+
+    /**
+     * Whether the status is a correct answer; everything else except 429 counts as an error.
+     */
+    boolean expected(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    void completed(Workload workload, HttpResponse<String> response) {}
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
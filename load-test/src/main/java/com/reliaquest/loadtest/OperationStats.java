@@ -0,0 +1,85 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes and latencies of one operation during the measured part of the run. Latencies are in microseconds and run
+ * from the moment the request was due by the schedule, not from when it was sent, so a stalled api or load generator
+ * shows up as latency instead of silently lowering the rate.
+ */
+final class OperationStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void completed(int status, boolean expected, long micros) {
+        latencies.recordValue(micros);
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (expected) {
+            ok.increment();
+        } else if (status == 429) {
+            rateLimited.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    /**
+     * The request failed without a response, e.g. it timed out or the connection was refused.
+     */
+    void failed(long micros) {
+        latencies.recordValue(micros);
+        failures.increment();
+    }
+
+    /**
+     * The request was due but not sent because too many were already outstanding.
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long ok() {
+        return ok.sum();
+    }
+
+    long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long requests() {
+        return ok() + rateLimited() + errors() + failures() + dropped();
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the next operation by weight and supplies the data it needs: ids and name fragments of the roster the api
+ * served when the run started, and the ids of employees the load test created itself, which are the only ones it
+ * deletes so the roster keeps its size.
+ */
+final class Workload {
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final Pattern NAME = Pattern.compile("\"employee_name\":\"([A-Za-z]{3})");
+    private static final String[] TITLES = {"Engineer", "Analyst", "Manager", "Designer", "Consultant"};
+
+    private final URI employees;
+    private final NavigableMap<Integer, Operation> operations = new TreeMap<>();
+    private final int totalWeight;
+    private final List<String> seedIds;
+    private final List<String> nameFragments;
+    private final Deque<String> createdIds = new ConcurrentLinkedDeque<>();
+
+    private Workload(URI target, Map<Operation, Integer> mix, List<String> seedIds, List<String> nameFragments) {
+        this.employees = target.resolve("/api/v1/employees");
+        int weight = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                weight += entry.getValue();
+                operations.put(weight, entry.getKey());
+            }
+        }
+        this.totalWeight = weight;
+        this.seedIds = seedIds;
+        this.nameFragments = nameFragments;
+    }
+
+    /**
+     * Reads the roster once through the api to learn which ids and names exist.
+     */
+    static Workload prime(HttpClient client, URI target, Map<Operation, Integer> mix)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(target.resolve("/api/v1/employees")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("The api answered " + response.statusCode() + " to the roster request");
+        }
+        List<String> ids = matches(ID, response.body());
+        List<String> fragments = matches(NAME, response.body()).stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        if (ids.isEmpty() || fragments.isEmpty()) {
+            throw new IllegalStateException("The roster served by the api is empty");
+        }
+        return new Workload(target, mix, ids, fragments);
+    }
+
+    Operation next() {
+        return operations.higherEntry(random().nextInt(totalWeight)).getValue();
+    }
+
+    int seedSize() {
+        return seedIds.size();
+    }
+
+    ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    String seedId() {
+        return seedIds.get(random().nextInt(seedIds.size()));
+    }
+
+    String nameFragment() {
+        return URLEncoder.encode(nameFragments.get(random().nextInt(nameFragments.size())), StandardCharsets.UTF_8);
+    }
+
+    String newEmployee() {
+        ThreadLocalRandom random = random();
+        return "{\"name\":\"Load Test " + random.nextInt(1_000_000) + "\",\"salary\":" + random.nextInt(30_000, 400_000)
+                + ",\"age\":" + random.nextInt(18, 70) + ",\"title\":\"" + TITLES[random.nextInt(TITLES.length)]
+                + "\"}";
+    }
+
+    /**
+     * An id created by this run, or a random one that the api will not find when none is left.
+     */
+    String takeCreatedId() {
+        String id = createdIds.pollFirst();
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+
+    void rememberCreated(HttpResponse<String> response) {
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            createdIds.addAll(matches(ID, response.body()));
+        }
+    }
+
+    HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    HttpRequest.Builder delete(String path) {
+        return HttpRequest.newBuilder(uri(path)).DELETE();
+    }
+
+    HttpRequest.Builder delete(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method("DELETE", HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private URI uri(String path) {
+        return URI.create(employees + path);
+    }
+
+    private static List<String> matches(Pattern pattern, String body) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(body);
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        return values;
+    }
+}
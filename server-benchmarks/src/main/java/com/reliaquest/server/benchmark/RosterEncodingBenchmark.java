@@ -0,0 +1,72 @@
+package com.reliaquest.server.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeJsonModule;
+import com.reliaquest.server.model.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding the roster response body with the hand-written {@link MockEmployeeJsonModule} against the reflective
+ * mapping through {@code PrefixNamingStrategy}; the roster cache does this once per roster version, the change feed
+ * and single-employee endpoints once per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterEncodingBenchmark {
+
+    @Param({"reflective", "hand-written"})
+    public String codec;
+
+    @Param({"1000"})
+    public int employees;
+
+    private ObjectWriter writer;
+    private Response<List<MockEmployee>> roster;
+
+    @Setup
+    public void setUp() {
+        final var builder = JsonMapper.builder();
+        if ("hand-written".equals(codec)) {
+            builder.addModule(new MockEmployeeJsonModule());
+        }
+        writer = builder.build().writer();
+        final var random = new SplittableRandom(employees);
+        final List<MockEmployee> list = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            list.add(new MockEmployee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    "Employee " + i,
+                    random.nextInt(30_000, 500_000),
+                    random.nextInt(18, 70),
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        roster = Response.handledWith(list);
+    }
+
+    @Benchmark
+    public byte[] encodeRoster() throws Exception {
+        return writer.writeValueAsBytes(roster);
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the servlet runtime of the mock server (Spring MVC on Tomcat) with the reactive one (functional routes on
+ * Netty) under many concurrent clients. Each fork boots the server in-process on a random port with the request limit
+ * turned off and drives it over loopback HTTP/1.1; throughput and the latency distribution are measured together.
+ *
+ * <p>Run with {@code ./gradlew server-benchmarks:jmh}; {@code -PjmhArgs='-t 256'} changes the client concurrency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ServerRuntimeBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+
+    @Param({"mvc", "reactive"})
+    public String runtime;
+
+    @Param({"1000"})
+    public int employees;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI roster;
+    private URI[] byId;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, InterruptedException {
+        final var builder = new SpringApplicationBuilder(ServerApplication.class);
+        if ("reactive".equals(runtime)) {
+            builder.profiles("reactive");
+        }
+        context = builder.run(
+                "--server.port=0",
+                "--mock.employees.max=" + employees,
+                "--mock.snapshot.path=",
+                "--mock.request-limit.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.reliaquest=WARN");
+        final var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        roster = URI.create("http://localhost:" + port + "/api/v1/employee");
+
+        final var body = client.send(HttpRequest.newBuilder(roster).build(), HttpResponse.BodyHandlers.ofString())
+                .body();
+        final List<URI> ids = new ArrayList<>();
+        final var matcher = ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(URI.create(roster + "/" + matcher.group(1)));
+        }
+        byId = ids.toArray(URI[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        return send(byId[ThreadLocalRandom.current().nextInt(byId.length)]);
+    }
+
+    @Benchmark
+    public int getPage() throws IOException, InterruptedException {
+        return send(URI.create(
+                roster + "?limit=50&offset=" + ThreadLocalRandom.current().nextInt(employees - 50)));
+    }
+
+    @Benchmark
+    public int getRoster() throws IOException, InterruptedException {
+        return send(roster);
+    }
+
+    private int send(URI uri) throws IOException, InterruptedException {
+        final var response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " answered " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
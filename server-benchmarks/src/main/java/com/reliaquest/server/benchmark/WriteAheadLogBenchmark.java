@@ -0,0 +1,102 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.WriteAheadLog;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sustained create and delete load on the roster store with each write-ahead log fsync policy, and without the log.
+ * Every operation creates an employee, waits until that is durable, deletes it again and waits once more, as the
+ * endpoints do before answering; compaction runs in the background as it would in production.
+ *
+ * <p>Results depend heavily on the disk behind {@code java.io.tmpdir}; {@code always} measures its fsync latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WriteAheadLogBenchmark {
+
+    @Param({"off", "never", "interval", "always"})
+    public String fsync;
+
+    private Path directory;
+    private EmployeeStore store;
+    private WriteAheadLog wal;
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("wal-benchmark");
+        store = new EmployeeStore(1024);
+        for (int i = 0; i < 1000; i++) {
+            store.add(employee("Seed " + i));
+        }
+        if (!"off".equals(fsync)) {
+            wal = WriteAheadLog.open(
+                    directory.resolve("wal"),
+                    WriteAheadLog.FsyncPolicy.valueOf(fsync.toUpperCase()),
+                    Duration.ofMillis(100),
+                    4L << 20);
+            wal.recover(store, store.version(), directory.resolve("roster.bin"), 1000);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        if (wal != null) {
+            System.out.println();
+            System.out.println(fsync + ": " + wal.stats());
+            wal.close();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean createThenDelete() {
+        final var employee = employee("Load Test");
+        store.add(employee);
+        awaitDurable();
+        final var deleted = store.deleteById(employee.getId()).isPresent();
+        awaitDurable();
+        return deleted;
+    }
+
+    private void awaitDurable() {
+        if (wal != null) {
+            wal.whenDurable(store.version()).join();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "load@company.com");
+    }
+}
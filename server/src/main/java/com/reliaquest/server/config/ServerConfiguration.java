@@ -1,40 +1,166 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.model.MockEmployeeJsonModule;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.RosterSnapshotFile;
+import com.reliaquest.server.store.WriteAheadLog;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import com.reliaquest.server.web.RequestLimiter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RequestLimiter requestLimiter;
+
+    @Value("${management.endpoints.web.base-path:/actuator}")
+    private String managementBasePath;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Registered on the auto-configured ObjectMapper, which both the MVC converters and the reactive codecs use, as
+     * does the RosterResponseCache.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeJsonModule mockEmployeeJsonModule() {
+        return new MockEmployeeJsonModule();
+    }
+
+    /*
+     * Loads the roster from the snapshot file when one exists for the configured size; otherwise generates it and
+     * writes the file, so the next start is fast and serves the same employees. A blank path disables the file. With
+     * the write-ahead log enabled, the changes logged after the snapshot are replayed on top and every later one is
+     * logged.
+     */
+    @Bean
+    public EmployeeStore employeeStore(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.snapshot.path:}") String snapshotPath,
+            Optional<WriteAheadLog> writeAheadLog)
+            throws IOException {
+        final var store = new EmployeeStore(maxEmployees);
+        final var snapshotFile = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        if (writeAheadLog.isPresent() && snapshotFile == null) {
+            throw new IllegalStateException("mock.wal.enabled requires mock.snapshot.path");
+        }
+        final var loaded = snapshotFile == null ? null : loadSnapshot(snapshotFile, maxEmployees);
+        final long snapshotPosition;
+        if (loaded != null) {
+            loaded.employees().forEach(store::add);
+            snapshotPosition = loaded.version();
+        } else {
+            final var started = System.nanoTime();
+            seedEmployees(faker, maxEmployees).forEach(store::add);
+            log.info(
+                    "Generated {} employees in {} ms",
+                    store.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            snapshotPosition = store.version();
+            if (snapshotFile != null) {
+                writeSnapshot(snapshotFile, maxEmployees, store, writeAheadLog.isPresent());
+            }
+            if (writeAheadLog.isPresent()) {
+                writeAheadLog.get().discard();
+            }
+        }
+        if (writeAheadLog.isPresent()) {
+            writeAheadLog.get().recover(store, snapshotPosition, snapshotFile, maxEmployees);
+        }
+        return store;
+    }
+
+    /*
+     * Optional durable mode. The snapshot file is the base the log's changes are replayed onto and compacted into,
+     * so it has to be enabled as well.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.wal.enabled", havingValue = "true")
+    public WriteAheadLog writeAheadLog(
+            @Value("${mock.wal.path:data/wal}") String path,
+            @Value("${mock.wal.fsync:always}") WriteAheadLog.FsyncPolicy fsync,
+            @Value("${mock.wal.fsync-interval:100ms}") Duration fsyncInterval,
+            @Value("${mock.wal.compact-after:4MB}") DataSize compactAfter)
+            throws IOException {
+        return WriteAheadLog.open(Path.of(path), fsync, fsyncInterval, compactAfter.toBytes());
+    }
+
+    private static void writeSnapshot(Path snapshotFile, int maxEmployees, EmployeeStore store, boolean required)
+            throws IOException {
+        try {
+            RosterSnapshotFile.write(
+                    snapshotFile,
+                    maxEmployees,
+                    store.version(),
+                    store.snapshot().employees());
+            log.info("Wrote roster snapshot {}", snapshotFile.toAbsolutePath());
+        } catch (IOException e) {
+            if (required) {
+                throw e;
+            }
+            log.warn("Could not write roster snapshot {}", snapshotFile.toAbsolutePath(), e);
+        }
+    }
+
+    private static RosterSnapshotFile.Contents loadSnapshot(Path snapshotFile, int maxEmployees) {
+        if (!Files.exists(snapshotFile)) {
+            return null;
+        }
+        try {
+            final var started = System.nanoTime();
+            final var contents = RosterSnapshotFile.read(snapshotFile);
+            if (contents.seedSize() != maxEmployees) {
+                log.info(
+                        "Ignoring roster snapshot {} generated for {} employees, {} are configured",
+                        snapshotFile.toAbsolutePath(),
+                        contents.seedSize(),
+                        maxEmployees);
+                return null;
+            }
+            log.info(
+                    "Loaded {} employees from roster snapshot {} in {} ms",
+                    contents.employees().size(),
+                    snapshotFile.toAbsolutePath(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return contents;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable roster snapshot {}", snapshotFile.toAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    private static List<MockEmployee> seedEmployees(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -49,11 +175,12 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .toList();
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RateLimitInterceptor(requestLimiter))
+                .excludePathPatterns(managementBasePath + "/**");
     }
 }
@@ -0,0 +1,52 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.WriteAheadLog;
+import com.reliaquest.server.web.RequestLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Roster size and version, change feed subscribers, rate limit rejections and write-ahead log progress, next to the
+ * request timers Boot records for every endpoint of either runtime.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServerMetrics implements MeterBinder {
+
+    private final EmployeeStore employeeStore;
+    private final EmployeeChangeFeed employeeChangeFeed;
+    private final RequestLimiter requestLimiter;
+    private final Optional<WriteAheadLog> writeAheadLog;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("mock.employees", employeeStore, EmployeeStore::size)
+                .description("Employees currently in the roster")
+                .register(registry);
+        Gauge.builder("mock.roster.version", employeeStore, EmployeeStore::version)
+                .register(registry);
+        Gauge.builder("mock.changes.subscribers", employeeChangeFeed, EmployeeChangeFeed::subscriberCount)
+                .register(registry);
+        FunctionCounter.builder("mock.requests.rejected", requestLimiter, RequestLimiter::rejectedCount)
+                .description("Requests answered 429 by the request limit")
+                .register(registry);
+        writeAheadLog.ifPresent(wal -> {
+            FunctionCounter.builder("mock.wal.frames", wal, log -> log.stats().frames())
+                    .register(registry);
+            FunctionCounter.builder("mock.wal.syncs", wal, log -> log.stats().syncs())
+                    .register(registry);
+            FunctionCounter.builder(
+                            "mock.wal.compactions", wal, log -> log.stats().compactions())
+                    .register(registry);
+            Gauge.builder("mock.wal.durable.position", wal, log -> log.stats().durablePosition())
+                    .register(registry);
+        });
+    }
+}
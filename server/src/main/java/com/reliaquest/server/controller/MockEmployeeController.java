@@ -1,34 +1,101 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BulkDeleteMockEmployeeInput;
+import com.reliaquest.server.model.ChangeEvent;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.service.IdempotencyKeys;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.PageCursor;
+import com.reliaquest.server.web.ChangeEventStream;
+import com.reliaquest.server.web.PagingHeaders;
+import com.reliaquest.server.web.RosterResponseCache;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final RosterResponseCache rosterResponseCache;
+    private final EmployeeChangeFeed employeeChangeFeed;
 
+    /**
+     * Whole roster, or one page of it when paging parameters are given; see
+     * {@link MockEmployeeService#getMockEmployeesPage}. The whole roster is served from {@link RosterResponseCache}
+     * and answers a matching {@code If-None-Match} with 304.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (limit == null && offset == null && cursor == null) {
+            return roster(ifNoneMatch, acceptEncoding);
+        }
+        final var page = mockEmployeeService.getMockEmployeesPage(limit, offset, cursor);
+        final var response = ResponseEntity.ok().header(PagingHeaders.TOTAL_COUNT, String.valueOf(page.total()));
+        if (page.hasMore()) {
+            response.header(PagingHeaders.NEXT_CURSOR, PageCursor.encode(page.lastSequence()));
+        }
+        if (page.version() >= 0) {
+            response.header(PagingHeaders.ROSTER_VERSION, String.valueOf(page.version()));
+        }
+        return response.body(Response.handledWith(page.employees()));
+    }
+
+    private ResponseEntity<?> roster(String ifNoneMatch, String acceptEncoding) {
+        final var encoded = rosterResponseCache.current();
+        if (encoded.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(encoded.etag())
+                    .build();
+        }
+        final var response = ResponseEntity.ok()
+                .eTag(encoded.etag())
+                .header(RosterResponseCache.EPOCH_HEADER, encoded.epoch())
+                .header(RosterResponseCache.VERSION_HEADER, Long.toString(encoded.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (RosterResponseCache.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.json());
+    }
+
+    /**
+     * Server-sent stream of creates and deletes; see {@link EmployeeChangeFeed#changesSince}.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChangeEvent>> getChanges(
+            @RequestParam(required = false) String epoch, @RequestParam(required = false) Long since) {
+        return ChangeEventStream.of(employeeChangeFeed, epoch, since);
     }
 
     @GetMapping("/{id}")
@@ -40,12 +107,40 @@ public class MockEmployeeController {
     }
 
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(value = IdempotencyKeys.HEADER, required = false) String idempotencyKey) {
+        final var employee = mockEmployeeService.create(input, idempotencyKey);
+        mockEmployeeService.whenDurable().join();
+        return Response.handledWith(employee);
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.delete(input));
+        final var deleted = mockEmployeeService.delete(input);
+        mockEmployeeService.whenDurable().join();
+        return Response.handledWith(deleted);
+    }
+
+    /**
+     * Creates up to {@link MockEmployeeService#MAX_BATCH_SIZE} employees with one request; see
+     * {@link MockEmployeeService#createAll}.
+     */
+    @PostMapping("/bulk")
+    public Response<List<Response<MockEmployee>>> createEmployees(@RequestBody List<CreateMockEmployeeInput> inputs) {
+        final var results = mockEmployeeService.createAll(inputs);
+        mockEmployeeService.whenDurable().join();
+        return Response.handledWith(results);
+    }
+
+    /**
+     * Deletes up to {@link MockEmployeeService#MAX_BATCH_SIZE} employees by name or id with one request; see
+     * {@link MockEmployeeService#deleteAll}.
+     */
+    @DeleteMapping("/bulk")
+    public Response<List<Response<MockEmployee>>> deleteEmployees(@RequestBody BulkDeleteMockEmployeeInput input) {
+        final var results = mockEmployeeService.deleteAll(input);
+        mockEmployeeService.whenDurable().join();
+        return Response.handledWith(results);
     }
 }
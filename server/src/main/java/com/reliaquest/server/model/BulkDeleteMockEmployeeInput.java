@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * Employees to delete in one request, by name (the oldest carrying it, like the single delete) and by id.
+ */
+@Data
+public class BulkDeleteMockEmployeeInput {
+
+    private List<String> names;
+
+    private List<UUID> ids;
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+
+/**
+ * One entry of the roster change feed.
+ *
+ * @param epoch identifies the roster the versions belong to; it changes when the server restarts
+ * @param version store version right after the change; consecutive events differ by exactly one
+ * @param employee the created or deleted employee; absent on {@link Type#RESET} and {@link Type#RESUMED}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeEvent(String epoch, long version, Type type, MockEmployee employee) {
+
+    public static ChangeEvent reset(String epoch, long version) {
+        return new ChangeEvent(epoch, version, Type.RESET, null);
+    }
+
+    public static ChangeEvent resumed(String epoch, long version) {
+        return new ChangeEvent(epoch, version, Type.RESUMED, null);
+    }
+
+    public enum Type {
+        CREATED("created"),
+        DELETED("deleted"),
+        /**
+         * The requested position cannot be resumed from; reload the roster and apply later events on top of it.
+         */
+        RESET("reset"),
+        /**
+         * The requested position was found; the changes after it follow.
+         */
+        RESUMED("resumed");
+
+        @JsonValue
+        @Getter
+        private final String value;
+
+        Type(String value) {
+            this.value = value;
+        }
+    }
+}
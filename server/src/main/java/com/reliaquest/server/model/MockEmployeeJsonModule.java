@@ -0,0 +1,63 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes {@link MockEmployee} field by field instead of through bean introspection and the
+ * {@link MockEmployee.PrefixNamingStrategy}; the output, nulls included, is the same.
+ */
+public class MockEmployeeJsonModule extends SimpleModule {
+
+    public MockEmployeeJsonModule() {
+        super(MockEmployeeJsonModule.class.getSimpleName());
+        addSerializer(MockEmployee.class, new MockEmployeeSerializer());
+    }
+
+    private static final class MockEmployeeSerializer extends StdSerializer<MockEmployee> {
+
+        private static final SerializableString ID = new SerializedString("id");
+        private static final SerializableString NAME = new SerializedString("employee_name");
+        private static final SerializableString SALARY = new SerializedString("employee_salary");
+        private static final SerializableString AGE = new SerializedString("employee_age");
+        private static final SerializableString TITLE = new SerializedString("employee_title");
+        private static final SerializableString EMAIL = new SerializedString("employee_email");
+
+        MockEmployeeSerializer() {
+            super(MockEmployee.class);
+        }
+
+        @Override
+        public void serialize(MockEmployee employee, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(employee);
+            generator.writeFieldName(ID);
+            generator.writeString(
+                    employee.getId() == null ? null : employee.getId().toString());
+            generator.writeFieldName(NAME);
+            generator.writeString(employee.getName());
+            generator.writeFieldName(SALARY);
+            writeNumber(generator, employee.getSalary());
+            generator.writeFieldName(AGE);
+            writeNumber(generator, employee.getAge());
+            generator.writeFieldName(TITLE);
+            generator.writeString(employee.getTitle());
+            generator.writeFieldName(EMAIL);
+            generator.writeString(employee.getEmail());
+            generator.writeEndObject();
+        }
+
+        private static void writeNumber(JsonGenerator generator, Integer value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.reliaquest.server.reactive;
+
+import com.reliaquest.server.model.BulkDeleteMockEmployeeInput;
+import com.reliaquest.server.model.ChangeEvent;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.service.IdempotencyKeys;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.PageCursor;
+import com.reliaquest.server.web.ChangeEventStream;
+import com.reliaquest.server.web.PagingHeaders;
+import com.reliaquest.server.web.RosterResponseCache;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional counterpart of {@link com.reliaquest.server.controller.MockEmployeeController}: same paths, parameters,
+ * bodies and headers. The roster lives in memory, so every handler runs on the Netty event loop without blocking;
+ * writes wait for the write-ahead log asynchronously. Invalid input surfaces as {@link IllegalArgumentException},
+ * which the routes turn into 400; handlers defer their work so that it does so as an error signal rather than a
+ * synchronous throw.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeHandler {
+
+    private static final ParameterizedTypeReference<List<CreateMockEmployeeInput>> CREATE_INPUTS =
+            new ParameterizedTypeReference<>() {};
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Validator validator;
+    private final RosterResponseCache rosterResponseCache;
+    private final EmployeeChangeFeed employeeChangeFeed;
+
+    public Mono<ServerResponse> getEmployees(ServerRequest request) {
+        return Mono.defer(() -> employees(request));
+    }
+
+    public Mono<ServerResponse> getEmployee(ServerRequest request) {
+        return Mono.defer(() -> employee(request));
+    }
+
+    public Mono<ServerResponse> getChanges(ServerRequest request) {
+        return Mono.defer(() -> {
+            final var since = request.queryParam("since").map(Long::valueOf).orElse(null);
+            final var epoch = request.queryParam("epoch").orElse(null);
+            return ServerResponse.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(
+                            ChangeEventStream.of(employeeChangeFeed, epoch, since),
+                            new ParameterizedTypeReference<ServerSentEvent<ChangeEvent>>() {});
+        });
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        final var idempotencyKey = request.headers().firstHeader(IdempotencyKeys.HEADER);
+        return body(request, CreateMockEmployeeInput.class)
+                .map(input -> mockEmployeeService.create(input, idempotencyKey))
+                .flatMap(this::durable)
+                .flatMap(employee -> ServerResponse.ok().bodyValue(Response.handledWith(employee)));
+    }
+
+    public Mono<ServerResponse> deleteEmployee(ServerRequest request) {
+        return body(request, DeleteMockEmployeeInput.class)
+                .map(mockEmployeeService::delete)
+                .flatMap(this::durable)
+                .flatMap(deleted -> ServerResponse.ok().bodyValue(Response.handledWith(deleted)));
+    }
+
+    public Mono<ServerResponse> createEmployees(ServerRequest request) {
+        return request.bodyToMono(CREATE_INPUTS)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .map(mockEmployeeService::createAll)
+                .flatMap(this::durable)
+                .flatMap(results -> ServerResponse.ok().bodyValue(Response.handledWith(results)));
+    }
+
+    public Mono<ServerResponse> deleteEmployees(ServerRequest request) {
+        return request.bodyToMono(BulkDeleteMockEmployeeInput.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .map(mockEmployeeService::deleteAll)
+                .flatMap(this::durable)
+                .flatMap(results -> ServerResponse.ok().bodyValue(Response.handledWith(results)));
+    }
+
+    private Mono<ServerResponse> employees(ServerRequest request) {
+        final var limit = intParam(request, "limit");
+        final var offset = intParam(request, "offset");
+        final var cursor = request.queryParam("cursor").orElse(null);
+        if (limit == null && offset == null && cursor == null) {
+            return roster(request.headers());
+        }
+        final var page = mockEmployeeService.getMockEmployeesPage(limit, offset, cursor);
+        final var response = ServerResponse.ok().header(PagingHeaders.TOTAL_COUNT, String.valueOf(page.total()));
+        if (page.hasMore()) {
+            response.header(PagingHeaders.NEXT_CURSOR, PageCursor.encode(page.lastSequence()));
+        }
+        if (page.version() >= 0) {
+            response.header(PagingHeaders.ROSTER_VERSION, String.valueOf(page.version()));
+        }
+        return response.bodyValue(Response.handledWith(page.employees()));
+    }
+
+    private Mono<ServerResponse> roster(ServerRequest.Headers headers) {
+        final var encoded = rosterResponseCache.current();
+        if (encoded.matches(headers.firstHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(encoded.etag())
+                    .build();
+        }
+        final var response = ServerResponse.ok()
+                .eTag(encoded.etag())
+                .header(RosterResponseCache.EPOCH_HEADER, encoded.epoch())
+                .header(RosterResponseCache.VERSION_HEADER, Long.toString(encoded.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (RosterResponseCache.acceptsGzip(headers.firstHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").bodyValue(encoded.gzip());
+        }
+        return response.bodyValue(encoded.json());
+    }
+
+    private Mono<ServerResponse> employee(ServerRequest request) {
+        final var uuid = UUID.fromString(request.pathVariable("id"));
+        return mockEmployeeService
+                .findById(uuid)
+                .map(employee -> ServerResponse.ok().bodyValue(Response.handledWith(employee)))
+                .orElseGet(() -> ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(Response.handled()));
+    }
+
+    /*
+     * Waits for the write-ahead log without blocking the event loop.
+     */
+    private <T> Mono<T> durable(T result) {
+        return Mono.fromFuture(mockEmployeeService.whenDurable()).thenReturn(result);
+    }
+
+    private <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .map(this::validate);
+    }
+
+    private <T> T validate(T input) {
+        final var violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ", "Validation failed: ", "")));
+        }
+        return input;
+    }
+
+    private static Integer intParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(Integer::valueOf).orElse(null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.server.reactive;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.path;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.RosterResponseCache;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebFilter;
+
+/**
+ * Reactive runtime of the mock server, active with the {@code reactive} profile: functional routes on Netty in place
+ * of {@link com.reliaquest.server.controller.MockEmployeeController} on Tomcat, behind the same {@link RequestLimiter}.
+ */
+@Slf4j
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfiguration {
+
+    /*
+     * Tomcat stays on the classpath for the servlet runtime and Boot would otherwise prefer it for reactive apps too.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public MockEmployeeHandler mockEmployeeHandler(
+            MockEmployeeService mockEmployeeService,
+            Validator validator,
+            RosterResponseCache rosterResponseCache,
+            EmployeeChangeFeed employeeChangeFeed) {
+        return new MockEmployeeHandler(mockEmployeeService, validator, rosterResponseCache, employeeChangeFeed);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> mockEmployeeRoutes(MockEmployeeHandler handler) {
+        return RouterFunctions.route()
+                .nest(path("/api/v1/employee"), routes -> routes.GET("", handler::getEmployees)
+                        .GET("/changes", handler::getChanges)
+                        .GET("/{id}", handler::getEmployee)
+                        .POST("", handler::createEmployee)
+                        .DELETE("", handler::deleteEmployee)
+                        .POST("/bulk", handler::createEmployees)
+                        .DELETE("/bulk", handler::deleteEmployees))
+                .onError(ReactiveServerConfiguration::isBadRequest, (ex, request) -> {
+                    log.debug("Rejected web request: {}", ex.getMessage());
+                    return ServerResponse.badRequest().bodyValue(Response.error(ex.getMessage()));
+                })
+                .onError(Exception.class, (ex, request) -> {
+                    log.error("Error handling web request.", ex);
+                    return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .bodyValue(Response.error(ex.getMessage()));
+                })
+                .build();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public WebFilter requestLimitFilter(
+            RequestLimiter requestLimiter,
+            @Value("${management.endpoints.web.base-path:/actuator}") String managementBasePath) {
+        final var management = managementBasePath + "/";
+        return (exchange, chain) -> {
+            if (!requestLimiter.isEnabled()
+                    || exchange.getRequest()
+                            .getPath()
+                            .pathWithinApplication()
+                            .value()
+                            .startsWith(management)) {
+                return chain.filter(exchange);
+            }
+            final var remoteAddress = exchange.getRequest().getRemoteAddress();
+            final var decision = requestLimiter.tryAcquire(
+                    remoteAddress == null ? 0 : remoteAddress.getAddress().hashCode());
+            final var response = exchange.getResponse();
+            response.getHeaders()
+                    .set(RequestLimiter.REMAINING_HEADER, Long.toString(RequestLimiter.remaining(decision)));
+            if (!RequestLimiter.isAdmitted(decision)) {
+                response.getHeaders()
+                        .set(HttpHeaders.RETRY_AFTER, Long.toString(RequestLimiter.retryAfterSeconds(decision)));
+                response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                return response.setComplete();
+            }
+            return chain.filter(exchange);
+        };
+    }
+
+    private static boolean isBadRequest(Throwable ex) {
+        return ex instanceof IllegalArgumentException || ex instanceof ServerWebInputException;
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.ChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Versioned stream of roster creates and deletes.
+ *
+ * <p>The last {@code mock.changes.history} changes are kept, so a subscriber that lost its connection can resume from
+ * the last version it applied and miss nothing. A subscriber that is new, too far behind, or asking about another
+ * epoch first gets a {@link ChangeEvent.Type#RESET} carrying the current version instead: it reloads the roster and
+ * skips every later event the reload already contained.
+ *
+ * <p>Subscribers that cannot keep up with {@code mock.changes.max-buffered} pending events are cut off and have to
+ * resume, rather than holding an unbounded queue on the server. Idle streams carry a comment every
+ * {@code mock.changes.heartbeat}, which keeps proxies and client read timeouts from closing them and lets the server
+ * notice clients that went away.
+ */
+@Slf4j
+@Service
+public class EmployeeChangeFeed {
+
+    private final String epoch;
+    private final int historySize;
+    private final int maxBuffered;
+
+    @Getter
+    private final Duration heartbeat;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<ChangeEvent> history;
+    private final List<FluxSink<ChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private long latestVersion;
+
+    public EmployeeChangeFeed(
+            EmployeeStore employeeStore,
+            @Value("${mock.changes.history:1024}") int historySize,
+            @Value("${mock.changes.max-buffered:4096}") int maxBuffered,
+            @Value("${mock.changes.heartbeat:15s}") Duration heartbeat) {
+        this.epoch = employeeStore.epoch();
+        this.historySize = historySize;
+        this.maxBuffered = maxBuffered;
+        this.heartbeat = heartbeat;
+        this.history = new ArrayDeque<>(historySize);
+        synchronized (lock) {
+            this.latestVersion = employeeStore.addChangeListener(this::onChange);
+        }
+    }
+
+    /**
+     * Changes after {@code version} of {@code epoch}, followed by every future change. The stream always opens with
+     * either a {@link ChangeEvent.Type#RESUMED} at the requested version or, without a resumable position, a
+     * {@link ChangeEvent.Type#RESET} to the current one, so subscribers know where they stand as soon as they connect.
+     */
+    public Flux<ChangeEvent> changesSince(String epoch, Long version) {
+        return Flux.<ChangeEvent>create(sink -> {
+                    synchronized (lock) {
+                        if (canResume(epoch, version)) {
+                            sink.next(ChangeEvent.resumed(this.epoch, version));
+                            for (ChangeEvent event : history) {
+                                if (event.version() > version) {
+                                    sink.next(event);
+                                }
+                            }
+                        } else {
+                            sink.next(ChangeEvent.reset(this.epoch, latestVersion));
+                        }
+                        subscribers.add(sink);
+                    }
+                    sink.onDispose(() -> subscribers.remove(sink));
+                })
+                .onBackpressureBuffer(
+                        maxBuffered,
+                        dropped -> log.debug("Change feed subscriber fell behind at version {}", dropped.version()),
+                        BufferOverflowStrategy.ERROR);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private boolean canResume(String epoch, Long version) {
+        return this.epoch.equals(epoch)
+                && version != null
+                && version <= latestVersion
+                && version >= latestVersion - history.size();
+    }
+
+    /*
+     * Called by the store one change at a time, in version order.
+     */
+    private void onChange(long version, ChangeEvent.Type type, MockEmployee employee) {
+        final var event = new ChangeEvent(epoch, version, type, employee);
+        synchronized (lock) {
+            if (historySize > 0) {
+                if (history.size() == historySize) {
+                    history.removeFirst();
+                }
+                history.addLast(event);
+            }
+            latestVersion = version;
+            for (FluxSink<ChangeEvent> subscriber : subscribers) {
+                subscriber.next(event);
+            }
+        }
+    }
+}
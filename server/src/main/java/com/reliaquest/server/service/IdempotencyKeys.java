@@ -0,0 +1,52 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employees created under an {@value #HEADER} header, so a client repeating a create it never saw the answer to gets
+ * the employee of the first attempt instead of a second one.
+ *
+ * <p>The most recent {@code mock.idempotency-keys.capacity} keys are remembered, oldest forgotten first, and only in
+ * memory: a repeat arriving after its key was forgotten, or after a restart, creates again.
+ */
+@Component
+public class IdempotencyKeys {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final int capacity;
+    private final ConcurrentHashMap<String, MockEmployee> createdByKey = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> oldestFirst = new ConcurrentLinkedQueue<>();
+
+    public IdempotencyKeys(@Value("${mock.idempotency-keys.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * The employee created under {@code key}, running {@code create} first when the key is new. Concurrent calls with
+     * the same key create once; calls with different keys do not wait for each other.
+     */
+    public MockEmployee createOnce(String key, Supplier<MockEmployee> create) {
+        final var created = new boolean[1];
+        final var employee = createdByKey.computeIfAbsent(key, ignored -> {
+            created[0] = true;
+            return create.get();
+        });
+        if (created[0]) {
+            oldestFirst.add(key);
+            while (createdByKey.size() > capacity) {
+                final var oldest = oldestFirst.poll();
+                if (oldest == null) {
+                    break;
+                }
+                createdByKey.remove(oldest);
+            }
+        }
+        return employee;
+    }
+}
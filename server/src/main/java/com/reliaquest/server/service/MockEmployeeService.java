@@ -1,14 +1,21 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BulkDeleteMockEmployeeInput;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.PageCursor;
+import com.reliaquest.server.store.WriteAheadLog;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,16 +27,71 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 10_000;
+
+    /**
+     * Most employees created or deleted by one bulk request.
+     */
+    public static final int MAX_BATCH_SIZE = 1_000;
+
+    private static final CompletableFuture<Void> DURABLE = CompletableFuture.completedFuture(null);
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore employeeStore;
+
+    private final Optional<WriteAheadLog> writeAheadLog;
+
+    private final Validator validator;
+
+    private final IdempotencyKeys idempotencyKeys;
+
+    /**
+     * Consistent, immutable view of every employee in insertion order.
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return employeeStore.snapshot().employees();
+    }
+
+    /**
+     * One page of the roster. With an {@code offset} the page is cut from one consistent snapshot; otherwise it
+     * continues after {@code cursor}, or starts from the beginning when that is null too. Cursors keep their place
+     * while employees are created and deleted, offsets do not.
+     *
+     * @throws IllegalArgumentException when the parameters do not describe a valid page
+     */
+    public EmployeeStore.Page getMockEmployeesPage(Integer limit, Integer offset, String cursor) {
+        if (limit == null) {
+            throw new IllegalArgumentException("offset and cursor require limit");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (offset != null && cursor != null) {
+            throw new IllegalArgumentException("Use either offset or cursor, not both");
+        }
+        if (offset != null) {
+            if (offset < 0) {
+                throw new IllegalArgumentException("offset must not be negative");
+            }
+            return employeeStore.snapshot().page(offset, limit);
+        }
+        return employeeStore.pageAfter(cursor == null ? -1 : PageCursor.decode(cursor), limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
+    }
+
+    /**
+     * Creates the employee, or returns the one an earlier create under the same {@code idempotencyKey} made; see
+     * {@link IdempotencyKeys}. Without a key every call creates.
+     */
+    public MockEmployee create(@NonNull CreateMockEmployeeInput input, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return create(input);
+        }
+        return idempotencyKeys.createOnce(idempotencyKey, () -> create(input));
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +99,88 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        employeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = employeeStore.deleteByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Creates an employee for each valid input. Results follow the input order: the created employee, or the
+     * validation error of an input that was skipped.
+     *
+     * @throws IllegalArgumentException when there are more than {@link #MAX_BATCH_SIZE} inputs
+     */
+    public List<Response<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        final var results = new ArrayList<Response<MockEmployee>>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            final var error = validationError(input);
+            results.add(error == null ? Response.handledWith(create(input)) : Response.error(error));
+        }
+        return results;
+    }
+
+    /**
+     * Deletes the oldest employee carrying each name, then the employee with each id. Results follow the same order:
+     * the deleted employee, no data when nothing matched, or an error for a blank name or missing id.
+     *
+     * @throws IllegalArgumentException when there are more than {@link #MAX_BATCH_SIZE} names and ids together
+     */
+    public List<Response<MockEmployee>> deleteAll(@NonNull BulkDeleteMockEmployeeInput input) {
+        final var names = input.getNames() == null ? List.<String>of() : input.getNames();
+        final var ids = input.getIds() == null ? List.<UUID>of() : input.getIds();
+        checkBatchSize(names.size() + ids.size());
+        final var results = new ArrayList<Response<MockEmployee>>(names.size() + ids.size());
+        for (String name : names) {
+            results.add(
+                    name == null || name.isBlank()
+                            ? Response.error("name must not be blank")
+                            : deleted(employeeStore.deleteByName(name)));
+        }
+        for (UUID id : ids) {
+            results.add(id == null ? Response.error("id must not be null") : deleted(employeeStore.deleteById(id)));
+        }
+        return results;
+    }
+
+    private static Response<MockEmployee> deleted(Optional<MockEmployee> employee) {
+        employee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return employee.map(Response::handledWith).orElseGet(Response::handled);
+    }
+
+    private static void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch holds at most " + MAX_BATCH_SIZE + " employees");
+        }
+    }
+
+    private String validationError(CreateMockEmployeeInput input) {
+        if (input == null) {
+            return "Employee must not be null";
         }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ", "Validation failed: ", ""));
+    }
 
-        return false;
+    /**
+     * Completes once every create and delete made so far is as durable as {@code mock.wal.fsync} promises; at once
+     * when the write-ahead log is disabled. Callers acknowledge a write only after this completed.
+     */
+    public CompletableFuture<Void> whenDurable() {
+        return writeAheadLog
+                .map(wal -> wal.whenDurable(employeeStore.version()))
+                .orElse(DURABLE);
     }
 }
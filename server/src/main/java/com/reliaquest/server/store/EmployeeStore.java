@@ -0,0 +1,331 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.ChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+
+/**
+ * Thread-safe, indexed home of the mock employees.
+ *
+ * <p>Every employee gets an ascending sequence number when it is added. Three indexes are kept: by id, by sequence
+ * number (which gives the roster its insertion order) and by case-folded name, where each name maps to the sequence
+ * numbers of everyone carrying it, oldest first. Lookups by id or name are hash lookups.
+ *
+ * <p>Mutations run concurrently with each other under the shared side of a read-write lock; building a
+ * {@link Snapshot} takes the exclusive side, so a snapshot never shows half of a create or delete. Snapshots are cached
+ * until the next mutation, so repeated reads of an unchanged roster cost nothing.
+ *
+ * <p>Every create and delete bumps the store {@link #version()} by one as part of the mutation and is reported to the
+ * registered {@link ChangeListener}s in that order. Delivery holds no lock: one thread at a time drains the changes
+ * that are next in version order, and a mutation that finds another thread draining leaves its change to it.
+ */
+public class EmployeeStore {
+
+    private static final long[] NO_SEQUENCES = new long[0];
+
+    private final ConcurrentHashMap<UUID, Long> seqById;
+    private final ConcurrentSkipListMap<Long, MockEmployee> bySeq = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, long[]> seqsByName;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong nextSeq = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<Long, Change> undelivered = new ConcurrentHashMap<>();
+    private final AtomicBoolean delivering = new AtomicBoolean();
+    private volatile long delivered;
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private volatile Snapshot snapshot = new Snapshot(0, List.of(), NO_SEQUENCES);
+
+    public EmployeeStore() {
+        this(16);
+    }
+
+    public EmployeeStore(int expectedSize) {
+        this.seqById = new ConcurrentHashMap<>(expectedSize);
+        this.seqsByName = new ConcurrentHashMap<>(expectedSize);
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        Long seq = seqById.get(id);
+        return seq == null ? Optional.empty() : Optional.ofNullable(bySeq.get(seq));
+    }
+
+    /**
+     * Oldest employee whose name equals {@code name}, ignoring case.
+     */
+    public Optional<MockEmployee> findByName(@NonNull String name) {
+        long[] seqs = seqsByName.getOrDefault(fold(name), NO_SEQUENCES);
+        return seqs.length == 0 ? Optional.empty() : Optional.ofNullable(bySeq.get(seqs[0]));
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        lock.readLock().lock();
+        try {
+            long seq = nextSeq.getAndIncrement();
+            Long previous = seqById.put(employee.getId(), seq);
+            if (previous != null) {
+                unlink(previous);
+            }
+            bySeq.put(seq, employee);
+            if (employee.getName() != null) {
+                seqsByName.merge(fold(employee.getName()), new long[] {seq}, EmployeeStore::insert);
+            }
+            publish(ChangeEvent.Type.CREATED, employee);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest employee whose name equals {@code name}, ignoring case. Concurrent deletes of the same name
+     * each remove a different employee. A sequence number another delete or re-add unlinked after this one took it
+     * from the name index is passed over for the next, so the call only comes back empty once nobody has the name.
+     */
+    public Optional<MockEmployee> deleteByName(@NonNull String name) {
+        lock.readLock().lock();
+        try {
+            long[] removed = new long[1];
+            MockEmployee employee;
+            do {
+                removed[0] = -1;
+                seqsByName.computeIfPresent(fold(name), (ignored, seqs) -> {
+                    removed[0] = seqs[0];
+                    return seqs.length == 1 ? null : Arrays.copyOfRange(seqs, 1, seqs.length);
+                });
+                if (removed[0] < 0) {
+                    return Optional.empty();
+                }
+                employee = bySeq.remove(removed[0]);
+            } while (employee == null);
+            seqById.remove(employee.getId(), removed[0]);
+            publish(ChangeEvent.Type.DELETED, employee);
+            return Optional.of(employee);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the employee with the given id, wherever it is in the roster.
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID id) {
+        lock.readLock().lock();
+        try {
+            Long seq = seqById.remove(id);
+            if (seq == null) {
+                return Optional.empty();
+            }
+            MockEmployee employee = unlink(seq);
+            if (employee == null) {
+                return Optional.empty();
+            }
+            publish(ChangeEvent.Type.DELETED, employee);
+            return Optional.of(employee);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every employee in insertion order, exactly as of one instant.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current.version() == version.get()) {
+            return current;
+        }
+        lock.writeLock().lock();
+        try {
+            current = snapshot;
+            long now = version.get();
+            if (current.version() != now) {
+                MockEmployee[] employees = new MockEmployee[bySeq.size()];
+                long[] seqs = new long[employees.length];
+                int i = 0;
+                for (Map.Entry<Long, MockEmployee> entry : bySeq.entrySet()) {
+                    seqs[i] = entry.getKey();
+                    employees[i++] = entry.getValue();
+                }
+                current = new Snapshot(now, List.of(employees), seqs);
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} employees added after sequence number {@code afterSeq}, in insertion order. Unlike offsets,
+     * such a position stays valid while employees before it are created or deleted.
+     */
+    public Page pageAfter(long afterSeq, int limit) {
+        List<MockEmployee> employees = new ArrayList<>(Math.min(limit, 1024));
+        long last = afterSeq;
+        for (Map.Entry<Long, MockEmployee> entry :
+                bySeq.tailMap(afterSeq, false).entrySet()) {
+            if (employees.size() == limit) {
+                return new Page(employees, last, true, bySeq.size(), -1);
+            }
+            employees.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new Page(employees, last, false, bySeq.size(), -1);
+    }
+
+    public int size() {
+        return bySeq.size();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Random identity of this store instance. Versions only compare within one epoch; a restarted server counts
+     * them again from wherever its roster was loaded.
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Registers a listener for every later create and delete. Changes are delivered one at a time, in version order,
+     * before any {@link #snapshot()} includes them, on the thread of whichever mutation drains them; listeners must
+     * return quickly and must not mutate the store.
+     *
+     * @return the version the first delivered change will follow
+     */
+    public long addChangeListener(@NonNull ChangeListener listener) {
+        // With mutations held off, every change made so far has been delivered and none is being delivered.
+        lock.writeLock().lock();
+        try {
+            listeners.add(listener);
+            return version.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bumps the version as part of the mutation and delivers the change. Called under the shared lock, which the
+     * draining thread holds too, so a snapshot never gets ahead of what listeners have been told.
+     */
+    private void publish(ChangeEvent.Type type, MockEmployee employee) {
+        undelivered.put(version.incrementAndGet(), new Change(type, employee));
+        deliver();
+    }
+
+    /**
+     * Hands the undelivered changes that are next in version order to the listeners, unless another thread already
+     * is. A change published while the drainer is between its last look and giving up the flag is caught by its
+     * second look.
+     */
+    private void deliver() {
+        while (delivering.compareAndSet(false, true)) {
+            try {
+                Change change;
+                while ((change = undelivered.remove(delivered + 1)) != null) {
+                    long next = delivered + 1;
+                    delivered = next;
+                    for (ChangeListener listener : listeners) {
+                        listener.onChange(next, change.type(), change.employee());
+                    }
+                }
+            } finally {
+                delivering.set(false);
+            }
+            if (!undelivered.containsKey(delivered + 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops the employee stored under {@code seq} from the sequence and name indexes; used when an id is re-added or
+     * deleted by id.
+     *
+     * @return the dropped employee, or {@code null} when another thread got there first
+     */
+    private MockEmployee unlink(long seq) {
+        MockEmployee removed = bySeq.remove(seq);
+        if (removed != null && removed.getName() != null) {
+            seqsByName.computeIfPresent(fold(removed.getName()), (ignored, seqs) -> {
+                long[] kept = Arrays.stream(seqs).filter(s -> s != seq).toArray();
+                return kept.length == 0 ? null : kept;
+            });
+        }
+        return removed;
+    }
+
+    /**
+     * Adds the single sequence number in {@code added} to {@code seqs}, keeping it ascending even when two creates
+     * of the same name finish out of order.
+     */
+    private static long[] insert(long[] seqs, long[] added) {
+        long seq = added[0];
+        int at = seqs.length;
+        while (at > 0 && seqs[at - 1] > seq) {
+            at--;
+        }
+        long[] merged = new long[seqs.length + 1];
+        System.arraycopy(seqs, 0, merged, 0, at);
+        merged[at] = seq;
+        System.arraycopy(seqs, at, merged, at + 1, seqs.length - at);
+        return merged;
+    }
+
+    static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Change(ChangeEvent.Type type, MockEmployee employee) {}
+
+    @FunctionalInterface
+    public interface ChangeListener {
+
+        /**
+         * @param version store version right after the change
+         */
+        void onChange(long version, ChangeEvent.Type type, MockEmployee employee);
+    }
+
+    /**
+     * @param version store version the roster was taken at; it grows with every create and delete
+     * @param employees immutable roster in insertion order
+     * @param sequences sequence number of each employee, at the same index; must not be modified
+     */
+    public record Snapshot(long version, List<MockEmployee> employees, long[] sequences) {
+
+        public Page page(int offset, int limit) {
+            int from = Math.min(offset, employees.size());
+            int to = (int) Math.min((long) from + limit, employees.size());
+            long last = to == 0 ? -1 : sequences[to - 1];
+            return new Page(employees.subList(from, to), last, to < employees.size(), employees.size(), version);
+        }
+    }
+
+    /**
+     * @param employees employees on this page, in insertion order
+     * @param lastSequence sequence number to continue after
+     * @param hasMore whether employees after this page existed when it was read
+     * @param total size of the whole roster when the page was read
+     * @param version store version of the snapshot the page was cut from, or -1 when it was read from the live store
+     */
+    public record Page(List<MockEmployee> employees, long lastSequence, boolean hasMore, int total, long version) {}
+}
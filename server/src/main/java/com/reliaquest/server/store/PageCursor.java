@@ -0,0 +1,30 @@
+package com.reliaquest.server.store;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors: the sequence number to continue after, as URL-safe Base64. Clients must not interpret them.
+ */
+public final class PageCursor {
+
+    private PageCursor() {}
+
+    public static String encode(long afterSeq) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(
+                        ByteBuffer.allocate(Long.BYTES).putLong(afterSeq).array());
+    }
+
+    /**
+     * @throws IllegalArgumentException when {@code cursor} was not produced by {@link #encode}
+     */
+    public static long decode(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != Long.BYTES) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+}
@@ -0,0 +1,177 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary image of the roster, read back through a memory map so a restart does not regenerate anything.
+ *
+ * <p>Layout, big-endian: a 32-byte header of magic {@code EMPS}, format version, seed size (the
+ * {@code mock.employees.max} the roster was generated for), store version and record count; then one record per
+ * employee of id (two longs), salary and age (ints, {@link Integer#MIN_VALUE} for null) and name, title and email
+ * (unsigned-short byte length, {@code 0xFFFF} for null, then UTF-8); and finally a CRC32 of everything before it.
+ * Files are written to a temporary sibling, forced to disk and moved into place, so a crash never leaves a
+ * half-written snapshot. The directory is forced after the move, so once {@link #write} returns the new snapshot
+ * survives a power loss too and whatever it supersedes may be deleted.
+ *
+ * <p>With the write-ahead log enabled the store version field holds the log position the snapshot covers instead;
+ * see {@link WriteAheadLog}.
+ */
+public final class RosterSnapshotFile {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = 0xFFFF;
+
+    private RosterSnapshotFile() {}
+
+    public static void write(Path file, int seedSize, long version, Collection<MockEmployee> employees)
+            throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                    OutputStream raw = Channels.newOutputStream(channel);
+                    DataOutputStream out = new DataOutputStream(
+                            new CheckedOutputStream(new BufferedOutputStream(raw, 1 << 16), crc))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(seedSize);
+                out.writeInt(0);
+                out.writeLong(version);
+                out.writeLong(employees.size());
+                for (MockEmployee employee : employees) {
+                    writeEmployee(out, employee);
+                }
+                out.flush();
+                // The checksum itself is written to the underlying stream so it is not part of what it covers.
+                new DataOutputStream(raw).writeInt((int) crc.getValue());
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (FileChannel directory = FileChannel.open(parent, StandardOpenOption.READ)) {
+                directory.force(true);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps {@code file} and decodes it; throws {@link IOException} when it is not a complete, intact snapshot.
+     */
+    public static Contents read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a roster snapshot (size " + size + "): " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodyLength = (int) size - Integer.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(bodyLength)) {
+                throw new IOException("Roster snapshot checksum mismatch: " + file);
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported roster snapshot format: " + file);
+            }
+            int seedSize = buffer.getInt();
+            buffer.getInt();
+            long version = buffer.getLong();
+            long count = buffer.getLong();
+            if (count < 0 || count > bodyLength) {
+                throw new IOException("Corrupt roster snapshot record count " + count + ": " + file);
+            }
+            List<MockEmployee> employees = new ArrayList<>((int) count);
+            byte[] scratch = new byte[256];
+            for (long i = 0; i < count; i++) {
+                employees.add(readEmployee(buffer, scratch));
+            }
+            if (buffer.position() != bodyLength) {
+                throw new IOException("Trailing bytes after roster snapshot records: " + file);
+            }
+            return new Contents(seedSize, version, employees);
+        } catch (RuntimeException e) {
+            // Buffer underflows and similar from a truncated or tampered file.
+            throw new IOException("Corrupt roster snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Writes one employee record in the layout described above; the write-ahead log uses the same encoding.
+     */
+    static void writeEmployee(DataOutputStream out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        out.writeInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee readEmployee(ByteBuffer buffer, byte[] scratch) {
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        int salary = buffer.getInt();
+        int age = buffer.getInt();
+        String name = readString(buffer, scratch);
+        String title = readString(buffer, scratch);
+        String email = readString(buffer, scratch);
+        return new MockEmployee(
+                id, name, salary == NULL_INT ? null : salary, age == NULL_INT ? null : age, title, email);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IOException("Field too long for roster snapshot: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param seedSize {@code mock.employees.max} the roster was originally generated for
+     * @param version store version at the time of writing
+     * @param employees roster in insertion order
+     */
+    public record Contents(int seedSize, long version, List<MockEmployee> employees) {}
+}
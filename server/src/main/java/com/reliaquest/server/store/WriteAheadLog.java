@@ -0,0 +1,556 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.ChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Durable record of every roster create and delete, so a restarted server comes back with the writes it acknowledged.
+ *
+ * <p>Each change is one frame appended to the current segment file: payload length and CRC32 (ints), then the change
+ * type (byte), its log position (long) and either the created employee in the {@link RosterSnapshotFile} record layout
+ * or the deleted employee's id. Positions count changes since the roster was generated and carry on across restarts;
+ * segments are named after the first position they may hold.
+ *
+ * <p>The store's change listener only queues frames. A single writer thread takes everything queued since its last
+ * write as one batch, so under {@link FsyncPolicy#ALWAYS} concurrent writers share one fsync (group commit).
+ * {@link #whenDurable} completes once a store version is as durable as the policy promises.
+ *
+ * <p>Once the current segment outgrows {@code compactAfterBytes} the writer starts a new one, and a background thread
+ * folds the roster into the snapshot file, stamped with the position it covers, before deleting the older segments.
+ * On startup the snapshot is loaded first and {@link #recover} replays every later frame; a torn frame at the end of
+ * the last segment, left by a crash mid-write, is cut off.
+ */
+@Slf4j
+public final class WriteAheadLog implements EmployeeStore.ChangeListener, Closeable {
+
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MIN_PAYLOAD_BYTES = 1 + Long.BYTES + 2 * Long.BYTES;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final CompletableFuture<Void> DURABLE = CompletableFuture.completedFuture(null);
+
+    public enum FsyncPolicy {
+        /**
+         * Acknowledge a change only once it was forced to disk; changes queued meanwhile share the next fsync.
+         */
+        ALWAYS,
+        /**
+         * Acknowledge a change once it was written, and force the log to disk at most once per interval. A crash of
+         * the machine, not just the process, loses up to one interval of acknowledged changes.
+         */
+        INTERVAL,
+        /**
+         * Acknowledge a change once it was written and leave flushing to the operating system.
+         */
+        NEVER
+    }
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final long compactAfterBytes;
+
+    private final Object queueLock = new Object();
+    private List<byte[]> queue = new ArrayList<>();
+    private long queuedPosition;
+    private boolean closing;
+
+    private final ConcurrentSkipListMap<Long, CompletableFuture<Void>> waiters = new ConcurrentSkipListMap<>();
+    private volatile long durablePosition;
+    private volatile Throwable failure;
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private EmployeeStore store;
+    private Path snapshotFile;
+    private int seedSize;
+    private long positionOffset;
+    private Thread writer;
+    private ExecutorService compactor;
+
+    /*
+     * Owned by the writer thread once it runs.
+     */
+    private FileChannel segment;
+    private long segmentBytes;
+    private long writtenPosition;
+    private long syncedPosition;
+    private long lastSyncNanos;
+
+    private WriteAheadLog(Path directory, FsyncPolicy fsyncPolicy, Duration fsyncInterval, long compactAfterBytes) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.compactAfterBytes = compactAfterBytes;
+    }
+
+    /**
+     * Opens the log in {@code directory}, creating it when missing. Nothing is read or written before
+     * {@link #recover}.
+     */
+    public static WriteAheadLog open(
+            Path directory, FsyncPolicy fsyncPolicy, Duration fsyncInterval, long compactAfterBytes)
+            throws IOException {
+        if (fsyncInterval.isNegative() || compactAfterBytes < 1) {
+            throw new IllegalArgumentException(
+                    "Write-ahead log needs a non-negative fsync interval and compaction size");
+        }
+        Files.createDirectories(directory);
+        return new WriteAheadLog(directory, fsyncPolicy, fsyncInterval, compactAfterBytes);
+    }
+
+    /**
+     * Deletes every segment; used when the roster is generated afresh, so changes to an earlier roster are not
+     * replayed onto it.
+     */
+    public void discard() throws IOException {
+        for (Path file : segments()) {
+            Files.delete(file);
+        }
+        syncDirectory();
+    }
+
+    /**
+     * Replays every change after {@code snapshotPosition} into {@code store}, then logs each later change of it and
+     * compacts into {@code snapshotFile}.
+     *
+     * @param snapshotPosition log position the roster loaded into the store covers
+     * @param seedSize {@code mock.employees.max} recorded in compacted snapshots
+     * @throws IOException when a segment cannot be read, or is corrupt anywhere but at its very end
+     */
+    public void recover(EmployeeStore store, long snapshotPosition, Path snapshotFile, int seedSize)
+            throws IOException {
+        final var started = System.nanoTime();
+        final var segments = segments();
+        long position = snapshotPosition;
+        for (int i = 0; i < segments.size(); i++) {
+            position = replay(segments.get(i), position, store, i == segments.size() - 1);
+        }
+        log.info(
+                "Replayed {} changes from the write-ahead log {} in {} ms",
+                position - snapshotPosition,
+                directory.toAbsolutePath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        this.store = store;
+        this.snapshotFile = snapshotFile;
+        this.seedSize = seedSize;
+        this.positionOffset = position - store.version();
+        this.queuedPosition = position;
+        this.writtenPosition = position;
+        this.syncedPosition = position;
+        this.durablePosition = position;
+        this.lastSyncNanos = System.nanoTime();
+        openSegment(position + 1);
+        compactor = Executors.newSingleThreadExecutor(task -> daemon(task, "wal-compactor"));
+        writer = daemon(this::writeLoop, "wal-writer");
+        writer.start();
+        store.addChangeListener(this);
+    }
+
+    /**
+     * Completes once the change that took the store to {@code version}, and every change before it, is durable;
+     * fails when the log can no longer make it so.
+     */
+    public CompletableFuture<Void> whenDurable(long version) {
+        final var position = version + positionOffset;
+        if (durablePosition >= position) {
+            return DURABLE;
+        }
+        if (failure != null) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        final var waiter = waiters.computeIfAbsent(position, ignored -> new CompletableFuture<>());
+        // The writer may have moved on between the check above and registering.
+        release();
+        return waiter;
+    }
+
+    public Stats stats() {
+        return new Stats(durablePosition, frames.sum(), batches.sum(), syncs.sum(), compactions.sum());
+    }
+
+    @Override
+    public void onChange(long version, ChangeEvent.Type type, MockEmployee employee) {
+        if (failure != null) {
+            return;
+        }
+        final byte[] frame;
+        try {
+            frame = encode(version + positionOffset, type, employee);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        synchronized (queueLock) {
+            if (closing) {
+                return;
+            }
+            queue.add(frame);
+            queuedPosition = version + positionOffset;
+            queueLock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes and forces whatever is queued, then stops logging.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (queueLock) {
+            closing = true;
+            queueLock.notifyAll();
+        }
+        try {
+            if (writer != null) {
+                writer.join();
+            }
+            if (compactor != null) {
+                compactor.shutdown();
+                compactor.awaitTermination(30, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (segment != null) {
+                segment.close();
+            }
+            if (failure == null) {
+                failure = new IllegalStateException("Write-ahead log is closed");
+            }
+            release();
+        }
+    }
+
+    private void writeLoop() {
+        List<byte[]> batch = new ArrayList<>();
+        try {
+            while (true) {
+                final long upTo;
+                final boolean stopping;
+                synchronized (queueLock) {
+                    if (queue.isEmpty() && !closing) {
+                        queueLock.wait(idleWaitMillis());
+                    }
+                    final var swapped = queue;
+                    queue = batch;
+                    batch = swapped;
+                    upTo = queuedPosition;
+                    stopping = closing;
+                }
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    writtenPosition = upTo;
+                    batch.clear();
+                }
+                sync(stopping);
+                durablePosition = fsyncPolicy == FsyncPolicy.ALWAYS ? syncedPosition : writtenPosition;
+                release();
+                if (stopping) {
+                    return;
+                }
+                maybeCompact();
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (InterruptedException e) {
+            fail(e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Under INTERVAL, wake up in time to force changes written since the last fsync even when nothing else arrives.
+     */
+    private long idleWaitMillis() {
+        if (fsyncPolicy != FsyncPolicy.INTERVAL || syncedPosition == writtenPosition) {
+            return 0;
+        }
+        final var due = lastSyncNanos + fsyncIntervalNanos - System.nanoTime();
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(due));
+    }
+
+    private void write(List<byte[]> batch) throws IOException {
+        final var buffers = new ByteBuffer[batch.size()];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(batch.get(i));
+            remaining += buffers[i].remaining();
+        }
+        segmentBytes += remaining;
+        while (remaining > 0) {
+            remaining -= segment.write(buffers);
+        }
+        frames.add(buffers.length);
+        batches.increment();
+    }
+
+    private void sync(boolean force) throws IOException {
+        if (syncedPosition == writtenPosition) {
+            return;
+        }
+        final var now = System.nanoTime();
+        final var due =
+                switch (fsyncPolicy) {
+                    case ALWAYS -> true;
+                    case INTERVAL -> now - lastSyncNanos >= fsyncIntervalNanos;
+                    case NEVER -> false;
+                };
+        if (due || force) {
+            segment.force(false);
+            syncedPosition = writtenPosition;
+            lastSyncNanos = now;
+            syncs.increment();
+        }
+    }
+
+    /**
+     * Completes the waiters for every durable position and, once the log failed, fails the rest.
+     */
+    private void release() {
+        completeAll(waiters.headMap(durablePosition, true), null);
+        final var failed = failure;
+        if (failed != null) {
+            completeAll(waiters, failed);
+        }
+    }
+
+    private static void completeAll(Map<Long, CompletableFuture<Void>> waiting, Throwable failed) {
+        for (var iterator = waiting.values().iterator(); iterator.hasNext(); ) {
+            final var waiter = iterator.next();
+            iterator.remove();
+            if (failed == null) {
+                waiter.complete(null);
+            } else {
+                waiter.completeExceptionally(failed);
+            }
+        }
+    }
+
+    private void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+            log.error("Write-ahead log {} failed; later changes are not durable", directory.toAbsolutePath(), cause);
+        }
+        release();
+    }
+
+    private void maybeCompact() throws IOException {
+        if (segmentBytes < compactAfterBytes || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        sync(true);
+        segment.close();
+        openSegment(writtenPosition + 1);
+        final var keepFrom = writtenPosition + 1;
+        compactor.execute(() -> compact(keepFrom));
+    }
+
+    /*
+     * Every segment before keepFrom holds positions the store has already applied, so a snapshot taken now covers
+     * them all. The segments go only after the snapshot's rename was forced to disk: were the deletes to survive a
+     * power loss without the rename, a restart would replay from the old snapshot with the acknowledged writes gone.
+     */
+    private void compact(long keepFrom) {
+        try {
+            final var started = System.nanoTime();
+            final var snapshot = store.snapshot();
+            final var position = snapshot.version() + positionOffset;
+            RosterSnapshotFile.write(snapshotFile, seedSize, position, snapshot.employees());
+            int deleted = 0;
+            for (Path file : segments()) {
+                if (startOf(file) < keepFrom) {
+                    Files.delete(file);
+                    deleted++;
+                }
+            }
+            syncDirectory();
+            compactions.increment();
+            log.info(
+                    "Compacted {} write-ahead log segments into {} at position {} in {} ms",
+                    deleted,
+                    snapshotFile.toAbsolutePath(),
+                    position,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not compact the write-ahead log {}", directory.toAbsolutePath(), e);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void openSegment(long firstPosition) throws IOException {
+        segment = FileChannel.open(
+                directory.resolve(SEGMENT_PREFIX + "%019d".formatted(firstPosition) + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        segmentBytes = segment.size();
+        syncDirectory();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        final var name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(WriteAheadLog::startOf))
+                    .toList();
+        }
+    }
+
+    private static long startOf(Path segment) {
+        final var name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /*
+     * Makes created, renamed and deleted files themselves durable, not just their contents.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Could not force directory {}", directory, e);
+        }
+    }
+
+    /**
+     * Applies the frames of {@code file} that follow {@code position} and returns the position reached.
+     */
+    private static long replay(Path file, long position, EmployeeStore store, boolean last) throws IOException {
+        final var buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        final var scratch = new byte[256];
+        while (buffer.hasRemaining()) {
+            final var frameStart = buffer.position();
+            final var payload = nextPayload(buffer);
+            if (payload == null) {
+                if (!last) {
+                    throw new IOException("Corrupt write-ahead log frame at byte " + frameStart + " of " + file);
+                }
+                log.warn("Cutting off a torn write-ahead log frame at byte {} of {}", frameStart, file);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(frameStart);
+                    channel.force(true);
+                }
+                break;
+            }
+            try {
+                final var type = payload.get();
+                final var framePosition = payload.getLong();
+                if (framePosition <= position) {
+                    continue;
+                }
+                if (framePosition != position + 1) {
+                    throw new IOException(
+                            "Write-ahead log skips from position " + position + " to " + framePosition + " in " + file);
+                }
+                switch (type) {
+                    case CREATED -> store.add(RosterSnapshotFile.readEmployee(payload, scratch));
+                    case DELETED -> store.deleteById(new UUID(payload.getLong(), payload.getLong()));
+                    default -> throw new IOException("Unknown write-ahead log frame type " + type + " in " + file);
+                }
+                position = framePosition;
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupt write-ahead log frame at byte " + frameStart + " of " + file, e);
+            }
+        }
+        return position;
+    }
+
+    /**
+     * The payload of the frame at the buffer's position, or {@code null} when it is incomplete or fails its checksum.
+     */
+    private static ByteBuffer nextPayload(ByteBuffer buffer) {
+        if (buffer.remaining() < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        final var length = buffer.getInt();
+        final var checksum = buffer.getInt();
+        if (length < MIN_PAYLOAD_BYTES || length > buffer.remaining()) {
+            return null;
+        }
+        final var payload = buffer.slice(buffer.position(), length);
+        final var crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        buffer.position(buffer.position() + length);
+        return payload;
+    }
+
+    private static byte[] encode(long position, ChangeEvent.Type type, MockEmployee employee) throws IOException {
+        final var bytes = new ByteArrayOutputStream(128);
+        final var out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        switch (type) {
+            case CREATED -> {
+                out.writeByte(CREATED);
+                out.writeLong(position);
+                RosterSnapshotFile.writeEmployee(out, employee);
+            }
+            case DELETED -> {
+                out.writeByte(DELETED);
+                out.writeLong(position);
+                out.writeLong(employee.getId().getMostSignificantBits());
+                out.writeLong(employee.getId().getLeastSignificantBits());
+            }
+            default -> throw new IllegalArgumentException("Roster changes are created or deleted, not " + type);
+        }
+        final var frame = ByteBuffer.wrap(bytes.toByteArray());
+        final var length = frame.capacity() - FRAME_HEADER_BYTES;
+        final var crc = new CRC32();
+        crc.update(frame.slice(FRAME_HEADER_BYTES, length));
+        frame.putInt(0, length).putInt(Integer.BYTES, (int) crc.getValue());
+        return frame.array();
+    }
+
+    private static Thread daemon(Runnable task, String name) {
+        final var thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * @param durablePosition last log position as durable as the fsync policy promises
+     * @param frames changes written
+     * @param batches writes, each holding every change queued meanwhile
+     * @param syncs times the log was forced to disk
+     * @param compactions snapshots that replaced older segments
+     */
+    public record Stats(long durablePosition, long frames, long batches, long syncs, long compactions) {}
+}
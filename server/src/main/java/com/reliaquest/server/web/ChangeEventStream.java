@@ -0,0 +1,28 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.ChangeEvent;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+/**
+ * Renders the {@link EmployeeChangeFeed} as server-sent events, identical in the servlet and the reactive runtime:
+ * the event name is the change type, the id its version and the data the {@link ChangeEvent} itself.
+ */
+public final class ChangeEventStream {
+
+    private ChangeEventStream() {}
+
+    public static Flux<ServerSentEvent<ChangeEvent>> of(EmployeeChangeFeed feed, String epoch, Long since) {
+        final var events = feed.changesSince(epoch, since).map(event -> ServerSentEvent.builder(event)
+                .id(Long.toString(event.version()))
+                .event(event.type().getValue())
+                .build());
+        final var heartbeats = Flux.interval(feed.getHeartbeat(), feed.getHeartbeat())
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<ChangeEvent>builder()
+                        .comment("heartbeat")
+                        .build());
+        return Flux.merge(events, heartbeats);
+    }
+}
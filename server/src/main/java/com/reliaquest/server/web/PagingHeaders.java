@@ -0,0 +1,22 @@
+package com.reliaquest.server.web;
+
+/**
+ * Response headers of a paged roster request, identical in the servlet and the reactive runtime.
+ */
+public final class PagingHeaders {
+
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    /**
+     * Opaque cursor to pass back as {@code cursor} for the next page; absent on the last page.
+     */
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    /**
+     * Store version of the snapshot an offset page was cut from; absent on cursor pages. Offset pages only line up
+     * with each other while it stays the same.
+     */
+    public static final String ROSTER_VERSION = "X-Roster-Version";
+
+    private PagingHeaders() {}
+}
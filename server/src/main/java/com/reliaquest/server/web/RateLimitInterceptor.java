@@ -0,0 +1,34 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the {@link RequestLimiter} to the servlet runtime: every limited response reports the tokens left, and a
+ * rejection says when to come back.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RequestLimiter requestLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!requestLimiter.isEnabled()) {
+            return true;
+        }
+        final var decision = requestLimiter.tryAcquire(request.getRemoteAddr().hashCode());
+        response.setHeader(RequestLimiter.REMAINING_HEADER, Long.toString(RequestLimiter.remaining(decision)));
+        if (!RequestLimiter.isAdmitted(decision)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(RequestLimiter.retryAfterSeconds(decision)));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token-bucket rate limit of the mock API, shared by the servlet and the reactive runtime.
+ *
+ * <p>Each bucket holds up to {@code capacity} requests and refills at {@code refill-per-second}. It is kept as a
+ * single theoretical arrival time (the generic cell rate algorithm), so refilling is implicit in the clock and
+ * admission is one compare-and-set on a {@code long}, without locks or allocation. With {@code per-client} every
+ * client address hashes onto one of {@code stripes} buckets; otherwise all clients share one.
+ *
+ * <p>{@link #tryAcquire} packs its decision into a {@code long}: non-negative values admit the request and count the
+ * tokens left, negative values reject it and carry the nanoseconds until the next token.
+ */
+@Component
+public class RequestLimiter {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    /*
+     * Buckets are eight longs, one 64-byte cache line, apart so that neighbouring buckets do not contend.
+     */
+    private static final int SLOT_STRIDE = 8;
+
+    @Getter
+    private final boolean enabled;
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final boolean perClient;
+    private final int stripeMask;
+    private final LongSupplier nanoClock;
+
+    /*
+     * Theoretical arrival time per bucket: the bucket is full once the clock has passed it.
+     */
+    private final AtomicLongArray arrivals;
+
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public RequestLimiter(
+            @Value("${mock.request-limit.enabled:true}") boolean enabled,
+            @Value("${mock.request-limit.capacity:10}") int capacity,
+            @Value("${mock.request-limit.refill-per-second:1}") double refillPerSecond,
+            @Value("${mock.request-limit.per-client:false}") boolean perClient,
+            @Value("${mock.request-limit.stripes:64}") int stripes) {
+        this(enabled, capacity, refillPerSecond, perClient, stripes, System::nanoTime);
+    }
+
+    RequestLimiter(
+            boolean enabled,
+            int capacity,
+            double refillPerSecond,
+            boolean perClient,
+            int stripes,
+            LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0 || stripes < 1) {
+            throw new IllegalArgumentException("Request limit needs a positive capacity, refill rate and stripe count");
+        }
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.perClient = perClient;
+        final var buckets = perClient ? Integer.highestOneBit(stripes - 1) << 1 : 1;
+        this.stripeMask = Math.max(1, buckets) - 1;
+        this.nanoClock = nanoClock;
+        this.arrivals = new AtomicLongArray((stripeMask + 1) * SLOT_STRIDE);
+        final var full = nanoClock.getAsLong();
+        for (int i = 0; i <= stripeMask; i++) {
+            arrivals.set(i * SLOT_STRIDE, full);
+        }
+    }
+
+    /**
+     * Takes a token from the bucket of the client with the given key hash, e.g. its address' hash code; the key is
+     * ignored unless {@code per-client} is set.
+     *
+     * @return tokens left when admitted, otherwise the negated nanoseconds until the next token; see
+     *     {@link #isAdmitted}, {@link #remaining} and {@link #retryAfterSeconds}
+     */
+    public long tryAcquire(int clientHash) {
+        if (!enabled) {
+            return capacity;
+        }
+        final var slot = (perClient ? spread(clientHash) & stripeMask : 0) * SLOT_STRIDE;
+        while (true) {
+            final var now = nanoClock.getAsLong();
+            final var arrival = arrivals.get(slot);
+            final var next = Math.max(arrival, now) + emissionIntervalNanos;
+            final var debt = next - now;
+            if (debt > burstNanos) {
+                rejected.increment();
+                return -Math.max(1, debt - burstNanos);
+            }
+            if (arrivals.compareAndSet(slot, arrival, next)) {
+                return (burstNanos - debt) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Requests turned away with 429 since startup.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public static boolean isAdmitted(long decision) {
+        return decision >= 0;
+    }
+
+    public static long remaining(long decision) {
+        return Math.max(0, decision);
+    }
+
+    /**
+     * Whole seconds a rejected client should wait before its next token, rounded up.
+     */
+    public static long retryAfterSeconds(long decision) {
+        final var nanos = -decision;
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,139 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * The whole-roster response body, serialized and gzipped once per roster version.
+ *
+ * <p>Every create or delete bumps the {@link EmployeeStore#version()}; the next request after it re-encodes the
+ * roster, all others are served the cached bytes. Each encoding carries a weak ETag made of the store's epoch and
+ * version, so a restarted server never confirms a client's copy of another roster with 304.
+ */
+@Component
+@RequiredArgsConstructor
+public class RosterResponseCache {
+
+    /**
+     * Store version of the roster in the body; changes after it can be followed on the change feed.
+     */
+    public static final String VERSION_HEADER = "X-Roster-Version";
+
+    public static final String EPOCH_HEADER = "X-Roster-Epoch";
+
+    private final EmployeeStore employeeStore;
+    private final ObjectMapper objectMapper;
+
+    private volatile Encoded current;
+
+    public Encoded current() {
+        final var cached = current;
+        if (cached != null && cached.version() == employeeStore.version()) {
+            return cached;
+        }
+        return refresh();
+    }
+
+    private synchronized Encoded refresh() {
+        final var snapshot = employeeStore.snapshot();
+        final var cached = current;
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
+        try {
+            final var json = objectMapper.writeValueAsBytes(Response.handledWith(snapshot.employees()));
+            final var encoded = new Encoded(
+                    employeeStore.epoch(),
+                    snapshot.version(),
+                    "W/\"" + employeeStore.epoch() + "-" + snapshot.version() + "\"",
+                    json,
+                    gzip(json));
+            current = encoded;
+            return encoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode the employee roster", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        final var bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (var out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param json the {@link Response} body as sent without content coding
+     * @param gzip the same body gzipped
+     */
+    public record Encoded(String epoch, long version, String etag, byte[] json, byte[] gzip) {
+
+        /**
+         * Whether an {@code If-None-Match} header names this encoding, comparing weakly as RFC 9110 requires.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                final var trimmed = tag.trim();
+                if (trimmed.equals("*") || opaque(trimmed).equals(opaque(etag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String opaque(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits gzip. An explicit {@code gzip} entry decides, otherwise a
+     * {@code *} entry does; either is ruled out by a quality of zero.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            final var parts = coding.split(";");
+            final var name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                return isAcceptable(parts);
+            }
+            if (name.equals("*") && wildcard == null) {
+                wildcard = isAcceptable(parts);
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    /**
+     * Whether the quality of an {@code Accept-Encoding} entry, split at its semicolons, is above zero; an entry without
+     * one has quality 1 and one with an unreadable value is refused.
+     */
+    private static boolean isAcceptable(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final var parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,211 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.service.IdempotencyKeys;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.web.PagingHeaders;
+import com.reliaquest.server.web.RosterResponseCache;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private EmployeeStore store;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        store = new EmployeeStore();
+        for (int i = 0; i < 5; i++) {
+            store.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 1000 * i, 30, "Developer", i + "@c.com"));
+        }
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(
+                        new MockEmployeeService(
+                                new Faker(),
+                                store,
+                                Optional.empty(),
+                                Validation.buildDefaultValidatorFactory().getValidator(),
+                                new IdempotencyKeys(16)),
+                        new RosterResponseCache(
+                                store, Jackson2ObjectMapperBuilder.json().build()),
+                        new EmployeeChangeFeed(store, 16, 16, Duration.ofSeconds(15))))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void getEmployees_WithoutLimitReturnsWholeRoster() throws Exception {
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5))
+                .andExpect(header().doesNotExist(PagingHeaders.TOTAL_COUNT));
+    }
+
+    @Test
+    void getEmployees_RosterAnswersMatchingETagWith304UntilItChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(RosterResponseCache.EPOCH_HEADER, store.epoch()))
+                .andExpect(header().string(RosterResponseCache.VERSION_HEADER, "5"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        store.add(new MockEmployee(UUID.randomUUID(), "Employee 5", 1, 30, "Developer", "5@c.com"));
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(6))
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void getEmployees_RosterIsSentPreCompressedWhenGzipIsAccepted() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(JsonPath.<List<String>>read(json, "$.data[*].employee_name"))
+                    .hasSize(5);
+        }
+    }
+
+    @Test
+    void getEmployees_OffsetPage() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("limit", "2").param("offset", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 3"))
+                .andExpect(header().string(PagingHeaders.TOTAL_COUNT, "5"))
+                .andExpect(header().string(PagingHeaders.ROSTER_VERSION, String.valueOf(store.version())))
+                .andExpect(header().doesNotExist(PagingHeaders.NEXT_CURSOR));
+    }
+
+    @Test
+    void getEmployees_CursorPagesSurviveDeletesBeforeThePosition() throws Exception {
+        String cursor = mockMvc.perform(get("/api/v1/employee").param("limit", "2"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Employee 1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(PagingHeaders.NEXT_CURSOR);
+
+        store.deleteByName("Employee 0");
+
+        String body = mockMvc.perform(
+                        get("/api/v1/employee").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PagingHeaders.TOTAL_COUNT, "4"))
+                .andExpect(header().doesNotExist(PagingHeaders.ROSTER_VERSION))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(JsonPath.<List<String>>read(body, "$.data[*].employee_name"))
+                .containsExactly("Employee 2", "Employee 3");
+    }
+
+    @Test
+    void getEmployees_RejectsInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee").param("offset", "1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee").param("limit", "1").param("cursor", "!!"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("limit", "1")
+                        .param("offset", "0")
+                        .param("cursor", "AAAAAAAAAAA"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createEmployee_RepeatedWithTheSameIdempotencyKeyCreatesOnce() throws Exception {
+        String body = "{\"name\":\"Retried Hire\",\"salary\":100,\"age\":30,\"title\":\"Tester\"}";
+        String id = JsonPath.read(
+                mockMvc.perform(post("/api/v1/employee")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(IdempotencyKeys.HEADER, "key-1")
+                                .content(body))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString(),
+                "$.data.id");
+
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(IdempotencyKeys.HEADER, "key-1")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(id));
+        assertThat(store.size()).isEqualTo(6);
+
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(IdempotencyKeys.HEADER, "key-2")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(not(id)));
+        assertThat(store.size()).isEqualTo(7);
+    }
+
+    @Test
+    void createAndDeleteEmployees_ReportPerItemResults() throws Exception {
+        mockMvc.perform(
+                        post("/api/v1/employee/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        """
+                                [{"name":"Bulk One","salary":100,"age":30,"title":"Tester"},
+                                 {"name":"Bulk Two","salary":100,"age":12,"title":"Tester"}]"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Bulk One"))
+                .andExpect(jsonPath("$.data[1].error").value(containsString("age")));
+        assertThat(store.size()).isEqualTo(6);
+        UUID first = store.findByName("Employee 0").orElseThrow().getId();
+
+        mockMvc.perform(delete("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"names\":[\"bulk one\",\" \"],\"ids\":[\"" + first + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Bulk One"))
+                .andExpect(jsonPath("$.data[1].error").exists())
+                .andExpect(jsonPath("$.data[2].data.id").value(first.toString()));
+        assertThat(store.size()).isEqualTo(4);
+    }
+}
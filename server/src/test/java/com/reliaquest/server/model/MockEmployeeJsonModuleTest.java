@@ -0,0 +1,26 @@
+package com.reliaquest.server.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class MockEmployeeJsonModuleTest {
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper handWritten = Jackson2ObjectMapperBuilder.json()
+            .modules(new MockEmployeeJsonModule())
+            .build();
+
+    @Test
+    void roster_IsWrittenExactlyAsByTheNamingStrategy() throws Exception {
+        final var response = Response.handledWith(List.of(
+                new MockEmployee(UUID.randomUUID(), "Ada \"The Countess\"", 120_000, 36, "Analyst", "ada@company.com"),
+                new MockEmployee(null, null, null, null, null, null)));
+
+        assertThat(handWritten.writeValueAsString(response)).isEqualTo(reflective.writeValueAsString(response));
+    }
+}
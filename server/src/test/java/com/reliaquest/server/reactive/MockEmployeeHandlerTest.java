@@ -0,0 +1,375 @@
+package com.reliaquest.server.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.service.IdempotencyKeys;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.web.PagingHeaders;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.RosterResponseCache;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class MockEmployeeHandlerTest {
+
+    private final ReactiveServerConfiguration configuration = new ReactiveServerConfiguration();
+
+    private EmployeeStore store;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        store = new EmployeeStore();
+        for (int i = 0; i < 5; i++) {
+            store.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 1000 * i, 30, "Developer", i + "@c.com"));
+        }
+        client = client(new RequestLimiter(false, 1, 1, false, 1));
+    }
+
+    @Test
+    void getEmployees_WithoutLimitReturnsWholeRoster() {
+        client.get()
+                .uri("/api/v1/employee")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .doesNotExist(PagingHeaders.TOTAL_COUNT)
+                .expectBody()
+                .jsonPath("$.data.length()")
+                .isEqualTo(5)
+                .jsonPath("$.status")
+                .isEqualTo("Successfully processed request.");
+    }
+
+    @Test
+    void getEmployees_RosterAnswersMatchingETagWith304() {
+        String etag = client.get()
+                .uri("/api/v1/employee")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        client.get()
+                .uri("/api/v1/employee")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus()
+                .isNotModified()
+                .expectHeader()
+                .valueEquals(HttpHeaders.ETAG, etag);
+        client.get()
+                .uri("/api/v1/employee")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectHeader()
+                .valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    @Test
+    void getChanges_StreamsResetThenLiveChanges() {
+        Flux<ServerSentEvent<Map<String, Object>>> events = client.get()
+                .uri("/api/v1/employee/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {})
+                .getResponseBody();
+
+        StepVerifier.create(events)
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo("reset");
+                    assertThat(event.data()).containsEntry("version", 5).containsEntry("epoch", store.epoch());
+                })
+                .then(() -> store.deleteByName("Employee 0"))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo("deleted");
+                    assertThat(event.id()).isEqualTo("6");
+                    assertThat(event.data())
+                            .extractingByKey("employee")
+                            .asString()
+                            .contains("Employee 0");
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void getEmployees_PagesLikeTheServletController() {
+        String cursor = client.get()
+                .uri("/api/v1/employee?limit=2")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals(PagingHeaders.TOTAL_COUNT, "5")
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getFirst(PagingHeaders.NEXT_CURSOR);
+        assertThat(cursor).isNotBlank();
+
+        client.get()
+                .uri(uri -> uri.path("/api/v1/employee")
+                        .queryParam("limit", 2)
+                        .queryParam("cursor", cursor)
+                        .build())
+                .exchange()
+                .expectBody()
+                .jsonPath("$.data[0].employee_name")
+                .isEqualTo("Employee 2");
+        client.get()
+                .uri("/api/v1/employee?limit=2&offset=4")
+                .exchange()
+                .expectHeader()
+                .doesNotExist(PagingHeaders.NEXT_CURSOR)
+                .expectBody()
+                .jsonPath("$.data.length()")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void getEmployees_RejectsInvalidParameters() {
+        for (String query : new String[] {"limit=0", "offset=1", "limit=x", "limit=1&cursor=!!"}) {
+            client.get()
+                    .uri("/api/v1/employee?" + query)
+                    .exchange()
+                    .expectStatus()
+                    .isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.status")
+                    .isEqualTo("Failed to process request.");
+        }
+    }
+
+    @Test
+    void getEmployee_FoundMissingAndMalformed() {
+        MockEmployee first = store.snapshot().employees().get(0);
+
+        client.get()
+                .uri("/api/v1/employee/{id}", first.getId())
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.employee_name")
+                .isEqualTo("Employee 0");
+        client.get()
+                .uri("/api/v1/employee/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+        client.get()
+                .uri("/api/v1/employee/not-a-uuid")
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+    }
+
+    @Test
+    void createAndDeleteEmployee() {
+        client.post()
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "New Hire", "salary", 100, "age", 30, "title", "Tester"))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.employee_name")
+                .isEqualTo("New Hire")
+                .jsonPath("$.data.employee_email")
+                .value(email -> assertThat((String) email).endsWith("@company.com"));
+        assertThat(store.findByName("New Hire")).isPresent();
+
+        client.method(HttpMethod.DELETE)
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "New Hire"))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data")
+                .isEqualTo(true);
+        assertThat(store.findByName("New Hire")).isEmpty();
+    }
+
+    @Test
+    void createEmployee_RepeatedWithTheSameIdempotencyKeyCreatesOnce() {
+        Map<String, Object> body = Map.of("name", "Retried Hire", "salary", 100, "age", 30, "title", "Tester");
+        String[] ids = new String[2];
+        for (int i = 0; i < 2; i++) {
+            int attempt = i;
+            client.post()
+                    .uri("/api/v1/employee")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(IdempotencyKeys.HEADER, "key-1")
+                    .bodyValue(body)
+                    .exchange()
+                    .expectStatus()
+                    .isOk()
+                    .expectBody()
+                    .jsonPath("$.data.id")
+                    .value(id -> ids[attempt] = (String) id);
+        }
+
+        assertThat(ids[1]).isEqualTo(ids[0]);
+        assertThat(store.snapshot().employees())
+                .filteredOn(employee -> employee.getName().equals("Retried Hire"))
+                .hasSize(1);
+    }
+
+    @Test
+    void createAndDeleteEmployees_ReportPerItemResults() {
+        client.post()
+                .uri("/api/v1/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        Map.of("name", "Bulk One", "salary", 100, "age", 30, "title", "Tester"),
+                        Map.of("name", "", "salary", 100, "age", 30, "title", "Tester"),
+                        Map.of("name", "Bulk Two", "salary", 100, "age", 30, "title", "Tester")))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.length()")
+                .isEqualTo(3)
+                .jsonPath("$.data[0].data.employee_name")
+                .isEqualTo("Bulk One")
+                .jsonPath("$.data[1].error")
+                .value(error -> assertThat((String) error).contains("name"))
+                .jsonPath("$.data[2].data.employee_name")
+                .isEqualTo("Bulk Two");
+        UUID bulkTwo = store.findByName("Bulk Two").orElseThrow().getId();
+
+        client.method(HttpMethod.DELETE)
+                .uri("/api/v1/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("names", List.of("Bulk One", "Nobody"), "ids", List.of(bulkTwo)))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data[0].data.employee_name")
+                .isEqualTo("Bulk One")
+                .jsonPath("$.data[1].data")
+                .doesNotExist()
+                .jsonPath("$.data[2].data.id")
+                .isEqualTo(bulkTwo.toString());
+        assertThat(store.size()).isEqualTo(5);
+    }
+
+    @Test
+    void createEmployees_RejectsOversizedBatch() {
+        client.post()
+                .uri("/api/v1/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.nCopies(
+                        MockEmployeeService.MAX_BATCH_SIZE + 1,
+                        Map.of("name", "Too Many", "salary", 100, "age", 30, "title", "Tester")))
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+        assertThat(store.size()).isEqualTo(5);
+    }
+
+    @Test
+    void createEmployee_RejectsInvalidInput() {
+        client.post()
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "", "salary", 100, "age", 12, "title", "Tester"))
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.error")
+                .value(error -> assertThat((String) error).contains("age", "name"));
+        client.post()
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":")
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+        client.post()
+                .uri("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+        assertThat(store.size()).isEqualTo(5);
+    }
+
+    @Test
+    void requestLimit_ReportsRemainingTokensAndRejectsWithRetryAfter() {
+        RequestLimiter requestLimiter = new RequestLimiter(true, 2, 0.5, false, 1);
+        WebTestClient limited = client(requestLimiter);
+
+        limited.get()
+                .uri("/api/v1/employee")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals(RequestLimiter.REMAINING_HEADER, "1");
+        limited.get().uri("/api/v1/employee").exchange().expectStatus().isOk();
+        limited.get()
+                .uri("/api/v1/employee")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader()
+                .valueEquals(RequestLimiter.REMAINING_HEADER, "0")
+                .expectHeader()
+                .valueEquals(HttpHeaders.RETRY_AFTER, "2");
+        assertThat(requestLimiter.rejectedCount()).isEqualTo(1);
+
+        limited.get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus()
+                .isNotFound()
+                .expectHeader()
+                .doesNotExist(RequestLimiter.REMAINING_HEADER);
+    }
+
+    private WebTestClient client(RequestLimiter requestLimiter) {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        MockEmployeeHandler handler = new MockEmployeeHandler(
+                new MockEmployeeService(new Faker(), store, Optional.empty(), validator, new IdempotencyKeys(16)),
+                validator,
+                new RosterResponseCache(
+                        store, Jackson2ObjectMapperBuilder.json().build()),
+                new EmployeeChangeFeed(store, 16, 16, Duration.ofSeconds(15)));
+        return WebTestClient.bindToRouterFunction(configuration.mockEmployeeRoutes(handler))
+                .webFilter(configuration.requestLimitFilter(requestLimiter, "/actuator"))
+                .build();
+    }
+}
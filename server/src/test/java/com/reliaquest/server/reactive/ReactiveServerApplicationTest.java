@@ -0,0 +1,57 @@
+package com.reliaquest.server.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@ActiveProfiles("reactive")
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"mock.snapshot.path=", "mock.request-limit.enabled=false", "mock.employees.max=3"})
+class ReactiveServerApplicationTest {
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void reactiveProfile_ServesTheEmployeeApiFromNetty() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+
+        client.get()
+                .uri("/api/v1/employee")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.length()")
+                .isEqualTo(3);
+    }
+
+    @Test
+    void prometheus_PublishesRosterSizeAndRequestLatencies() {
+        client.get().uri("/api/v1/employee").exchange().expectStatus().isOk();
+
+        client.get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        .contains("mock_employees{application=\"mock-employee-api\",} 3.0")
+                        .contains("http_server_requests_seconds_bucket{")
+                        .containsPattern(
+                                "http_server_requests_seconds\\{.*uri=\"/api/v1/employee\",quantile=\"0.99\""));
+    }
+}
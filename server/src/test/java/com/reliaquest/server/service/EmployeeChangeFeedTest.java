@@ -0,0 +1,103 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.ChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class EmployeeChangeFeedTest {
+
+    private EmployeeStore store;
+    private EmployeeChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        store = new EmployeeStore();
+        store.add(employee("Seed"));
+        feed = new EmployeeChangeFeed(store, 3, 4, Duration.ofSeconds(15));
+    }
+
+    @Test
+    void changesSince_NewSubscriberStartsWithResetThenFollowsLiveChanges() {
+        StepVerifier.create(feed.changesSince(null, null))
+                .expectNext(ChangeEvent.reset(store.epoch(), 1))
+                .then(() -> store.add(employee("Ada")))
+                .assertNext(event -> {
+                    assertThat(event.version()).isEqualTo(2);
+                    assertThat(event.type()).isEqualTo(ChangeEvent.Type.CREATED);
+                    assertThat(event.employee().getName()).isEqualTo("Ada");
+                })
+                .then(() -> store.deleteByName("Ada"))
+                .assertNext(event -> {
+                    assertThat(event.version()).isEqualTo(3);
+                    assertThat(event.type()).isEqualTo(ChangeEvent.Type.DELETED);
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void changesSince_ResumesFromRetainedHistory() {
+        store.add(employee("A"));
+        store.add(employee("B"));
+        store.add(employee("C"));
+
+        StepVerifier.create(feed.changesSince(store.epoch(), 2L))
+                .expectNext(ChangeEvent.resumed(store.epoch(), 2))
+                .assertNext(event -> assertThat(event.version()).isEqualTo(3))
+                .assertNext(event -> assertThat(event.version()).isEqualTo(4))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(feed.changesSince(store.epoch(), 4L))
+                .expectNext(ChangeEvent.resumed(store.epoch(), 4))
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void changesSince_ResetsWhenThePositionCannotBeResumed() {
+        for (int i = 0; i < 5; i++) {
+            store.add(employee("E" + i));
+        }
+
+        StepVerifier.create(feed.changesSince(store.epoch(), 1L).map(ChangeEvent::type))
+                .expectNext(ChangeEvent.Type.RESET)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(feed.changesSince("other-epoch", 5L).map(ChangeEvent::type))
+                .expectNext(ChangeEvent.Type.RESET)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(feed.changesSince(store.epoch(), 99L).map(ChangeEvent::type))
+                .expectNext(ChangeEvent.Type.RESET)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void changesSince_CutsOffSubscribersThatFallTooFarBehind() {
+        StepVerifier.create(feed.changesSince(null, null), 0)
+                .then(() -> {
+                    for (int i = 0; i < 10; i++) {
+                        store.add(employee("E" + i));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(4)
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 1000, 30, "Developer", name + "@c.com");
+    }
+}
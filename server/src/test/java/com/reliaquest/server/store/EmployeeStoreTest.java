@@ -0,0 +1,241 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class EmployeeStoreTest {
+
+    private final EmployeeStore store = new EmployeeStore();
+
+    @Test
+    void findById_ReturnsAddedEmployee() {
+        MockEmployee john = employee("John Doe");
+        store.add(john);
+
+        assertThat(store.findById(john.getId())).contains(john);
+        assertThat(store.findById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void deleteByName_IgnoresCaseAndRemovesOldestFirst() {
+        MockEmployee first = employee("John Doe");
+        MockEmployee second = employee("JOHN DOE");
+        store.add(first);
+        store.add(second);
+
+        assertThat(store.deleteByName("john doe")).contains(first);
+        assertThat(store.findById(first.getId())).isEmpty();
+        assertThat(store.findByName("John Doe")).contains(second);
+        assertThat(store.deleteByName("john doe")).contains(second);
+        assertThat(store.deleteByName("john doe")).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void snapshot_KeepsInsertionOrderAndIsCachedUntilNextMutation() {
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        store.add(john);
+        store.add(jane);
+
+        EmployeeStore.Snapshot snapshot = store.snapshot();
+        assertThat(snapshot.employees()).containsExactly(john, jane);
+        assertThat(store.snapshot()).isSameAs(snapshot);
+
+        store.deleteByName("John Doe");
+        assertThat(store.snapshot().employees()).containsExactly(jane);
+        assertThat(store.snapshot().version()).isGreaterThan(snapshot.version());
+        assertThat(snapshot.employees()).containsExactly(john, jane);
+    }
+
+    @Test
+    void add_SameIdReplacesPreviousEntry() {
+        MockEmployee john = employee("John Doe");
+        store.add(john);
+        MockEmployee renamed = john.toBuilder().name("Johnny Doe").build();
+        store.add(renamed);
+
+        assertThat(store.findById(john.getId())).contains(renamed);
+        assertThat(store.findByName("John Doe")).isEmpty();
+        assertThat(store.snapshot().employees()).containsExactly(renamed);
+    }
+
+    @Test
+    void concurrentCreatesAndDeletes_SnapshotsAreNeverTorn() throws Exception {
+        int writers = 4;
+        int perWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        // "keep" is always added before "gone", so a snapshot holding "gone" must also hold "keep".
+                        store.add(employee("keep-" + writer + "-" + i));
+                        store.add(employee("gone-" + writer + "-" + i));
+                        store.deleteByName("gone-" + writer + "-" + i);
+                    }
+                    return null;
+                }));
+            }
+            Future<Integer> reader = executor.submit(() -> {
+                start.await();
+                int checked = 0;
+                while (writing.get()) {
+                    EmployeeStore.Snapshot snapshot = store.snapshot();
+                    Set<UUID> ids = new HashSet<>();
+                    Set<String> names = new HashSet<>();
+                    for (MockEmployee employee : snapshot.employees()) {
+                        assertThat(ids.add(employee.getId())).isTrue();
+                        names.add(employee.getName());
+                    }
+                    for (String name : names) {
+                        if (name.startsWith("gone-")) {
+                            assertThat(names).contains("keep-" + name.substring("gone-".length()));
+                        }
+                    }
+                    checked++;
+                }
+                return checked;
+            });
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            assertThat(reader.get(30, TimeUnit.SECONDS)).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<MockEmployee> employees = store.snapshot().employees();
+        assertThat(employees).hasSize(writers * perWriter);
+        assertThat(employees).allMatch(employee -> employee.getName().startsWith("keep-"));
+        assertThat(store.size()).isEqualTo(writers * perWriter);
+    }
+
+    @Test
+    void deleteByName_RacingDeletesByIdNeverComeBackEmptyWhileTheNameRemains() throws Exception {
+        int count = 2_000;
+        List<MockEmployee> twins = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MockEmployee twin = employee("Twin");
+            twins.add(twin);
+            store.add(twin);
+        }
+
+        // At most half go by id, so each of the other half's deletes by name still finds someone.
+        CompletableFuture<Void> byId = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < count; i += 2) {
+                store.deleteById(twins.get(i).getId());
+            }
+        });
+        int removedByName = 0;
+        for (int i = 0; i < count / 2; i++) {
+            if (store.deleteByName("twin").isPresent()) {
+                removedByName++;
+            }
+        }
+        byId.get(30, TimeUnit.SECONDS);
+
+        assertThat(removedByName).isEqualTo(count / 2);
+    }
+
+    @Test
+    void changeListener_RunsWithoutHoldingOffOtherMutations() throws Exception {
+        CountDownLatch inListener = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> versions = new ArrayList<>();
+        store.addChangeListener((version, type, employee) -> {
+            versions.add(version);
+            if (version == 1) {
+                inListener.countDown();
+                await(release);
+            }
+        });
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> store.add(john));
+        assertThat(inListener.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> store.add(jane)).get(2, TimeUnit.SECONDS);
+
+        assertThat(store.findById(jane.getId())).contains(jane);
+        assertThat(store.version()).isEqualTo(2);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(versions).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void concurrentMutations_ReachListenersOncePerVersionInOrder() throws Exception {
+        ConcurrentLinkedQueue<Long> versions = new ConcurrentLinkedQueue<>();
+        store.addChangeListener((version, type, employee) -> versions.add(version));
+        int writers = 4;
+        int perWriter = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        MockEmployee employee = employee("churn-" + writer + "-" + i);
+                        store.add(employee);
+                        store.deleteById(employee.getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(versions).hasSize(2 * writers * perWriter);
+        long expected = 1;
+        for (long version : versions) {
+            assertThat(version).isEqualTo(expected++);
+        }
+        assertThat(store.version()).isEqualTo(2L * writers * perWriter);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Developer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ThenReadReturnsSameRoster() throws IOException {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            employees.add(new MockEmployee(
+                    UUID.randomUUID(), "Employee " + i, 30_000 + i, 20 + i % 40, "Developer", i + "@company.com"));
+        }
+        employees.add(new MockEmployee(UUID.randomUUID(), "Zoë Ñúñez 山田", null, null, null, null));
+        Path file = directory.resolve("roster.bin");
+
+        RosterSnapshotFile.write(file, 1_000, 42, employees);
+        RosterSnapshotFile.Contents contents = RosterSnapshotFile.read(file);
+
+        assertThat(contents.seedSize()).isEqualTo(1_000);
+        assertThat(contents.version()).isEqualTo(42);
+        assertThat(contents.employees()).containsExactlyElementsOf(employees);
+        assertThat(Files.list(directory)).containsExactly(file);
+    }
+
+    @Test
+    void read_RejectsCorruptedFile() throws IOException {
+        Path file = directory.resolve("roster.bin");
+        RosterSnapshotFile.write(
+                file, 1, 1, List.of(new MockEmployee(UUID.randomUUID(), "John Doe", 1, 30, "Developer", "j@c.com")));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[RosterSnapshotFile.HEADER_BYTES + 20] ^= 0x40;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> RosterSnapshotFile.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void read_RejectsTruncatedFile() throws IOException {
+        Path file = directory.resolve("roster.bin");
+        Files.write(file, new byte[] {0x45, 0x4D});
+
+        assertThatThrownBy(() -> RosterSnapshotFile.read(file)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,171 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    private static final List<MockEmployee> SEED = List.of(
+            new MockEmployee(UUID.randomUUID(), "John Doe", 50_000, 30, "Developer", "john@company.com"),
+            new MockEmployee(UUID.randomUUID(), "Jane Smith", 60_000, 35, "Manager", "jane@company.com"));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_ReplaysChangesLoggedBeforeRestart() throws IOException {
+        EmployeeStore store = seeded();
+        try (WriteAheadLog wal = start(store, WriteAheadLog.FsyncPolicy.ALWAYS, 4 << 20)) {
+            store.add(employee("Added One"));
+            store.add(employee("Added Two"));
+            store.deleteById(SEED.get(0).getId());
+            store.deleteByName("Added One");
+            wal.whenDurable(store.version()).join();
+            assertThat(wal.stats().frames()).isEqualTo(4);
+        }
+
+        EmployeeStore restarted = seeded();
+        try (WriteAheadLog ignored = start(restarted, WriteAheadLog.FsyncPolicy.ALWAYS, 4 << 20)) {
+            assertThat(restarted.snapshot().employees())
+                    .containsExactlyElementsOf(store.snapshot().employees());
+        }
+    }
+
+    @Test
+    void recover_CutsOffTornWriteAndKeepsLogging() throws IOException {
+        EmployeeStore store = seeded();
+        try (WriteAheadLog wal = start(store, WriteAheadLog.FsyncPolicy.NEVER, 4 << 20)) {
+            store.add(employee("Kept"));
+            wal.whenDurable(store.version()).join();
+        }
+        Path segment = segments().get(segments().size() - 1);
+        Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        EmployeeStore restarted = seeded();
+        try (WriteAheadLog wal = start(restarted, WriteAheadLog.FsyncPolicy.NEVER, 4 << 20)) {
+            assertThat(restarted.findByName("Kept")).isPresent();
+            restarted.add(employee("After Crash"));
+            wal.whenDurable(restarted.version()).join();
+        }
+
+        EmployeeStore again = seeded();
+        try (WriteAheadLog ignored = start(again, WriteAheadLog.FsyncPolicy.NEVER, 4 << 20)) {
+            assertThat(again.findByName("Kept")).isPresent();
+            assertThat(again.findByName("After Crash")).isPresent();
+            assertThat(again.size()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void compaction_FoldsLogIntoSnapshotAndDropsOldSegments() throws Exception {
+        EmployeeStore store = seeded();
+        try (WriteAheadLog wal = start(store, WriteAheadLog.FsyncPolicy.INTERVAL, 1)) {
+            for (int i = 0; i < 20; i++) {
+                store.add(employee("Compacted " + i));
+                wal.whenDurable(store.version()).join();
+            }
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (wal.stats().compactions() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(wal.stats().compactions()).isPositive();
+        }
+
+        RosterSnapshotFile.Contents snapshot = RosterSnapshotFile.read(snapshotFile());
+        assertThat(snapshot.version()).isGreaterThan(SEED.size());
+        assertThat(segments()).allMatch(segment -> startOf(segment) > SEED.size() + 1);
+
+        EmployeeStore restarted = new EmployeeStore();
+        snapshot.employees().forEach(restarted::add);
+        try (WriteAheadLog wal = WriteAheadLog.open(
+                directory.resolve("wal"), WriteAheadLog.FsyncPolicy.INTERVAL, Duration.ofMillis(10), 1)) {
+            wal.recover(restarted, snapshot.version(), snapshotFile(), SEED.size());
+            assertThat(restarted.snapshot().employees())
+                    .containsExactlyElementsOf(store.snapshot().employees());
+        }
+    }
+
+    @Test
+    void whenDurable_CompletesConcurrentWritersSharingSyncs() throws IOException {
+        EmployeeStore store = seeded();
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        try (WriteAheadLog wal = start(store, WriteAheadLog.FsyncPolicy.ALWAYS, 4 << 20)) {
+            List<CompletableFuture<Void>> writes = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String name = "Concurrent " + i;
+                writes.add(CompletableFuture.runAsync(
+                        () -> {
+                            store.add(employee(name));
+                            wal.whenDurable(store.version()).join();
+                        },
+                        writers));
+            }
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+
+            WriteAheadLog.Stats stats = wal.stats();
+            assertThat(stats.frames()).isEqualTo(400);
+            assertThat(stats.durablePosition()).isEqualTo(SEED.size() + 400);
+            assertThat(stats.syncs()).isLessThanOrEqualTo(stats.batches());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenDurable_FailsOnceClosed() throws IOException {
+        EmployeeStore store = seeded();
+        WriteAheadLog wal = start(store, WriteAheadLog.FsyncPolicy.ALWAYS, 4 << 20);
+        wal.close();
+        store.add(employee("Too Late"));
+
+        assertThat(wal.whenDurable(store.version())).isCompletedExceptionally();
+    }
+
+    private WriteAheadLog start(EmployeeStore store, WriteAheadLog.FsyncPolicy fsync, long compactAfterBytes)
+            throws IOException {
+        WriteAheadLog wal =
+                WriteAheadLog.open(directory.resolve("wal"), fsync, Duration.ofMillis(10), compactAfterBytes);
+        wal.recover(store, SEED.size(), snapshotFile(), SEED.size());
+        return wal;
+    }
+
+    private static EmployeeStore seeded() {
+        EmployeeStore store = new EmployeeStore();
+        SEED.forEach(store::add);
+        return store;
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 40_000, 25, "Engineer", null);
+    }
+
+    private Path snapshotFile() {
+        return directory.resolve("roster.bin");
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("wal"))) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static long startOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring("wal-".length(), name.length() - ".log".length()));
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RequestLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(-5_000_000_000L);
+
+    @Test
+    void tryAcquire_AdmitsABurstUpToCapacity() {
+        RequestLimiter limiter = limiter(3, 1, false);
+
+        assertThat(limiter.tryAcquire(0)).isEqualTo(2);
+        assertThat(limiter.tryAcquire(0)).isEqualTo(1);
+        assertThat(limiter.tryAcquire(0)).isEqualTo(0);
+
+        long rejected = limiter.tryAcquire(0);
+        assertThat(RequestLimiter.isAdmitted(rejected)).isFalse();
+        assertThat(RequestLimiter.remaining(rejected)).isZero();
+        assertThat(-rejected).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(RequestLimiter.retryAfterSeconds(rejected)).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_RefillsWithTheClock() {
+        RequestLimiter limiter = limiter(2, 4, false);
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(0))).isFalse();
+
+        advance(Duration.ofMillis(250));
+        assertThat(limiter.tryAcquire(0)).isZero();
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(0))).isFalse();
+
+        advance(Duration.ofSeconds(10));
+        assertThat(limiter.tryAcquire(0)).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterSeconds_RoundsUp() {
+        RequestLimiter limiter = limiter(1, 0.4, false);
+        limiter.tryAcquire(0);
+        advance(Duration.ofMillis(100));
+
+        long rejected = limiter.tryAcquire(0);
+
+        assertThat(-rejected).isEqualTo(Duration.ofMillis(2400).toNanos());
+        assertThat(RequestLimiter.retryAfterSeconds(rejected)).isEqualTo(3);
+    }
+
+    @Test
+    void tryAcquire_PerClientBucketsAreIndependent() {
+        RequestLimiter limiter = limiter(1, 1, true);
+
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(1))).isTrue();
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(1))).isFalse();
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(2))).isTrue();
+    }
+
+    @Test
+    void tryAcquire_SharedBucketIgnoresTheClient() {
+        RequestLimiter limiter = limiter(1, 1, false);
+
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(1))).isTrue();
+        assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(2))).isFalse();
+    }
+
+    @Test
+    void tryAcquire_AdmitsEverythingWhenDisabled() {
+        RequestLimiter limiter = new RequestLimiter(false, 1, 1, false, 1, nanos::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(RequestLimiter.isAdmitted(limiter.tryAcquire(0))).isTrue();
+        }
+    }
+
+    @Test
+    void tryAcquire_NeverAdmitsMoreThanCapacityUnderContention() throws Exception {
+        RequestLimiter limiter = limiter(500, 1, false);
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < 1000; i++) {
+                        if (RequestLimiter.isAdmitted(limiter.tryAcquire(0))) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(admitted).hasValue(500);
+    }
+
+    @Test
+    void constructor_RejectsNonsensicalSettings() {
+        assertThatThrownBy(() -> limiter(0, 1, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter(1, 0, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RequestLimiter limiter(int capacity, double refillPerSecond, boolean perClient) {
+        return new RequestLimiter(true, capacity, refillPerSecond, perClient, 16, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
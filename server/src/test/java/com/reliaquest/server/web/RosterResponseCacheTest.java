@@ -0,0 +1,92 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class RosterResponseCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private EmployeeStore store;
+    private RosterResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        store = new EmployeeStore();
+        store.add(employee("Ada"));
+        cache = new RosterResponseCache(store, objectMapper);
+    }
+
+    @Test
+    void current_IsReusedUntilTheRosterChanges() {
+        RosterResponseCache.Encoded first = cache.current();
+
+        assertThat(cache.current()).isSameAs(first);
+
+        store.add(employee("Bob"));
+        RosterResponseCache.Encoded afterCreate = cache.current();
+        assertThat(afterCreate).isNotSameAs(first);
+        assertThat(afterCreate.etag()).isNotEqualTo(first.etag());
+
+        store.deleteByName("Bob");
+        assertThat(cache.current().etag()).isNotEqualTo(afterCreate.etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    void current_GzipHoldsTheSameJson() throws Exception {
+        RosterResponseCache.Encoded encoded = cache.current();
+
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(encoded.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(encoded.json());
+        }
+        assertThat(objectMapper
+                        .readTree(encoded.json())
+                        .at("/data/0/employee_name")
+                        .asText())
+                .isEqualTo("Ada");
+    }
+
+    @Test
+    void matches_ComparesWeaklyAndAcceptsListsAndWildcard() {
+        RosterResponseCache.Encoded encoded = cache.current();
+        String strong = encoded.etag().substring(2);
+
+        assertThat(encoded.matches(null)).isFalse();
+        assertThat(encoded.matches(encoded.etag())).isTrue();
+        assertThat(encoded.matches(strong)).isTrue();
+        assertThat(encoded.matches("\"other\", " + encoded.etag())).isTrue();
+        assertThat(encoded.matches("*")).isTrue();
+        assertThat(encoded.matches("W/\"other\"")).isFalse();
+    }
+
+    @Test
+    void acceptsGzip_HonoursQualityZero() {
+        assertThat(RosterResponseCache.acceptsGzip(null)).isFalse();
+        assertThat(RosterResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(RosterResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(RosterResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(RosterResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(RosterResponseCache.acceptsGzip("gzip;Q=0.000")).isFalse();
+        assertThat(RosterResponseCache.acceptsGzip("br, *")).isTrue();
+    }
+
+    @Test
+    void acceptsGzip_ExplicitEntryOverridesWildcard() {
+        assertThat(RosterResponseCache.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(RosterResponseCache.acceptsGzip("*;q=0, gzip")).isTrue();
+        assertThat(RosterResponseCache.acceptsGzip("*;q=0, br")).isFalse();
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 1000, 30, "Developer", name + "@c.com");
+    }
+}